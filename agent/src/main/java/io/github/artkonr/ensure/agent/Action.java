@@ -0,0 +1,27 @@
+package io.github.artkonr.ensure.agent;
+
+/**
+ * What the agent does with the {@code Ensure}
+ *  calls of the classes a {@link Rule} matches.
+ * @author artkonr@gmail.com
+ */
+public enum Action {
+
+  /**
+   * Leave the calls as they are.
+   */
+  KEEP,
+
+  /**
+   * Remove the calls; the arguments are still evaluated,
+   *  then discarded.
+   */
+  STRIP,
+
+  /**
+   * Apply each call once in a given number of executions,
+   *  picked at random.
+   */
+  SAMPLE
+
+}
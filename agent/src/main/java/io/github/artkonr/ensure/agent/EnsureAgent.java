@@ -0,0 +1,31 @@
+package io.github.artkonr.ensure.agent;
+
+import java.lang.instrument.Instrumentation;
+
+/**
+ * Entry point of the {@code -javaagent}, e.g.:
+ * <pre>
+ * java -javaagent:ensure-agent.jar=strip=com.acme.internal;sample=com.acme.repo:100 ...
+ * </pre>
+ *  See {@link Rules} for the argument syntax and {@link
+ *  EnsureTransformer} for how calls are rewritten. Classes
+ *  loaded before the agent starts are left as they are.
+ * @author artkonr@gmail.com
+ */
+public final class EnsureAgent {
+
+  /**
+   * Installs the {@link EnsureTransformer}.
+   * @param args agent arguments
+   * @param instrumentation instrumentation of the JVM
+   * @throws IllegalArgumentException if {@code args} are malformed
+   */
+  public static void premain(String args, Instrumentation instrumentation) {
+    Rules rules = Rules.parse(args);
+    if (!rules.isEmpty())
+      instrumentation.addTransformer(new EnsureTransformer(rules));
+  }
+
+  private EnsureAgent() { }
+
+}
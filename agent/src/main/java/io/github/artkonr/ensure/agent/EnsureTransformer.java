@@ -0,0 +1,120 @@
+package io.github.artkonr.ensure.agent;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+
+/**
+ * Rewrites the {@code Ensure} checks of the classes covered by
+ *  {@link Rules} as they are loaded.
+ * <p>Only calls of {@code void} methods are rewritten, i.e. the
+ *  checks proper; conversions such as {@code isValidUrl} are
+ *  kept. A stripped call is replaced by instructions popping its
+ *  arguments, and a sampled call by an {@code invokedynamic}
+ *  linked by {@link Sampling}; either way the operand stack is
+ *  the same after the call, so the stack map frames of the class
+ *  stay valid and are copied as they are. Classes older than Java 7
+ *  cannot use {@code invokedynamic} and keep their sampled calls.
+ * <p>Classes of the library itself are never rewritten, so that
+ *  its own invariants hold.
+ * @author artkonr@gmail.com
+ */
+public final class EnsureTransformer implements ClassFileTransformer {
+
+  private static final String LIBRARY = "io/github/artkonr/ensure/";
+
+  private static final Handle BOOTSTRAP = new Handle(Opcodes.H_INVOKESTATIC,
+          Type.getInternalName(Sampling.class), "bootstrap",
+          "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/invoke/MethodType;I)"
+                  + "Ljava/lang/invoke/CallSite;", false);
+
+  private final Rules rules;
+
+  /**
+   * Creates a new transformer.
+   * @param rules applied rules
+   */
+  public EnsureTransformer(Rules rules) {
+    if (rules == null)
+      throw new IllegalArgumentException("rules");
+    this.rules = rules;
+  }
+
+  @Override
+  public byte[] transform(ClassLoader loader, String className, Class<?> redefined,
+                          ProtectionDomain domain, byte[] bytes) {
+    if (className == null || className.startsWith(LIBRARY))
+      return null;
+    Rule rule = rules.match(className.replace('/', '.'));
+    if (rule == null || rule.action() == Action.KEEP)
+      return null;
+    try {
+      return rewrite(bytes, rule);
+    } catch (RuntimeException x) {
+      // never fail class loading over an optimisation
+      System.err.println("[ensure-agent] Failed to rewrite " + className + ": " + x);
+      return null;
+    }
+  }
+
+  private static byte[] rewrite(byte[] bytes, Rule rule) {
+    ClassReader reader = new ClassReader(bytes);
+    ClassWriter writer = new ClassWriter(reader, 0);
+    Rewriter rewriter = new Rewriter(writer, rule);
+    reader.accept(rewriter, 0);
+    return rewriter.changed ? writer.toByteArray() : null;
+  }
+
+  private static final class Rewriter extends ClassVisitor {
+
+    private final Rule rule;
+    private boolean indy;
+    private boolean changed;
+
+    private Rewriter(ClassVisitor next, Rule rule) {
+      super(Opcodes.ASM9, next);
+      this.rule = rule;
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature,
+                      String superName, String[] interfaces) {
+      indy = (version & 0xFFFF) >= Opcodes.V1_7;
+      super.visit(version, access, name, signature, superName, interfaces);
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor,
+                                     String signature, String[] exceptions) {
+      MethodVisitor next = super.visitMethod(access, name, descriptor, signature, exceptions);
+      return new MethodVisitor(Opcodes.ASM9, next) {
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String method, String desc, boolean itf) {
+          if (opcode != Opcodes.INVOKESTATIC || !Sampling.ENSURE.equals(owner)
+                  || Type.getReturnType(desc) != Type.VOID_TYPE) {
+            super.visitMethodInsn(opcode, owner, method, desc, itf);
+          } else if (rule.action() == Action.STRIP) {
+            Type[] args = Type.getArgumentTypes(desc);
+            for (int i = args.length - 1; i >= 0; i--)
+              super.visitInsn(args[i].getSize() == 2 ? Opcodes.POP2 : Opcodes.POP);
+            changed = true;
+          } else if (indy) {
+            super.visitInvokeDynamicInsn(method, desc, BOOTSTRAP, rule.period());
+            changed = true;
+          } else {
+            super.visitMethodInsn(opcode, owner, method, desc, itf);
+          }
+        }
+      };
+    }
+
+  }
+
+}
@@ -0,0 +1,71 @@
+package io.github.artkonr.ensure.agent;
+
+/**
+ * Applies an {@link Action} to the classes of a package
+ *  or to a class, including its subpackages or nested classes.
+ * @author artkonr@gmail.com
+ */
+final class Rule {
+
+  private final String prefix;
+  private final Action action;
+  private final int period;
+
+  /**
+   * Creates a new rule.
+   * @param prefix name of the package or class, dot-separated
+   * @param action applied action
+   * @param period for {@link Action#SAMPLE}, one in how many
+   *               executions applies the check; ignored otherwise
+   */
+  Rule(String prefix, Action action, int period) {
+    this.prefix = prefix;
+    this.action = action;
+    this.period = period;
+  }
+
+  /**
+   * Returns the matched package or class name.
+   * @return dot-separated name
+   */
+  String prefix() {
+    return prefix;
+  }
+
+  /**
+   * Returns the applied action.
+   * @return action
+   */
+  Action action() {
+    return action;
+  }
+
+  /**
+   * Returns the sampling period.
+   * @return one in how many executions applies the check
+   */
+  int period() {
+    return period;
+  }
+
+  /**
+   * Checks if this rule covers the provided class.
+   * @param className dot-separated binary class name
+   * @return {@code true} if the class is {@link Rule#prefix()},
+   *         nested in it or in its package or subpackages
+   */
+  boolean matches(String className) {
+    if (!className.startsWith(prefix))
+      return false;
+    if (className.length() == prefix.length())
+      return true;
+    char next = className.charAt(prefix.length());
+    return next == '.' || next == '$';
+  }
+
+  @Override
+  public String toString() {
+    return prefix + '=' + (action == Action.SAMPLE ? action + ":" + period : action.toString());
+  }
+
+}
@@ -0,0 +1,110 @@
+package io.github.artkonr.ensure.agent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The set of {@link Rule}s the agent applies; the most
+ *  specific, i.e. longest, matching rule wins. Immutable.
+ * <p>Parsed from the agent arguments: semicolon-separated
+ *  actions, each with comma-separated package or class names:
+ * <pre>
+ * strip=com.acme.internal,com.acme.util;sample=com.acme.repo:100;keep=com.acme.internal.edge
+ * </pre>
+ *  A {@code sample} name ends with {@code :N}: the check
+ *  is applied once in {@code N} executions on average.
+ * @author artkonr@gmail.com
+ */
+public final class Rules {
+
+  private static final Comparator<Rule> MOST_SPECIFIC =
+          Comparator.comparingInt((Rule rule) -> rule.prefix().length()).reversed();
+
+  private final List<Rule> rules;
+
+  private Rules(List<Rule> rules) {
+    rules.sort(MOST_SPECIFIC);
+    this.rules = List.copyOf(rules);
+  }
+
+  /**
+   * Parses agent arguments.
+   * @param args agent arguments; {@code null} or blank for no rules
+   * @return parsed rules
+   * @throws IllegalArgumentException if {@code args} are malformed
+   */
+  public static Rules parse(String args) {
+    List<Rule> rules = new ArrayList<>();
+    if (args == null || args.isBlank())
+      return new Rules(rules);
+    for (String group : args.split(";")) {
+      if (group.isBlank())
+        continue;
+      int eq = group.indexOf('=');
+      if (eq < 0)
+        throw new IllegalArgumentException("Missing '=' in agent rule: " + group);
+      Action action = action(group.substring(0, eq).trim());
+      for (String name : group.substring(eq + 1).split(",")) {
+        name = name.trim();
+        int period = 1;
+        if (action == Action.SAMPLE) {
+          int colon = name.lastIndexOf(':');
+          if (colon < 0)
+            throw new IllegalArgumentException("Missing ':N' in sampled name: " + name);
+          period = period(name.substring(colon + 1));
+          name = name.substring(0, colon).trim();
+        }
+        if (name.isEmpty())
+          throw new IllegalArgumentException("Empty name in agent rule: " + group);
+        rules.add(new Rule(name, action, period));
+      }
+    }
+    return new Rules(rules);
+  }
+
+  /**
+   * Returns the most specific rule covering the provided class.
+   * @param className dot-separated binary class name
+   * @return matching rule or {@code null} if there is none
+   */
+  Rule match(String className) {
+    for (Rule rule : rules)
+      if (rule.matches(className))
+        return rule;
+    return null;
+  }
+
+  /**
+   * Checks if there are no rules.
+   * @return {@code true} if no class is rewritten
+   */
+  boolean isEmpty() {
+    return rules.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return rules.toString();
+  }
+
+  private static Action action(String name) {
+    try {
+      return Action.valueOf(name.toUpperCase());
+    } catch (IllegalArgumentException x) {
+      throw new IllegalArgumentException("Unknown agent action: " + name, x);
+    }
+  }
+
+  private static int period(String value) {
+    try {
+      int period = Integer.parseInt(value.trim());
+      if (period > 0)
+        return period;
+    } catch (NumberFormatException x) {
+      // reported below
+    }
+    throw new IllegalArgumentException("Sampling period must be a positive int: " + value);
+  }
+
+}
@@ -0,0 +1,60 @@
+package io.github.artkonr.ensure.agent;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Bootstrap of the {@code invokedynamic} call sites that
+ *  replace sampled {@code Ensure} calls. Non-instantiable.
+ * <p>Each call site is linked once, to a guard that applies
+ *  the original check once in {@code period} executions on
+ *  average and otherwise discards the arguments.
+ * @author artkonr@gmail.com
+ */
+public final class Sampling {
+
+  /** Internal name of the checks class. */
+  static final String ENSURE = "io/github/artkonr/ensure/Ensure";
+
+  private static final MethodHandle SAMPLED;
+
+  static {
+    try {
+      SAMPLED = MethodHandles.lookup().findStatic(Sampling.class, "sampled",
+              MethodType.methodType(boolean.class, int.class));
+    } catch (ReflectiveOperationException x) {
+      throw new ExceptionInInitializerError(x);
+    }
+  }
+
+  /**
+   * Links a sampled check.
+   * @param caller lookup of the rewritten class
+   * @param name name of the {@code Ensure} method
+   * @param type type of the {@code Ensure} method
+   * @param period one in how many executions applies the check
+   * @return call site of the sampled check
+   * @throws ReflectiveOperationException if the check cannot be found
+   */
+  public static CallSite bootstrap(MethodHandles.Lookup caller, String name, MethodType type, int period)
+          throws ReflectiveOperationException {
+    Class<?> ensure = caller.findClass(ENSURE.replace('/', '.'));
+    MethodHandle check = caller.findStatic(ensure, name, type);
+    if (period == 1)
+      return new ConstantCallSite(check);
+    MethodHandle test = MethodHandles.dropArguments(MethodHandles.insertArguments(SAMPLED, 0, period),
+            0, type.parameterList());
+    return new ConstantCallSite(MethodHandles.guardWithTest(test, check, MethodHandles.empty(type)));
+  }
+
+  private static boolean sampled(int period) {
+    return ThreadLocalRandom.current().nextInt(period) == 0;
+  }
+
+  private Sampling() { }
+
+}
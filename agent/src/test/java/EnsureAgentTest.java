@@ -0,0 +1,128 @@
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.agent.EnsureTransformer;
+import io.github.artkonr.ensure.agent.Rules;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+
+public class EnsureAgentTest {
+
+  private static final String FIXTURE = Fixture.class.getName();
+
+  @Test
+  void strip_removesChecks() throws Throwable {
+    Class<?> fixture = load("strip=" + EnsureAgentTest.class.getName());
+    invoke(fixture, "notNull", (Object) null);
+    invoke(fixture, "positive", 0L, -1.0, 0);
+    Assertions.assertEquals(3, invoke(fixture, "counted", 0));
+  }
+
+  @Test
+  void strip_keepsConversions() throws Throwable {
+    Class<?> fixture = load("strip=" + EnsureAgentTest.class.getName());
+    Assertions.assertEquals(URI.create("https://x.io"), invoke(fixture, "url", "https://x.io"));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> invoke(fixture, "url", " "));
+  }
+
+  @Test
+  void sample_everyExecution_checks() throws Throwable {
+    Class<?> fixture = load("sample=" + FIXTURE + ":1");
+    Assertions.assertThrows(IllegalArgumentException.class, () -> invoke(fixture, "notNull", (Object) null));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> invoke(fixture, "positive", 1L, 1.0, 0));
+    invoke(fixture, "positive", 1L, 1.0, 1);
+  }
+
+  @Test
+  void sample_rarely_skipsChecks() throws Throwable {
+    Class<?> fixture = load("sample=" + FIXTURE + ":" + Integer.MAX_VALUE);
+    for (int i = 0; i < 1_000; i++)
+      invoke(fixture, "positive", 0L, 0.0, 0);
+  }
+
+  @Test
+  void keep_overridesBroaderRule() throws Throwable {
+    byte[] bytes = bytes();
+    EnsureTransformer transformer = new EnsureTransformer(
+            Rules.parse("strip=" + EnsureAgentTest.class.getName() + ";keep=" + FIXTURE));
+    Assertions.assertNull(transformer.transform(null, FIXTURE.replace('.', '/'), null, null, bytes));
+    Assertions.assertNull(new EnsureTransformer(Rules.parse("strip=com.acme"))
+            .transform(null, FIXTURE.replace('.', '/'), null, null, bytes));
+  }
+
+  @Test
+  void malformedArgs_throw() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Rules.parse("strip"));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Rules.parse("drop=com.acme"));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Rules.parse("sample=com.acme"));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Rules.parse("sample=com.acme:0"));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Rules.parse("strip=a,,b"));
+  }
+
+  private static Class<?> load(String args) throws Exception {
+    byte[] rewritten = new EnsureTransformer(Rules.parse(args))
+            .transform(null, FIXTURE.replace('.', '/'), null, null, bytes());
+    Assertions.assertNotNull(rewritten);
+    return new ClassLoader(EnsureAgentTest.class.getClassLoader()) {
+      @Override
+      protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!name.equals(FIXTURE))
+          return super.loadClass(name, resolve);
+        synchronized (getClassLoadingLock(name)) {
+          Class<?> loaded = findLoadedClass(name);
+          return loaded != null ? loaded : defineClass(name, rewritten, 0, rewritten.length);
+        }
+      }
+    }.loadClass(FIXTURE);
+  }
+
+  private static byte[] bytes() throws IOException {
+    String resource = FIXTURE.replace('.', '/') + ".class";
+    try (InputStream in = EnsureAgentTest.class.getClassLoader().getResourceAsStream(resource)) {
+      return in.readAllBytes();
+    }
+  }
+
+  private static Object invoke(Class<?> fixture, String name, Object... args) throws Throwable {
+    for (Method method : fixture.getMethods()) {
+      if (method.getName().equals(name)) {
+        try {
+          return method.invoke(null, args);
+        } catch (InvocationTargetException x) {
+          throw x.getCause();
+        }
+      }
+    }
+    throw new NoSuchMethodException(name);
+  }
+
+  public static final class Fixture {
+
+    public static void notNull(Object val) {
+      Ensure.notNull(val, "val");
+    }
+
+    public static void positive(long count, double ratio, int size) {
+      Ensure.isPositive(count, "count");
+      Ensure.isPositive(ratio, "ratio");
+      Ensure.arePositive(size, size);
+    }
+
+    public static int counted(int calls) {
+      Ensure.notNull(calls++);
+      Ensure.isNonNegative(calls++);
+      Ensure.neitherNull(calls++, null);
+      return calls;
+    }
+
+    public static URI url(String val) {
+      return Ensure.isValidUrl(val, "val");
+    }
+
+  }
+
+}
@@ -0,0 +1,83 @@
+package io.github.artkonr.ensure.benchmarks;
+
+import io.github.artkonr.ensure.Ensure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk array checks: {@code allPositive} and {@code allFinite},
+ *  against a plain loop. The Vector API path is only taken when
+ *  the forked JVM has {@code jdk.incubator.vector}; the
+ *  {@code _scalar} variants fork without it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ArraysBenchmark {
+
+  @Param({"16", "1024", "65536"})
+  int size;
+
+  int[] ints;
+  double[] doubles;
+
+  @Setup
+  public void setUp() {
+    ints = new int[size];
+    Arrays.fill(ints, 42);
+    doubles = new double[size];
+    Arrays.fill(doubles, 42.0d);
+  }
+
+  @Benchmark
+  public void allPositive_int_ok() {
+    Ensure.allPositive(ints, "arg");
+  }
+
+  @Benchmark
+  @Fork(1)
+  public void allPositive_int_ok_scalar() {
+    Ensure.allPositive(ints, "arg");
+  }
+
+  @Benchmark
+  public void allPositive_int_loop() {
+    for (int i = 0; i < ints.length; i++)
+      if (ints[i] < 1)
+        throw new IllegalArgumentException("arg[" + i + "] is not positive");
+  }
+
+  @Benchmark
+  public void allFinite_double_ok() {
+    Ensure.allFinite(doubles, "arg");
+  }
+
+  @Benchmark
+  @Fork(1)
+  public void allFinite_double_ok_scalar() {
+    Ensure.allFinite(doubles, "arg");
+  }
+
+  @Benchmark
+  public void allFinite_double_loop() {
+    for (int i = 0; i < doubles.length; i++)
+      if (!Double.isFinite(doubles[i]))
+        throw new IllegalArgumentException("arg[" + i + "] is not finite");
+  }
+
+}
@@ -0,0 +1,178 @@
+package io.github.artkonr.ensure.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand-written equivalents of the {@code Ensure} checks; compare
+ *  with the matching methods of the other benchmarks to see what
+ *  the library costs on top of a plain {@code if}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaselineBenchmark {
+
+  @Param({"16", "1024", "65536"})
+  int size;
+
+  Object present = new Object();
+  Object absent = null;
+  String text = "  some-value";
+  String blank = "   ";
+  int goodInt = 42;
+  int lowInt = 0;
+  String url = "https://example.com:8443/api/v1/orders?page=2#top";
+  String notUrl = "'5$% t";
+
+  List<Object> list;
+  List<Object> listWithNull;
+
+  @Setup
+  public void setUp() {
+    list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++)
+      list.add(i);
+    listWithNull = new ArrayList<>(list);
+    listWithNull.set(size - 1, null);
+  }
+
+  // Objects.requireNonNull
+
+  @Benchmark
+  public Object requireNonNull_ok() {
+    return Objects.requireNonNull(present);
+  }
+
+  @Benchmark
+  public Object requireNonNull_fail() {
+    try {
+      return Objects.requireNonNull(absent);
+    } catch (NullPointerException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public Object requireNonNull_named_ok() {
+    return Objects.requireNonNull(present, "arg");
+  }
+
+  @Benchmark
+  public Object requireNonNull_named_fail() {
+    try {
+      return Objects.requireNonNull(absent, "arg");
+    } catch (NullPointerException x) {
+      return x;
+    }
+  }
+
+  // hand-written checks
+
+  @Benchmark
+  public void notNull_ok() {
+    if (present == null)
+      throw new IllegalArgumentException("arg is null");
+  }
+
+  @Benchmark
+  public Object notNull_fail() {
+    try {
+      if (absent == null)
+        throw new IllegalArgumentException("arg is null");
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void notBlank_ok() {
+    if (text == null || text.isBlank())
+      throw new IllegalArgumentException("arg is blank");
+  }
+
+  @Benchmark
+  public Object notBlank_fail() {
+    try {
+      if (blank == null || blank.isBlank())
+        throw new IllegalArgumentException("arg is blank");
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isPositive_ok() {
+    if (goodInt < 1)
+      throw new IllegalArgumentException("arg is not positive: " + goodInt);
+  }
+
+  @Benchmark
+  public Object isPositive_fail() {
+    try {
+      if (lowInt < 1)
+        throw new IllegalArgumentException("arg is not positive: " + lowInt);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void deepNotEmpty_ok() {
+    if (list == null || list.isEmpty())
+      throw new IllegalArgumentException("arg is empty");
+    for (Object o : list)
+      if (o == null)
+        throw new IllegalArgumentException("arg has nulls");
+  }
+
+  @Benchmark
+  public Object deepNotEmpty_fail() {
+    try {
+      if (listWithNull == null || listWithNull.isEmpty())
+        throw new IllegalArgumentException("arg is empty");
+      for (Object o : listWithNull)
+        if (o == null)
+          throw new IllegalArgumentException("arg has nulls");
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public Object uriCreate_ok() {
+    return URI.create(url);
+  }
+
+  @Benchmark
+  public Object uriCreate_fail() {
+    try {
+      return URI.create(notUrl);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+}
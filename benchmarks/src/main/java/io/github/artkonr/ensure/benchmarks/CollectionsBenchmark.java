@@ -0,0 +1,263 @@
+package io.github.artkonr.ensure.benchmarks;
+
+import io.github.artkonr.ensure.Ensure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * {@link Collection}, {@link Iterable} and {@link Map} checks:
+ *  {@code notEmpty} and {@code deepNotEmpty}. The deep checks are
+ *  measured for several sizes; failing inputs hold their {@code null}
+ *  at the very end, so the failure path includes a full scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionsBenchmark {
+
+  private static final String ARG_NAME = "arg";
+
+
+  @Param({"16", "1024", "65536"})
+  int size;
+
+  Collection<Object> list;
+  Collection<Object> emptyList;
+  Collection<Object> listWithNull;
+  Iterable<Object> iterable;
+  Iterable<Object> emptyIterable;
+  Iterable<Object> iterableWithNull;
+  Map<Object, Object> map;
+  Map<Object, Object> emptyMap;
+  Map<Object, Object> mapWithNullKey;
+
+  @Setup
+  public void setUp() {
+    List<Object> full = new ArrayList<>(size);
+    for (int i = 0; i < size; i++)
+      full.add(i);
+    List<Object> holey = new ArrayList<>(full);
+    holey.set(size - 1, null);
+
+    list = full;
+    emptyList = new ArrayList<>();
+    listWithNull = holey;
+    iterable = full::iterator;
+    emptyIterable = emptyList::iterator;
+    iterableWithNull = holey::iterator;
+
+    map = new LinkedHashMap<>();
+    for (Object o : full)
+      map.put(o, o);
+    emptyMap = new HashMap<>();
+    mapWithNullKey = new LinkedHashMap<>(map);
+    mapWithNullKey.put(null, size);
+  }
+
+  // collection
+
+  @Benchmark
+  public void notEmpty_collection_ok() {
+    Ensure.notEmpty(list);
+  }
+
+  @Benchmark
+  public Object notEmpty_collection_fail() {
+    try {
+      Ensure.notEmpty(emptyList);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void notEmpty_collection_named_ok() {
+    Ensure.notEmpty(list, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object notEmpty_collection_named_fail() {
+    try {
+      Ensure.notEmpty(emptyList, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void deepNotEmpty_collection_ok() {
+    Ensure.deepNotEmpty(list);
+  }
+
+  @Benchmark
+  public Object deepNotEmpty_collection_fail() {
+    try {
+      Ensure.deepNotEmpty(listWithNull);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void deepNotEmpty_collection_named_ok() {
+    Ensure.deepNotEmpty(list, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object deepNotEmpty_collection_named_fail() {
+    try {
+      Ensure.deepNotEmpty(listWithNull, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  // iterable
+
+  @Benchmark
+  public void notEmpty_iterable_ok() {
+    Ensure.notEmpty(iterable);
+  }
+
+  @Benchmark
+  public Object notEmpty_iterable_fail() {
+    try {
+      Ensure.notEmpty(emptyIterable);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void notEmpty_iterable_named_ok() {
+    Ensure.notEmpty(iterable, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object notEmpty_iterable_named_fail() {
+    try {
+      Ensure.notEmpty(emptyIterable, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void deepNotEmpty_iterable_ok() {
+    Ensure.deepNotEmpty(iterable);
+  }
+
+  @Benchmark
+  public Object deepNotEmpty_iterable_fail() {
+    try {
+      Ensure.deepNotEmpty(iterableWithNull);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void deepNotEmpty_iterable_named_ok() {
+    Ensure.deepNotEmpty(iterable, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object deepNotEmpty_iterable_named_fail() {
+    try {
+      Ensure.deepNotEmpty(iterableWithNull, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  // map
+
+  @Benchmark
+  public void notEmpty_map_ok() {
+    Ensure.notEmpty(map);
+  }
+
+  @Benchmark
+  public Object notEmpty_map_fail() {
+    try {
+      Ensure.notEmpty(emptyMap);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void notEmpty_map_named_ok() {
+    Ensure.notEmpty(map, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object notEmpty_map_named_fail() {
+    try {
+      Ensure.notEmpty(emptyMap, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void deepNotEmpty_map_ok() {
+    Ensure.deepNotEmpty(map);
+  }
+
+  @Benchmark
+  public Object deepNotEmpty_map_fail() {
+    try {
+      Ensure.deepNotEmpty(mapWithNullKey);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void deepNotEmpty_map_named_ok() {
+    Ensure.deepNotEmpty(map, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object deepNotEmpty_map_named_fail() {
+    try {
+      Ensure.deepNotEmpty(mapWithNullKey, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+}
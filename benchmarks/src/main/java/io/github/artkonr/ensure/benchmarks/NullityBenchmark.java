@@ -0,0 +1,82 @@
+package io.github.artkonr.ensure.benchmarks;
+
+import io.github.artkonr.ensure.Ensure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Object checks: {@code notNull} and {@code neitherNull}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NullityBenchmark {
+
+  private static final String ARG_NAME = "arg";
+
+  Object present = new Object();
+  Object absent = null;
+
+  @Benchmark
+  public void notNull_ok() {
+    Ensure.notNull(present);
+  }
+
+  @Benchmark
+  public Object notNull_fail() {
+    try {
+      Ensure.notNull(absent);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void notNull_named_ok() {
+    Ensure.notNull(present, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object notNull_named_fail() {
+    try {
+      Ensure.notNull(absent, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void neitherNull_ok() {
+    Ensure.neitherNull(present, present, present);
+  }
+
+  @Benchmark
+  public void neitherNull_varargs_ok() {
+    Ensure.neitherNull(present, new Object[] {present, present});
+  }
+
+  @Benchmark
+  public Object neitherNull_fail() {
+    try {
+      Ensure.neitherNull(present, present, absent);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+}
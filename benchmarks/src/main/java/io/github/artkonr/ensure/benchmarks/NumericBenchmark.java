@@ -0,0 +1,512 @@
+package io.github.artkonr.ensure.benchmarks;
+
+import io.github.artkonr.ensure.Ensure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Numeric checks: {@code isPositive}, {@code isNonNegative},
+ *  {@code arePositive} and {@code areNonNegative} for every
+ *  primitive family, on both happy and failure paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumericBenchmark {
+
+  private static final String ARG_NAME = "arg";
+
+  int goodInt = 42;
+  int lowInt = 0;
+  int negativeInt = -1;
+  long goodLong = 42L;
+  long lowLong = 0L;
+  long negativeLong = -1L;
+  double goodDouble = 42.0d;
+  double lowDouble = 0.5d;
+  double negativeDouble = -1.0d;
+  float goodFloat = 42.0f;
+  float lowFloat = 0.5f;
+  float negativeFloat = -1.0f;
+  short goodShort = (short) 42;
+  short lowShort = (short) 0;
+  short negativeShort = (short) -1;
+
+  // int
+
+  @Benchmark
+  public void isPositive_int_ok() {
+    Ensure.isPositive(goodInt);
+  }
+
+  @Benchmark
+  public Object isPositive_int_fail() {
+    try {
+      Ensure.isPositive(lowInt);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isPositive_int_named_ok() {
+    Ensure.isPositive(goodInt, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object isPositive_int_named_fail() {
+    try {
+      Ensure.isPositive(lowInt, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isNonNegative_int_ok() {
+    Ensure.isNonNegative(lowInt);
+  }
+
+  @Benchmark
+  public Object isNonNegative_int_fail() {
+    try {
+      Ensure.isNonNegative(negativeInt);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isNonNegative_int_named_ok() {
+    Ensure.isNonNegative(lowInt, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object isNonNegative_int_named_fail() {
+    try {
+      Ensure.isNonNegative(negativeInt, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void arePositive_int_ok() {
+    Ensure.arePositive(goodInt, goodInt, goodInt);
+  }
+
+  @Benchmark
+  public Object arePositive_int_fail() {
+    try {
+      Ensure.arePositive(goodInt, goodInt, lowInt);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void arePositive_int_varargs_ok() {
+    Ensure.arePositive(goodInt, new int[] {goodInt, goodInt});
+  }
+
+  @Benchmark
+  public void areNonNegative_int_ok() {
+    Ensure.areNonNegative(goodInt, lowInt, goodInt);
+  }
+
+  @Benchmark
+  public Object areNonNegative_int_fail() {
+    try {
+      Ensure.areNonNegative(goodInt, lowInt, negativeInt);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  // long
+
+  @Benchmark
+  public void isPositive_long_ok() {
+    Ensure.isPositive(goodLong);
+  }
+
+  @Benchmark
+  public Object isPositive_long_fail() {
+    try {
+      Ensure.isPositive(lowLong);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isPositive_long_named_ok() {
+    Ensure.isPositive(goodLong, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object isPositive_long_named_fail() {
+    try {
+      Ensure.isPositive(lowLong, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isNonNegative_long_ok() {
+    Ensure.isNonNegative(lowLong);
+  }
+
+  @Benchmark
+  public Object isNonNegative_long_fail() {
+    try {
+      Ensure.isNonNegative(negativeLong);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isNonNegative_long_named_ok() {
+    Ensure.isNonNegative(lowLong, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object isNonNegative_long_named_fail() {
+    try {
+      Ensure.isNonNegative(negativeLong, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void arePositive_long_ok() {
+    Ensure.arePositive(goodLong, goodLong, goodLong);
+  }
+
+  @Benchmark
+  public Object arePositive_long_fail() {
+    try {
+      Ensure.arePositive(goodLong, goodLong, lowLong);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void areNonNegative_long_ok() {
+    Ensure.areNonNegative(goodLong, lowLong, goodLong);
+  }
+
+  @Benchmark
+  public Object areNonNegative_long_fail() {
+    try {
+      Ensure.areNonNegative(goodLong, lowLong, negativeLong);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  // double
+
+  @Benchmark
+  public void isPositive_double_ok() {
+    Ensure.isPositive(goodDouble);
+  }
+
+  @Benchmark
+  public Object isPositive_double_fail() {
+    try {
+      Ensure.isPositive(lowDouble);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isPositive_double_named_ok() {
+    Ensure.isPositive(goodDouble, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object isPositive_double_named_fail() {
+    try {
+      Ensure.isPositive(lowDouble, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isNonNegative_double_ok() {
+    Ensure.isNonNegative(lowDouble);
+  }
+
+  @Benchmark
+  public Object isNonNegative_double_fail() {
+    try {
+      Ensure.isNonNegative(negativeDouble);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isNonNegative_double_named_ok() {
+    Ensure.isNonNegative(lowDouble, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object isNonNegative_double_named_fail() {
+    try {
+      Ensure.isNonNegative(negativeDouble, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void arePositive_double_ok() {
+    Ensure.arePositive(goodDouble, goodDouble, goodDouble);
+  }
+
+  @Benchmark
+  public Object arePositive_double_fail() {
+    try {
+      Ensure.arePositive(goodDouble, goodDouble, lowDouble);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void areNonNegative_double_ok() {
+    Ensure.areNonNegative(goodDouble, lowDouble, goodDouble);
+  }
+
+  @Benchmark
+  public Object areNonNegative_double_fail() {
+    try {
+      Ensure.areNonNegative(goodDouble, lowDouble, negativeDouble);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  // float
+
+  @Benchmark
+  public void isPositive_float_ok() {
+    Ensure.isPositive(goodFloat);
+  }
+
+  @Benchmark
+  public Object isPositive_float_fail() {
+    try {
+      Ensure.isPositive(lowFloat);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isPositive_float_named_ok() {
+    Ensure.isPositive(goodFloat, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object isPositive_float_named_fail() {
+    try {
+      Ensure.isPositive(lowFloat, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isNonNegative_float_ok() {
+    Ensure.isNonNegative(lowFloat);
+  }
+
+  @Benchmark
+  public Object isNonNegative_float_fail() {
+    try {
+      Ensure.isNonNegative(negativeFloat);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isNonNegative_float_named_ok() {
+    Ensure.isNonNegative(lowFloat, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object isNonNegative_float_named_fail() {
+    try {
+      Ensure.isNonNegative(negativeFloat, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void arePositive_float_ok() {
+    Ensure.arePositive(goodFloat, goodFloat, goodFloat);
+  }
+
+  @Benchmark
+  public Object arePositive_float_fail() {
+    try {
+      Ensure.arePositive(goodFloat, goodFloat, lowFloat);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void areNonNegative_float_ok() {
+    Ensure.areNonNegative(goodFloat, lowFloat, goodFloat);
+  }
+
+  @Benchmark
+  public Object areNonNegative_float_fail() {
+    try {
+      Ensure.areNonNegative(goodFloat, lowFloat, negativeFloat);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  // short
+
+  @Benchmark
+  public void isPositive_short_ok() {
+    Ensure.isPositive(goodShort);
+  }
+
+  @Benchmark
+  public Object isPositive_short_fail() {
+    try {
+      Ensure.isPositive(lowShort);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isPositive_short_named_ok() {
+    Ensure.isPositive(goodShort, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object isPositive_short_named_fail() {
+    try {
+      Ensure.isPositive(lowShort, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isNonNegative_short_ok() {
+    Ensure.isNonNegative(lowShort);
+  }
+
+  @Benchmark
+  public Object isNonNegative_short_fail() {
+    try {
+      Ensure.isNonNegative(negativeShort);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isNonNegative_short_named_ok() {
+    Ensure.isNonNegative(lowShort, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object isNonNegative_short_named_fail() {
+    try {
+      Ensure.isNonNegative(negativeShort, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void arePositive_short_ok() {
+    Ensure.arePositive(goodShort, goodShort, goodShort);
+  }
+
+  @Benchmark
+  public Object arePositive_short_fail() {
+    try {
+      Ensure.arePositive(goodShort, goodShort, lowShort);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void areNonNegative_short_ok() {
+    Ensure.areNonNegative(goodShort, lowShort, goodShort);
+  }
+
+  @Benchmark
+  public Object areNonNegative_short_fail() {
+    try {
+      Ensure.areNonNegative(goodShort, lowShort, negativeShort);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+}
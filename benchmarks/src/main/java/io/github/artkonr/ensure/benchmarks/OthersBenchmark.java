@@ -0,0 +1,121 @@
+package io.github.artkonr.ensure.benchmarks;
+
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.UrlSyntax;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assorted checks: {@code isValidUrl}, {@link UrlSyntax},
+ *  {@code isHttpStatus} and {@code areHttpStatuses}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OthersBenchmark {
+
+  private static final String ARG_NAME = "arg";
+
+  String url = "https://example.com:8443/api/v1/orders?page=2#top";
+  String notUrl = "'5$% t";
+  int status = 404;
+  int notStatus = 700;
+
+  @Benchmark
+  public Object isValidUrl_ok() {
+    return Ensure.isValidUrl(url);
+  }
+
+  @Benchmark
+  public Object isValidUrl_fail() {
+    try {
+      Ensure.isValidUrl(notUrl);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public Object isValidUrl_named_ok() {
+    return Ensure.isValidUrl(url, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object isValidUrl_named_fail() {
+    try {
+      Ensure.isValidUrl(notUrl, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public int urlSyntax_ok() {
+    return UrlSyntax.HTTP.check(url);
+  }
+
+  @Benchmark
+  public int urlSyntax_fail() {
+    return UrlSyntax.HTTP.check(notUrl);
+  }
+
+  @Benchmark
+  public void isHttpStatus_ok() {
+    Ensure.isHttpStatus(status);
+  }
+
+  @Benchmark
+  public Object isHttpStatus_fail() {
+    try {
+      Ensure.isHttpStatus(notStatus);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void isHttpStatus_named_ok() {
+    Ensure.isHttpStatus(status, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object isHttpStatus_named_fail() {
+    try {
+      Ensure.isHttpStatus(notStatus, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void areHttpStatuses_ok() {
+    Ensure.areHttpStatuses(status, status, status);
+  }
+
+  @Benchmark
+  public Object areHttpStatuses_fail() {
+    try {
+      Ensure.areHttpStatuses(status, status, notStatus);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+}
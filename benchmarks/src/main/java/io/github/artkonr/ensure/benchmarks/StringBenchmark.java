@@ -0,0 +1,124 @@
+package io.github.artkonr.ensure.benchmarks;
+
+import io.github.artkonr.ensure.Ensure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link String} checks: {@code notBlank}, {@code nullableNotBlank}
+ *  and their varargs counterparts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringBenchmark {
+
+  private static final String ARG_NAME = "arg";
+
+  String text = "  some-value";
+  String blank = "   ";
+  String absent = null;
+
+  @Benchmark
+  public void notBlank_ok() {
+    Ensure.notBlank(text);
+  }
+
+  @Benchmark
+  public Object notBlank_fail() {
+    try {
+      Ensure.notBlank(blank);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void notBlank_named_ok() {
+    Ensure.notBlank(text, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object notBlank_named_fail() {
+    try {
+      Ensure.notBlank(blank, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void nullableNotBlank_ok() {
+    Ensure.nullableNotBlank(absent);
+  }
+
+  @Benchmark
+  public Object nullableNotBlank_fail() {
+    try {
+      Ensure.nullableNotBlank(blank);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void nullableNotBlank_named_ok() {
+    Ensure.nullableNotBlank(text, ARG_NAME);
+  }
+
+  @Benchmark
+  public Object nullableNotBlank_named_fail() {
+    try {
+      Ensure.nullableNotBlank(blank, ARG_NAME);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void neitherBlank_ok() {
+    Ensure.neitherBlank(text, text, text);
+  }
+
+  @Benchmark
+  public Object neitherBlank_fail() {
+    try {
+      Ensure.neitherBlank(text, text, blank);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  @Benchmark
+  public void neitherNullableNotBlank_ok() {
+    Ensure.neitherNullableNotBlank(text, absent, text);
+  }
+
+  @Benchmark
+  public Object neitherNullableNotBlank_fail() {
+    try {
+      Ensure.neitherNullableNotBlank(text, absent, blank);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+}
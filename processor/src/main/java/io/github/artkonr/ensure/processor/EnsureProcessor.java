@@ -0,0 +1,244 @@
+package io.github.artkonr.ensure.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates {@code Ensure} checks from parameter annotations
+ *  at compile time.
+ * <p>For every class {@code Foo} with annotated parameters, a
+ *  package-private class {@code FooChecks} is generated in the
+ *  same package. It has a static method per annotated method,
+ *  of the same name and parameters (constructors map to {@code
+ *  init}), which applies the checks in the order the annotations
+ *  are declared, naming each argument after its parameter:
+ * <pre>{@code
+ * void place(@NotBlank String sku, @Positive int quantity) {
+ *   OrderServiceChecks.place(sku, quantity);
+ *   ...
+ * }
+ * }</pre>
+ * <p>The generated methods are plain {@code Ensure} calls: there
+ *  is no reflection, proxying or classpath scanning at runtime,
+ *  and the annotations are not retained in class files. Nested
+ *  classes map to {@code Outer_InnerChecks}.
+ * <p>An annotation on a parameter of an unsupported type is
+ *  reported as a compilation error.
+ * @author artkonr@gmail.com
+ */
+@SupportedAnnotationTypes("io.github.artkonr.ensure.processor.*")
+public final class EnsureProcessor extends AbstractProcessor {
+
+  private static final String ENSURE = "io.github.artkonr.ensure.Ensure";
+  private static final String PACKAGE = EnsureProcessor.class.getPackageName() + '.';
+  private static final String SUFFIX = "Checks";
+  private static final String INDENT = "  ";
+
+  private static final Set<TypeKind> NUMERIC = EnumSet.of(TypeKind.INT, TypeKind.LONG,
+          TypeKind.SHORT, TypeKind.DOUBLE, TypeKind.FLOAT);
+  private static final Set<TypeKind> NUMERIC_ARRAY = EnumSet.of(TypeKind.INT, TypeKind.LONG,
+          TypeKind.DOUBLE, TypeKind.FLOAT);
+
+  private final Set<String> generated = new HashSet<>();
+
+  private Elements elements;
+  private Types types;
+  private Filer filer;
+  private Messager messager;
+
+  @Override
+  public synchronized void init(ProcessingEnvironment env) {
+    super.init(env);
+    elements = env.getElementUtils();
+    types = env.getTypeUtils();
+    filer = env.getFiler();
+    messager = env.getMessager();
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+    Map<TypeElement, Set<ExecutableElement>> methods = new LinkedHashMap<>();
+    for (TypeElement annotation : annotations) {
+      for (Element param : round.getElementsAnnotatedWith(annotation)) {
+        if (param.getKind() != ElementKind.PARAMETER)
+          continue;
+        ExecutableElement method = (ExecutableElement) param.getEnclosingElement();
+        if (method.getEnclosingElement() instanceof TypeElement) {
+          TypeElement type = (TypeElement) method.getEnclosingElement();
+          methods.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(method);
+        }
+      }
+    }
+    methods.forEach(this::generate);
+    return true;
+  }
+
+  private void generate(TypeElement type, Set<ExecutableElement> annotated) {
+    String pkg = elements.getPackageOf(type).getQualifiedName().toString();
+    String name = checksName(type);
+    String qualified = pkg.isEmpty() ? name : pkg + '.' + name;
+    if (!generated.add(qualified))
+      return;
+
+    StringBuilder out = new StringBuilder();
+    if (!pkg.isEmpty())
+      out.append("package ").append(pkg).append(";\n\n");
+    out.append("@javax.annotation.processing.Generated(\"").append(EnsureProcessor.class.getName()).append("\")\n")
+            .append("final class ").append(name).append(" {\n");
+
+    boolean valid = true;
+    // keep declaration order, whatever the order of discovery
+    for (Element member : type.getEnclosedElements()) {
+      if (!annotated.contains(member))
+        continue;
+      List<String> checks = new ArrayList<>();
+      ExecutableElement method = (ExecutableElement) member;
+      for (VariableElement param : method.getParameters())
+        valid &= checks(param, checks);
+      appendMethod(out, method, checks);
+    }
+    out.append('\n').append(INDENT).append("private ").append(name).append("() { }\n\n}\n");
+    if (!valid)
+      return;
+
+    try (Writer writer = filer.createSourceFile(qualified, type).openWriter()) {
+      writer.write(out.toString());
+    } catch (IOException x) {
+      messager.printMessage(Diagnostic.Kind.ERROR, "Failed to generate " + qualified + ": " + x, type);
+    }
+  }
+
+  private void appendMethod(StringBuilder out, ExecutableElement method, List<String> checks) {
+    String name = method.getKind() == ElementKind.CONSTRUCTOR ? "init" : method.getSimpleName().toString();
+    out.append('\n').append(INDENT).append("static void ").append(name).append('(');
+    List<? extends VariableElement> params = method.getParameters();
+    for (int i = 0; i < params.size(); i++) {
+      if (i > 0)
+        out.append(", ");
+      out.append(types.erasure(params.get(i).asType())).append(' ').append(params.get(i).getSimpleName());
+    }
+    out.append(") {\n");
+    for (String check : checks)
+      out.append(INDENT).append(INDENT).append(check).append(";\n");
+    out.append(INDENT).append("}\n");
+  }
+
+  private boolean checks(VariableElement param, List<String> out) {
+    boolean valid = true;
+    for (AnnotationMirror mirror : param.getAnnotationMirrors()) {
+      String annotation = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+      if (!annotation.startsWith(PACKAGE))
+        continue;
+      String check = check(annotation.substring(PACKAGE.length()), param);
+      if (check == null) {
+        messager.printMessage(Diagnostic.Kind.ERROR, '@' + mirror.getAnnotationType().asElement()
+                .getSimpleName().toString() + " does not apply to " + param.asType(), param, mirror);
+        valid = false;
+      } else {
+        out.add(check);
+      }
+    }
+    return valid;
+  }
+
+  private String check(String annotation, VariableElement param) {
+    TypeMirror type = param.asType();
+    String name = param.getSimpleName().toString();
+    switch (annotation) {
+      case "NotNull":
+        return isReference(type) ? call("notNull", name, null) : null;
+      case "NotBlank":
+        return isString(type) ? call("notBlank", name, null) : null;
+      case "NullableNotBlank":
+        return isString(type) ? call("nullableNotBlank", name, null) : null;
+      case "Positive":
+        return numeric(type, "isPositive", "allPositive", name);
+      case "NonNegative":
+        return numeric(type, "isNonNegative", "allNonNegative", name);
+      case "HttpStatus":
+        return type.getKind() == TypeKind.INT ? call("isHttpStatus", name, null) : null;
+      case "NotEmpty":
+        return container(type, "notEmpty", name);
+      case "DeepNotEmpty":
+        return container(type, "deepNotEmpty", name);
+      default:
+        return null;
+    }
+  }
+
+  private String numeric(TypeMirror type, String scalar, String array, String name) {
+    if (NUMERIC.contains(type.getKind()))
+      return call(scalar, name, null);
+    if (type.getKind() == TypeKind.ARRAY
+            && NUMERIC_ARRAY.contains(((ArrayType) type).getComponentType().getKind()))
+      return call(array, name, null);
+    return null;
+  }
+
+  private String container(TypeMirror type, String method, String name) {
+    if (!isReference(type))
+      return null;
+    for (String container : new String[] {"java.util.Collection", "java.util.Map", "java.lang.Iterable"}) {
+      TypeMirror erased = types.erasure(elements.getTypeElement(container).asType());
+      if (types.isAssignable(types.erasure(type), erased)) {
+        String wildcards = container.endsWith("Map") ? "<?, ?>" : "<?>";
+        return call(method, name, container + wildcards);
+      }
+    }
+    return null;
+  }
+
+  private boolean isReference(TypeMirror type) {
+    return type.getKind() == TypeKind.DECLARED || type.getKind() == TypeKind.ARRAY
+            || type.getKind() == TypeKind.TYPEVAR;
+  }
+
+  private boolean isString(TypeMirror type) {
+    return types.isSameType(type, elements.getTypeElement(String.class.getName()).asType());
+  }
+
+  private static String call(String method, String name, String cast) {
+    String arg = cast == null ? name : '(' + cast + ") " + name;
+    return ENSURE + '.' + method + '(' + arg + ", \"" + name + "\")";
+  }
+
+  private static String checksName(TypeElement type) {
+    StringBuilder name = new StringBuilder(type.getSimpleName());
+    for (Element outer = type.getEnclosingElement(); outer instanceof TypeElement; outer = outer.getEnclosingElement())
+      name.insert(0, '_').insert(0, outer.getSimpleName());
+    return name.append(SUFFIX).toString();
+  }
+
+}
@@ -0,0 +1,20 @@
+package io.github.artkonr.ensure.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates an {@code Ensure.isNonNegative} check
+ *  of the annotated parameter; applies to {@code int}, {@code long}, {@code short},
+ *  {@code double} and {@code float}, or as {@code Ensure.allNonNegative}
+ *  to arrays of {@code int}, {@code long}, {@code double} and {@code float}.
+ * @see EnsureProcessor
+ * @author artkonr@gmail.com
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface NonNegative { }
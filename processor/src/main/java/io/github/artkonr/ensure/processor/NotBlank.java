@@ -0,0 +1,18 @@
+package io.github.artkonr.ensure.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates an {@code Ensure.notBlank} check
+ *  of the annotated parameter; applies to {@link String}s.
+ * @see EnsureProcessor
+ * @author artkonr@gmail.com
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface NotBlank { }
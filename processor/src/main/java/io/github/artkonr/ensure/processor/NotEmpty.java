@@ -0,0 +1,19 @@
+package io.github.artkonr.ensure.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates an {@code Ensure.notEmpty} check
+ *  of the annotated parameter; applies to
+ *  {@link java.util.Collection}s, {@link java.util.Map}s and {@link Iterable}s.
+ * @see EnsureProcessor
+ * @author artkonr@gmail.com
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface NotEmpty { }
@@ -0,0 +1,131 @@
+import io.github.artkonr.ensure.processor.EnsureProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class EnsureProcessorTest {
+
+  private static final String SERVICE = String.join("\n",
+          "package com.acme;",
+          "",
+          "import io.github.artkonr.ensure.processor.*;",
+          "import java.util.List;",
+          "import java.util.Map;",
+          "",
+          "public class OrderService {",
+          "  public OrderService(@NotNull Object repository) { }",
+          "  public void place(@NotBlank String sku, @Positive int quantity, String note) { }",
+          "  public void reply(@HttpStatus int status, @NullableNotBlank String reason) { }",
+          "  public <T> void tag(@DeepNotEmpty List<T> tags, @NotEmpty Map<String, T> meta,",
+          "                     @NonNegative double[] weights) { }",
+          "  public static class Audit {",
+          "    public void log(@NotNull @NotBlank String line) { }",
+          "  }",
+          "}");
+
+  private Path out;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    out = Files.createTempDirectory("ensure-processor");
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    try (Stream<Path> files = Files.walk(out)) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Test
+  void generatesChecks() throws Exception {
+    DiagnosticCollector<JavaFileObject> diagnostics = compile("com/acme/OrderService.java", SERVICE);
+    Assertions.assertTrue(diagnostics.getDiagnostics().isEmpty(), diagnostics.getDiagnostics()::toString);
+
+    String source = Files.readString(out.resolve("com/acme/OrderServiceChecks.java"));
+    Assertions.assertTrue(source.contains("final class OrderServiceChecks"));
+    Assertions.assertTrue(source.contains("io.github.artkonr.ensure.Ensure.notBlank(sku, \"sku\");"));
+    Assertions.assertTrue(source.contains("io.github.artkonr.ensure.Ensure.deepNotEmpty((java.util.Collection<?>) tags, \"tags\");"));
+    Assertions.assertTrue(source.contains("io.github.artkonr.ensure.Ensure.allNonNegative(weights, \"weights\");"));
+    Assertions.assertTrue(Files.exists(out.resolve("com/acme/OrderService_AuditChecks.java")));
+
+    try (URLClassLoader loader = new URLClassLoader(new URL[] {out.toUri().toURL()}, getClass().getClassLoader())) {
+      Class<?> checks = loader.loadClass("com.acme.OrderServiceChecks");
+      Method place = checks.getDeclaredMethod("place", String.class, int.class, String.class);
+      place.setAccessible(true);
+      place.invoke(null, "sku-1", 2, null);
+      Assertions.assertEquals("Bad arg: argName=quantity;type=int;expected=>0;actual=0",
+              thrown(place, "sku-1", 0, null).getMessage());
+      Assertions.assertTrue(thrown(place, " ", 1, null).getMessage().contains("argName=sku"));
+
+      Method init = checks.getDeclaredMethod("init", Object.class);
+      init.setAccessible(true);
+      Assertions.assertTrue(thrown(init, (Object) null).getMessage().contains("argName=repository"));
+
+      Method tag = checks.getDeclaredMethod("tag", List.class, Map.class, double[].class);
+      tag.setAccessible(true);
+      tag.invoke(null, List.of("a"), Map.of("k", 1), new double[] {0, 1});
+      Assertions.assertTrue(thrown(tag, List.of(), Map.of("k", 1), null).getMessage().contains("argName=tags"));
+    }
+  }
+
+  @Test
+  void unsupportedType_reportedAsError() throws Exception {
+    DiagnosticCollector<JavaFileObject> diagnostics = compile("Bad.java", String.join("\n",
+            "class Bad {",
+            "  void run(@io.github.artkonr.ensure.processor.Positive String count) { }",
+            "}"));
+    Diagnostic<? extends JavaFileObject> error = diagnostics.getDiagnostics().get(0);
+    Assertions.assertEquals(Diagnostic.Kind.ERROR, error.getKind());
+    Assertions.assertEquals("@Positive does not apply to java.lang.String", error.getMessage(null));
+    Assertions.assertFalse(Files.exists(out.resolve("BadChecks.java")));
+  }
+
+  private DiagnosticCollector<JavaFileObject> compile(String path, String source) throws Exception {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + path), JavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+        return source;
+      }
+    };
+    try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+      List<String> options = List.of("-d", out.toString(), "-s", out.toString(),
+              "-classpath", System.getProperty("java.class.path"));
+      JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics, options, null, List.of(file));
+      task.setProcessors(List.of(new EnsureProcessor()));
+      task.call();
+    }
+    return diagnostics;
+  }
+
+  private static Throwable thrown(Method method, Object... args) {
+    InvocationTargetException x = Assertions.assertThrows(InvocationTargetException.class,
+            () -> method.invoke(null, args));
+    Assertions.assertTrue(x.getCause() instanceof IllegalArgumentException);
+    return x.getCause();
+  }
+
+}
@@ -0,0 +1,132 @@
+package io.github.artkonr.ensure;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The evaluation order of an adaptive {@link Validator}.
+ * <p>One in {@link AdaptiveOrder#SAMPLE_PERIOD} checks is
+ *  sampled: it applies every rule, timing each and counting
+ *  its failures. Every {@link AdaptiveOrder#REORDER_SAMPLES}
+ *  samples, the rules are sorted by failures per nanosecond,
+ *  so that rules that fail often and cost little come first,
+ *  and the new order is published through a {@code volatile}
+ *  field; checks read it without locking. Older samples are
+ *  halved at each reorder, so the order follows shifts in
+ *  the input.
+ * <p>The first {@code pinned} rules, those rejecting {@code
+ *  null}, keep their position, so that later rules may rely
+ *  on non-{@code null} values.
+ * @author artkonr@gmail.com
+ */
+final class AdaptiveOrder {
+
+  /** One in how many checks is sampled. */
+  static final int SAMPLE_PERIOD = 64;
+
+  /** Number of samples between reorders. */
+  static final int REORDER_SAMPLES = 256;
+
+  private final int pinned;
+  private final LongAdder[] failures;
+  private final LongAdder[] nanos;
+  private final double[] failureHistory;
+  private final double[] nanoHistory;
+  private final AtomicInteger samples = new AtomicInteger();
+  private final AtomicBoolean reordering = new AtomicBoolean();
+
+  private volatile int[] order;
+
+  /**
+   * Creates the order of {@code size} rules, initially as declared.
+   * @param size number of rules
+   * @param pinned number of leading rules kept in place
+   */
+  AdaptiveOrder(int size, int pinned) {
+    this.pinned = pinned;
+    this.failures = new LongAdder[size];
+    this.nanos = new LongAdder[size];
+    for (int i = 0; i < size; i++) {
+      failures[i] = new LongAdder();
+      nanos[i] = new LongAdder();
+    }
+    this.failureHistory = new double[size];
+    this.nanoHistory = new double[size];
+    int[] declared = new int[size];
+    Arrays.setAll(declared, i -> i);
+    this.order = declared;
+  }
+
+  /**
+   * Returns the current order.
+   * @return indices of the rules, in evaluation order; not to be modified
+   */
+  int[] order() {
+    return order;
+  }
+
+  /**
+   * Decides if the current check is sampled.
+   * @return {@code true} if the check should be passed to
+   *         {@link AdaptiveOrder#sample(Rule[], Object)}
+   */
+  static boolean sampled() {
+    return ThreadLocalRandom.current().nextInt(SAMPLE_PERIOD) == 0;
+  }
+
+  /**
+   * Applies every rule to the provided value, recording
+   *  their costs and failures.
+   * @param rules rules, in declared order
+   * @param val checked value
+   * @param <T> checked type
+   * @return declared index of the first failed rule, in the current
+   *         order, in the upper half and its code in the lower half,
+   *         or {@code -1} if every rule passed
+   */
+  <T> long sample(Rule<? super T>[] rules, T val) {
+    int[] order = this.order;
+    long first = -1;
+    for (int i : order) {
+      long start = System.nanoTime();
+      int code = rules[i].check(val);
+      nanos[i].add(System.nanoTime() - start);
+      if (code != Check.OK) {
+        failures[i].increment();
+        if (first < 0)
+          first = (long) i << 32 | code & 0xFFFFFFFFL;
+      }
+    }
+    if (samples.incrementAndGet() % REORDER_SAMPLES == 0)
+      reorder();
+    return first;
+  }
+
+  private void reorder() {
+    if (!reordering.compareAndSet(false, true))
+      return;
+    try {
+      int size = failures.length;
+      double[] score = new double[size];
+      for (int i = 0; i < size; i++) {
+        failureHistory[i] = failureHistory[i] / 2 + failures[i].sumThenReset();
+        nanoHistory[i] = nanoHistory[i] / 2 + nanos[i].sumThenReset();
+        score[i] = (failureHistory[i] + 0.5) / (nanoHistory[i] + 1);
+      }
+      Integer[] sorted = new Integer[size - pinned];
+      for (int i = 0; i < sorted.length; i++)
+        sorted[i] = pinned + i;
+      Arrays.sort(sorted, (a, b) -> Double.compare(score[b], score[a]));
+      int[] next = new int[size];
+      for (int i = 0; i < size; i++)
+        next[i] = i < pinned ? i : sorted[i - pinned];
+      order = next;
+    } finally {
+      reordering.set(false);
+    }
+  }
+
+}
@@ -0,0 +1,88 @@
+package io.github.artkonr.ensure;
+
+/**
+ * Scans of primitive arrays backing the {@code all*}
+ *  checks of {@link Ensure}. Non-instantiable.
+ * <p>Delegates to {@link ScalarScan}; the multi-release
+ *  overlay for Java 17+ replaces this class with one using
+ *  the Vector API, whenever {@code jdk.incubator.vector}
+ *  is present in the boot layer.
+ * @author artkonr@gmail.com
+ */
+final class ArrayScan {
+
+  /**
+   * Finds the first element less than {@code bound}.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @param bound lowest valid value
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstBelow(int[] val, int from, int to, int bound) {
+    return ScalarScan.firstBelow(val, from, to, bound);
+  }
+
+  /**
+   * Finds the first element less than {@code bound}.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @param bound lowest valid value
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstBelow(long[] val, int from, int to, long bound) {
+    return ScalarScan.firstBelow(val, from, to, bound);
+  }
+
+  /**
+   * Finds the first element less than {@code bound};
+   *  {@code NaN} is never less than {@code bound}.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @param bound lowest valid value
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstBelow(double[] val, int from, int to, double bound) {
+    return ScalarScan.firstBelow(val, from, to, bound);
+  }
+
+  /**
+   * Finds the first element less than {@code bound};
+   *  {@code NaN} is never less than {@code bound}.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @param bound lowest valid value
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstBelow(float[] val, int from, int to, float bound) {
+    return ScalarScan.firstBelow(val, from, to, bound);
+  }
+
+  /**
+   * Finds the first infinite or {@code NaN} element.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstNonFinite(double[] val, int from, int to) {
+    return ScalarScan.firstNonFinite(val, from, to);
+  }
+
+  /**
+   * Finds the first infinite or {@code NaN} element.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstNonFinite(float[] val, int from, int to) {
+    return ScalarScan.firstNonFinite(val, from, to);
+  }
+
+  private ArrayScan() { }
+
+}
@@ -0,0 +1,724 @@
+package io.github.artkonr.ensure;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * An exception-free counterpart of {@link Ensure}. Non-instantiable.
+ * <p>Every check mirrors the {@link Ensure} check of the same name,
+ *  but returns a violation code instead of throwing. A code of
+ *  {@link Check#OK} means the check passed; any other code is
+ *  a bitmask of:
+ * <ul>
+ *   <li>a rule, e.g. {@link Check#NOT_POSITIVE}, see {@link Check#rule(int)}</li>
+ *   <li>a checked type, e.g. {@link Check#TYPE_INT}, see {@link Check#type(int)}</li>
+ *   <li>for {@code neither*}/{@code are*} checks, the position of
+ *    the failed argument, see {@link Check#index(int)}</li>
+ * </ul>
+ * <p>Apart from {@link Check#isValidUrl(String)}, which has to
+ *  parse its argument, the checks do not allocate on either path.
+ *  {@link Check#message(int, Object, String)} renders a code into
+ *  the same message the matching {@link Ensure} check would report.
+ * @author artkonr@gmail.com
+ */
+public final class Check {
+
+  /** Check passed. */
+  public static final int OK = 0;
+
+  /** Rule: value is {@code null}. */
+  public static final int NULL = 1;
+  /** Rule: {@link String} is {@code null} or blank. */
+  public static final int BLANK = 2;
+  /** Rule: non-{@code null} {@link String} is blank. */
+  public static final int NULLABLE_BLANK = 3;
+  /** Rule: container is {@code null} or empty. */
+  public static final int EMPTY = 4;
+  /** Rule: container has a {@code null} element (or map key). */
+  public static final int NULL_ELEMENT = 5;
+  /** Rule: number is not positive. */
+  public static final int NOT_POSITIVE = 6;
+  /** Rule: number is negative. */
+  public static final int NEGATIVE = 7;
+  /** Rule: number is not in {@code [100;600)}. */
+  public static final int NOT_HTTP_STATUS = 8;
+  /** Rule: {@link String} is not a valid URI. */
+  public static final int NOT_URL = 9;
+  /** Rule: {@link String} is shorter than required, see {@link Validator}. */
+  public static final int TOO_SHORT = 10;
+  /** Rule: {@link String} is longer than allowed, see {@link Validator}. */
+  public static final int TOO_LONG = 11;
+  /** Rule: {@link String} does not match a pattern, see {@link Validator}. */
+  public static final int NO_MATCH = 12;
+  /** Rule: URL host is not allowed, see {@link HostAllowList}. */
+  public static final int HOST_NOT_ALLOWED = 13;
+
+  /** Type: {@link String}. */
+  public static final int TYPE_STRING = 1 << 8;
+  /** Type: {@code int}. */
+  public static final int TYPE_INT = 2 << 8;
+  /** Type: {@code long}. */
+  public static final int TYPE_LONG = 3 << 8;
+  /** Type: {@code short}. */
+  public static final int TYPE_SHORT = 4 << 8;
+  /** Type: {@code double}. */
+  public static final int TYPE_DOUBLE = 5 << 8;
+  /** Type: {@code float}. */
+  public static final int TYPE_FLOAT = 6 << 8;
+
+  /** Mask of the rule bits. */
+  public static final int RULE_MASK = 0xFF;
+  /** Mask of the type bits. */
+  public static final int TYPE_MASK = 0xFF00;
+  /** Largest reported argument position. */
+  public static final int MAX_INDEX = 0x7FFF;
+
+  private static final int INDEX_SHIFT = 16;
+
+  // general
+
+  /**
+   * Checks if the provided object is {@code null}.
+   * @param val checked object
+   * @return {@link Check#OK} or {@link Check#NULL}
+   * @see Ensure#notNull(Object)
+   */
+  public static int notNull(Object val) {
+    return val == null ? NULL : OK;
+  }
+
+  /**
+   * Applies {@link Check#notNull(Object)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int neitherNull(Object val, Object... other) {
+    if (val == null)
+      return NULL;
+    if (other != null)
+      for (int i = 0; i < other.length; i++)
+        if (other[i] == null)
+          return at(NULL, i + 1);
+    return OK;
+  }
+
+  // strings
+
+  /**
+   * Checks if the provided {@link String} is
+   *  {@code null} or blank.
+   * @param val checked object
+   * @return {@link Check#OK} or {@link Check#BLANK}
+   * @see Ensure#notBlank(String)
+   */
+  public static int notBlank(String val) {
+    return val == null || val.isBlank() ? BLANK | TYPE_STRING : OK;
+  }
+
+  /**
+   * Checks if the provided {@link String} is blank;
+   *  {@code null}-{@link String} is considered valid.
+   * @param val checked object
+   * @return {@link Check#OK} or {@link Check#NULLABLE_BLANK}
+   * @see Ensure#nullableNotBlank(String)
+   */
+  public static int nullableNotBlank(String val) {
+    return val != null && val.isBlank() ? NULLABLE_BLANK | TYPE_STRING : OK;
+  }
+
+  /**
+   * Applies {@link Check#notBlank(String)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int neitherBlank(String val, String... other) {
+    int code = notBlank(val);
+    if (code == OK && other != null)
+      for (int i = 0; i < other.length; i++)
+        if ((code = notBlank(other[i])) != OK)
+          return at(code, i + 1);
+    return code;
+  }
+
+  /**
+   * Applies {@link Check#nullableNotBlank(String)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int neitherNullableNotBlank(String val, String... other) {
+    int code = nullableNotBlank(val);
+    if (code == OK && other != null)
+      for (int i = 0; i < other.length; i++)
+        if ((code = nullableNotBlank(other[i])) != OK)
+          return at(code, i + 1);
+    return code;
+  }
+
+  // numerics
+
+  /**
+   * Checks if the provided {@code int} is <b>positive</b>.
+   * @param val value to check
+   * @return {@link Check#OK} or {@link Check#NOT_POSITIVE}
+   * @see Ensure#isPositive(int)
+   */
+  public static int isPositive(int val) {
+    return val < 1 ? NOT_POSITIVE | TYPE_INT : OK;
+  }
+
+  /**
+   * Checks if the provided {@code int} is <b>non-negative</b>.
+   * @param val value to check
+   * @return {@link Check#OK} or {@link Check#NEGATIVE}
+   * @see Ensure#isNonNegative(int)
+   */
+  public static int isNonNegative(int val) {
+    return val < 0 ? NEGATIVE | TYPE_INT : OK;
+  }
+
+  /**
+   * Applies {@link Check#isPositive(int)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int arePositive(int val, int... other) {
+    if (val < 1)
+      return NOT_POSITIVE | TYPE_INT;
+    if (other != null)
+      for (int i = 0; i < other.length; i++)
+        if (other[i] < 1)
+          return at(NOT_POSITIVE | TYPE_INT, i + 1);
+    return OK;
+  }
+
+  /**
+   * Applies {@link Check#isNonNegative(int)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int areNonNegative(int val, int... other) {
+    if (val < 0)
+      return NEGATIVE | TYPE_INT;
+    if (other != null)
+      for (int i = 0; i < other.length; i++)
+        if (other[i] < 0)
+          return at(NEGATIVE | TYPE_INT, i + 1);
+    return OK;
+  }
+
+
+  /**
+   * Checks if the provided {@code long} is <b>positive</b>.
+   * @param val value to check
+   * @return {@link Check#OK} or {@link Check#NOT_POSITIVE}
+   * @see Ensure#isPositive(long)
+   */
+  public static int isPositive(long val) {
+    return val < 1 ? NOT_POSITIVE | TYPE_LONG : OK;
+  }
+
+  /**
+   * Checks if the provided {@code long} is <b>non-negative</b>.
+   * @param val value to check
+   * @return {@link Check#OK} or {@link Check#NEGATIVE}
+   * @see Ensure#isNonNegative(long)
+   */
+  public static int isNonNegative(long val) {
+    return val < 0 ? NEGATIVE | TYPE_LONG : OK;
+  }
+
+  /**
+   * Applies {@link Check#isPositive(long)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int arePositive(long val, long... other) {
+    if (val < 1)
+      return NOT_POSITIVE | TYPE_LONG;
+    if (other != null)
+      for (int i = 0; i < other.length; i++)
+        if (other[i] < 1)
+          return at(NOT_POSITIVE | TYPE_LONG, i + 1);
+    return OK;
+  }
+
+  /**
+   * Applies {@link Check#isNonNegative(long)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int areNonNegative(long val, long... other) {
+    if (val < 0)
+      return NEGATIVE | TYPE_LONG;
+    if (other != null)
+      for (int i = 0; i < other.length; i++)
+        if (other[i] < 0)
+          return at(NEGATIVE | TYPE_LONG, i + 1);
+    return OK;
+  }
+
+
+  /**
+   * Checks if the provided {@code double} is <b>positive</b>.
+   * @param val value to check
+   * @return {@link Check#OK} or {@link Check#NOT_POSITIVE}
+   * @see Ensure#isPositive(double)
+   */
+  public static int isPositive(double val) {
+    return val < 1 ? NOT_POSITIVE | TYPE_DOUBLE : OK;
+  }
+
+  /**
+   * Checks if the provided {@code double} is <b>non-negative</b>.
+   * @param val value to check
+   * @return {@link Check#OK} or {@link Check#NEGATIVE}
+   * @see Ensure#isNonNegative(double)
+   */
+  public static int isNonNegative(double val) {
+    return val < 0 ? NEGATIVE | TYPE_DOUBLE : OK;
+  }
+
+  /**
+   * Applies {@link Check#isPositive(double)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int arePositive(double val, double... other) {
+    if (val < 1)
+      return NOT_POSITIVE | TYPE_DOUBLE;
+    if (other != null)
+      for (int i = 0; i < other.length; i++)
+        if (other[i] < 1)
+          return at(NOT_POSITIVE | TYPE_DOUBLE, i + 1);
+    return OK;
+  }
+
+  /**
+   * Applies {@link Check#isNonNegative(double)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int areNonNegative(double val, double... other) {
+    if (val < 0)
+      return NEGATIVE | TYPE_DOUBLE;
+    if (other != null)
+      for (int i = 0; i < other.length; i++)
+        if (other[i] < 0)
+          return at(NEGATIVE | TYPE_DOUBLE, i + 1);
+    return OK;
+  }
+
+
+  /**
+   * Checks if the provided {@code float} is <b>positive</b>.
+   * @param val value to check
+   * @return {@link Check#OK} or {@link Check#NOT_POSITIVE}
+   * @see Ensure#isPositive(float)
+   */
+  public static int isPositive(float val) {
+    return val < 1 ? NOT_POSITIVE | TYPE_FLOAT : OK;
+  }
+
+  /**
+   * Checks if the provided {@code float} is <b>non-negative</b>.
+   * @param val value to check
+   * @return {@link Check#OK} or {@link Check#NEGATIVE}
+   * @see Ensure#isNonNegative(float)
+   */
+  public static int isNonNegative(float val) {
+    return val < 0 ? NEGATIVE | TYPE_FLOAT : OK;
+  }
+
+  /**
+   * Applies {@link Check#isPositive(float)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int arePositive(float val, float... other) {
+    if (val < 1)
+      return NOT_POSITIVE | TYPE_FLOAT;
+    if (other != null)
+      for (int i = 0; i < other.length; i++)
+        if (other[i] < 1)
+          return at(NOT_POSITIVE | TYPE_FLOAT, i + 1);
+    return OK;
+  }
+
+  /**
+   * Applies {@link Check#isNonNegative(float)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int areNonNegative(float val, float... other) {
+    if (val < 0)
+      return NEGATIVE | TYPE_FLOAT;
+    if (other != null)
+      for (int i = 0; i < other.length; i++)
+        if (other[i] < 0)
+          return at(NEGATIVE | TYPE_FLOAT, i + 1);
+    return OK;
+  }
+
+
+  /**
+   * Checks if the provided {@code short} is <b>positive</b>.
+   * @param val value to check
+   * @return {@link Check#OK} or {@link Check#NOT_POSITIVE}
+   * @see Ensure#isPositive(short)
+   */
+  public static int isPositive(short val) {
+    return val < 1 ? NOT_POSITIVE | TYPE_SHORT : OK;
+  }
+
+  /**
+   * Checks if the provided {@code short} is <b>non-negative</b>.
+   * @param val value to check
+   * @return {@link Check#OK} or {@link Check#NEGATIVE}
+   * @see Ensure#isNonNegative(short)
+   */
+  public static int isNonNegative(short val) {
+    return val < 0 ? NEGATIVE | TYPE_SHORT : OK;
+  }
+
+  /**
+   * Applies {@link Check#isPositive(short)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int arePositive(short val, short... other) {
+    if (val < 1)
+      return NOT_POSITIVE | TYPE_SHORT;
+    if (other != null)
+      for (int i = 0; i < other.length; i++)
+        if (other[i] < 1)
+          return at(NOT_POSITIVE | TYPE_SHORT, i + 1);
+    return OK;
+  }
+
+  /**
+   * Applies {@link Check#isNonNegative(short)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int areNonNegative(short val, short... other) {
+    if (val < 0)
+      return NEGATIVE | TYPE_SHORT;
+    if (other != null)
+      for (int i = 0; i < other.length; i++)
+        if (other[i] < 0)
+          return at(NEGATIVE | TYPE_SHORT, i + 1);
+    return OK;
+  }
+
+
+  // collections
+
+  /**
+   * Checks if the provided {@link Collection} is
+   *  {@code null} or empty.
+   * @param val checked object
+   * @return {@link Check#OK} or {@link Check#EMPTY}
+   * @see Ensure#notEmpty(Collection)
+   */
+  public static int notEmpty(Collection<?> val) {
+    return val == null || val.isEmpty() ? EMPTY : OK;
+  }
+
+  /**
+   * Checks if the provided {@link Collection} is
+   *  {@code null}, empty or has {@code null} elements.
+   * @param val checked object
+   * @return {@link Check#OK}, {@link Check#EMPTY}
+   *  or {@link Check#NULL_ELEMENT}
+   * @see Ensure#deepNotEmpty(Collection)
+   */
+  public static int deepNotEmpty(Collection<?> val) {
+    if (val == null || val.isEmpty())
+      return EMPTY;
+    return DeepScan.hasNull(val, null) ? NULL_ELEMENT : OK;
+  }
+
+  /**
+   * Checks if the provided {@link Iterable} is
+   *  {@code null} or empty.
+   * @param val checked object
+   * @return {@link Check#OK} or {@link Check#EMPTY}
+   * @see Ensure#notEmpty(Iterable)
+   */
+  public static int notEmpty(Iterable<?> val) {
+    return Ensure.isEmpty(val) ? EMPTY : OK;
+  }
+
+  /**
+   * Checks if the provided {@link Iterable} is
+   *  {@code null}, empty or has {@code null} elements.
+   * @param val checked object
+   * @return {@link Check#OK}, {@link Check#EMPTY}
+   *  or {@link Check#NULL_ELEMENT}
+   * @see Ensure#deepNotEmpty(Iterable)
+   */
+  public static int deepNotEmpty(Iterable<?> val) {
+    return DeepScan.check(val, null);
+  }
+
+  /**
+   * Checks if the provided {@link Map} is
+   *  {@code null} or empty.
+   * @param val checked object
+   * @return {@link Check#OK} or {@link Check#EMPTY}
+   * @see Ensure#notEmpty(Map)
+   */
+  public static int notEmpty(Map<?, ?> val) {
+    return val == null || val.isEmpty() ? EMPTY : OK;
+  }
+
+  /**
+   * Checks if the provided {@link Map} is
+   *  {@code null}, empty or has {@code null} keys.
+   * @param val checked object
+   * @return {@link Check#OK}, {@link Check#EMPTY}
+   *  or {@link Check#NULL_ELEMENT}
+   * @see Ensure#deepNotEmpty(Map)
+   */
+  public static int deepNotEmpty(Map<?, ?> val) {
+    if (val == null || val.isEmpty())
+      return EMPTY;
+    return DeepScan.hasNullKey(val, null) ? NULL_ELEMENT : OK;
+  }
+
+  // other
+
+  /**
+   * Checks if the provided {@link String} is
+   *  {@link Check#notBlank(String)} and is a valid URI.
+   * <p>ASCII values are checked by the {@link UrlSyntax}
+   *  scanner against RFC 3986, so rejections cost no
+   *  exceptions; only values with non-ASCII chars, which
+   *  {@link URI} accepts beyond the RFC, are left to {@link
+   *  URI#create(String)}. Unlike {@link Ensure#isValidUrl(String)},
+   *  the check rejects registry-based authorities, e.g. with
+   *  a non-numeric port.
+   * @param val checked object
+   * @return {@link Check#OK}, {@link Check#BLANK}
+   *  or {@link Check#NOT_URL}
+   * @see Ensure#isValidUrl(String)
+   */
+  public static int isValidUrl(String val) {
+    int code = UrlSyntax.ANY.check(val);
+    if (code == OK || rule(code) != NOT_URL || isAscii(val))
+      return code;
+    return parseFailure(val) == null ? OK : code;
+  }
+
+  /**
+   * Checks if a provided {@code int} may
+   *  represent a valid HTTP status, i.e.
+   *  belongs to an interval of {@code [100;600)}.
+   * @param val value to check
+   * @return {@link Check#OK} or {@link Check#NOT_HTTP_STATUS}
+   * @see Ensure#isHttpStatus(int)
+   */
+  public static int isHttpStatus(int val) {
+    return val < 100 || val > 599 ? NOT_HTTP_STATUS | TYPE_INT : OK;
+  }
+
+  /**
+   * Applies {@link Check#isHttpStatus(int)} to
+   *  every provided object.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return code of the first failed check or {@link Check#OK}
+   */
+  public static int areHttpStatuses(int val, int... other) {
+    int code = isHttpStatus(val);
+    if (code == OK && other != null)
+      for (int i = 0; i < other.length; i++)
+        if ((code = isHttpStatus(other[i])) != OK)
+          return at(code, i + 1);
+    return code;
+  }
+
+  // codes
+
+  /**
+   * Extracts the rule of a violation code.
+   * @param code violation code
+   * @return rule, e.g. {@link Check#NOT_POSITIVE}
+   */
+  public static int rule(int code) {
+    return code & RULE_MASK;
+  }
+
+  /**
+   * Extracts the checked type of a violation code.
+   * @param code violation code
+   * @return type, e.g. {@link Check#TYPE_INT},
+   *  or {@code 0} if the rule is not type-specific
+   */
+  public static int type(int code) {
+    return code & TYPE_MASK;
+  }
+
+  /**
+   * Extracts the position of the failed argument
+   *  of a {@code neither*}/{@code are*} check: {@code 0}
+   *  for the first argument, {@code i + 1} for the
+   *  {@code i}-th vararg; capped at {@link Check#MAX_INDEX}.
+   * @param code violation code
+   * @return position of the failed argument
+   */
+  public static int index(int code) {
+    return code >>> INDEX_SHIFT;
+  }
+
+  /**
+   * Renders a violation code into the message
+   *  the matching {@link Ensure} check reports.
+   * @param code violation code
+   * @param actual rejected value
+   * @return message or {@code null} if {@code code} is {@link Check#OK}
+   * @throws IllegalArgumentException if {@code code} is unknown
+   */
+  public static String message(int code, Object actual) {
+    return message(code, actual, null);
+  }
+
+  /**
+   * Renders a violation code into the message the
+   *  matching {@link Ensure} check with an argument
+   *  name reports.
+   * @param code violation code
+   * @param actual rejected value
+   * @param argName name of the argument
+   * @return message or {@code null} if {@code code} is {@link Check#OK}
+   * @throws IllegalArgumentException if {@code code} is unknown
+   */
+  public static String message(int code, Object actual, String argName) {
+    if (code == OK)
+      return null;
+    return ViolationException.stackless(() -> create(code, actual, argName)).getMessage();
+  }
+
+  /**
+   * Creates the exception the matching {@link
+   *  Ensure} check throws for a violation code.
+   * @param code violation code, other than {@link Check#OK}
+   * @param actual rejected value
+   * @param argName name of the argument
+   * @return violation
+   * @throws IllegalArgumentException if {@code code} is unknown
+   */
+  static ViolationException violation(int code, Object actual, String argName) {
+    return Events.violation(create(code, actual, argName));
+  }
+
+  private static ViolationException create(int code, Object actual, String argName) {
+    String name = Ensure.argNameValid(argName) ? argName : null;
+    String type = typeName(code);
+    switch (rule(code)) {
+      case NULL:
+        return new ViolationException(name, false, null, Ensure.NON_NULL, null, null);
+      case BLANK:
+        return new ViolationException(name, false, type,
+                Ensure.NON_NULL + '&' + Ensure.NOT_BLANK, actual, null);
+      case NULLABLE_BLANK:
+        return new ViolationException(name, false, type, Ensure.NOT_BLANK, actual, null);
+      case EMPTY:
+        return new ViolationException(name, false, null,
+                Ensure.NON_NULL + '&' + Ensure.NOT_EMPTY, Boolean.FALSE, null);
+      case NULL_ELEMENT:
+        return new ViolationException(name, true, null, Ensure.ALL_NON_NULL, Boolean.FALSE, null);
+      case NOT_POSITIVE:
+        return new ViolationException(name, false, type, Ensure.POSITIVE, actual, null);
+      case NEGATIVE:
+        return new ViolationException(name, false, type, Ensure.NON_NEG, actual, null);
+      case NOT_HTTP_STATUS:
+        return new ViolationException(name, false, type, Ensure.HTTP_STATUS, actual, null);
+      case NOT_URL:
+        return new ViolationException(name, false, type,
+                Ensure.NON_NULL + '&' + Ensure.NOT_BLANK + '&' + Ensure.IS_URL, actual,
+                parseFailure(String.valueOf(actual)));
+      case TOO_SHORT:
+        return new ViolationException(name, false, type, Ensure.MIN_LENGTH, actual, null);
+      case TOO_LONG:
+        return new ViolationException(name, false, type, Ensure.MAX_LENGTH, actual, null);
+      case NO_MATCH:
+        return new ViolationException(name, false, type, Ensure.MATCHES, actual, null);
+      case HOST_NOT_ALLOWED:
+        return new ViolationException(name, false, type, Ensure.ALLOWED_HOST, actual, null);
+      default:
+        throw new IllegalArgumentException("Unknown violation code: " + code);
+    }
+  }
+
+  private static int at(int code, int index) {
+    return code | (Math.min(index, MAX_INDEX) << INDEX_SHIFT);
+  }
+
+  private static String typeName(int code) {
+    switch (type(code)) {
+      case TYPE_STRING:
+        return Ensure.STRING;
+      case TYPE_INT:
+        return Ensure.INT;
+      case TYPE_LONG:
+        return Ensure.LONG;
+      case TYPE_SHORT:
+        return Ensure.SHORT;
+      case TYPE_DOUBLE:
+        return Ensure.DOUBLE;
+      case TYPE_FLOAT:
+        return Ensure.FLOAT;
+      default:
+        return null;
+    }
+  }
+
+  private static boolean isAscii(String val) {
+    for (int i = 0; i < val.length(); i++)
+      if (val.charAt(i) >= 0x80)
+        return false;
+    return true;
+  }
+
+  private static IllegalArgumentException parseFailure(String val) {
+    if (UriCache.isEnabled())
+      return UriCache.lookup(val).failure;
+    try {
+      URI.create(val);
+      return null;
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+  }
+
+  private Check() { }
+
+}
@@ -0,0 +1,295 @@
+package io.github.artkonr.ensure;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Looks for {@code null} elements on behalf of the
+ *  {@code deepNotEmpty} checks.
+ * <p>Containers with at least {@link DeepScan#getParallelThreshold()}
+ *  elements are split through their {@link Spliterator} and
+ *  scanned on a {@link ForkJoinPool}: the {@link
+ *  ForkJoinPool#commonPool()} unless a pool is passed explicitly,
+ *  e.g. with {@link Ensure#deepNotEmpty(Collection, String, ForkJoinPool)}.
+ *  As soon as one worker finds a {@code null}, the rest stop.
+ *  Smaller containers, and {@link Iterable}s of unknown size, are
+ *  scanned on the calling thread.
+ * <p>Before scanning, the runtime class of the container is looked
+ *  up (once per class) to find a cheaper answer: containers that
+ *  reject {@code null}s, such as {@link List#of()}, {@link
+ *  ConcurrentHashMap} or {@link NullFreeList}, are never scanned, and hash-based ones,
+ *  such as {@link HashSet} or {@link HashMap}, are asked via
+ *  {@link Collection#contains(Object)} or {@link
+ *  Map#containsKey(Object)}. Other classes are iterated.
+ * <p>The threshold defaults to the {@code ensure.parallelThreshold}
+ *  system property, or {@code 262144} if it is not set.
+ * @author artkonr@gmail.com
+ */
+public final class DeepScan {
+
+  private static final int DEFAULT_THRESHOLD = 1 << 18;
+  private static final long MIN_LEAF_SIZE = 1 << 13;
+  private static final int STOP_CHECK_MASK = (1 << 10) - 1;
+
+  private static final Map<Class<?>, Strategy> KNOWN = knownStrategies();
+
+  private static final ClassValue<Strategy> STRATEGIES = new ClassValue<>() {
+    @Override
+    protected Strategy computeValue(Class<?> type) {
+      Strategy known = KNOWN.get(type);
+      if (known != null)
+        return known;
+      if (NullFree.class.isAssignableFrom(type) || EnumSet.class.isAssignableFrom(type))
+        return Strategy.NEVER_NULL;
+      return Strategy.ITERATE;
+    }
+  };
+
+  private static volatile int parallelThreshold = initialThreshold();
+
+  /**
+   * Returns the size from which containers are scanned in parallel.
+   * @return current threshold
+   */
+  public static int getParallelThreshold() {
+    return parallelThreshold;
+  }
+
+  /**
+   * Sets the size from which containers are scanned in parallel;
+   *  {@link Integer#MAX_VALUE} effectively disables parallel scans.
+   * @param threshold minimal number of elements
+   * @throws IllegalArgumentException if {@code threshold} is not positive
+   */
+  public static void setParallelThreshold(int threshold) {
+    Ensure.requirePositive(threshold, "threshold");
+    parallelThreshold = threshold;
+  }
+
+  /**
+   * Checks if the provided {@link Collection} contains a {@code null}.
+   * @param val non-{@code null} collection
+   * @param pool pool for parallel scans or {@code null} for the common pool
+   * @return {@code true} if a {@code null} element is found
+   */
+  static boolean hasNull(Collection<?> val, ForkJoinPool pool) {
+    switch (STRATEGIES.get(val.getClass())) {
+      case NEVER_NULL:
+        return false;
+      case CONTAINS:
+        return val.contains(null);
+      default:
+        break;
+    }
+    if (Events.AVAILABLE && val.size() >= Events.SCAN_SIZE)
+      return DeepScanEvent.scan(val, pool);
+    return iterate(val, pool);
+  }
+
+  /**
+   * Looks at every element of the provided {@link Collection},
+   *  in parallel if it is large enough.
+   * @param val non-{@code null} collection
+   * @param pool pool for parallel scans or {@code null} for the common pool
+   * @return {@code true} if a {@code null} element is found
+   */
+  static boolean iterate(Collection<?> val, ForkJoinPool pool) {
+    int size = val.size();
+    if (size < parallelThreshold) {
+      for (Object o : val)
+        if (o == null)
+          return true;
+      return false;
+    }
+    return parallelHasNull(val.spliterator(), size, pool);
+  }
+
+  /**
+   * Checks if the provided {@link Iterable} is empty or contains
+   *  a {@code null}, traversing it only once: iterables other than
+   *  {@link Collection}s may be one-shot or expensive to iterate.
+   *  Goes parallel only if the size of {@code val} is known.
+   * @param val checked iterable
+   * @param pool pool for parallel scans or {@code null} for the common pool
+   * @return {@link Check#OK}, {@link Check#EMPTY} or {@link Check#NULL_ELEMENT}
+   */
+  static int check(Iterable<?> val, ForkJoinPool pool) {
+    if (val == null)
+      return Check.EMPTY;
+    if (val instanceof Collection) {
+      Collection<?> collection = (Collection<?>) val;
+      if (collection.isEmpty())
+        return Check.EMPTY;
+      return hasNull(collection, pool) ? Check.NULL_ELEMENT : Check.OK;
+    }
+    Spliterator<?> split = val.spliterator();
+    long size = split.getExactSizeIfKnown();
+    if (size == 0)
+      return Check.EMPTY;
+    if (size >= parallelThreshold)
+      return parallelHasNull(split, size, pool) ? Check.NULL_ELEMENT : Check.OK;
+    NullSearch sequential = new NullSearch(split, Long.MAX_VALUE, new AtomicBoolean());
+    sequential.compute();
+    if (!sequential.sawAny)
+      return Check.EMPTY;
+    return sequential.sawNull ? Check.NULL_ELEMENT : Check.OK;
+  }
+
+  /**
+   * Checks if the provided {@link Map} contains a {@code null} key.
+   * @param val non-{@code null} map
+   * @param pool pool for parallel scans or {@code null} for the common pool
+   * @return {@code true} if a {@code null} key is found
+   */
+  static boolean hasNullKey(Map<?, ?> val, ForkJoinPool pool) {
+    switch (STRATEGIES.get(val.getClass())) {
+      case NEVER_NULL:
+        return false;
+      case CONTAINS:
+        return val.containsKey(null);
+      default:
+        return hasNull(val.keySet(), pool);
+    }
+  }
+
+  private static boolean parallelHasNull(Spliterator<?> split, long size, ForkJoinPool pool) {
+    ForkJoinPool target = pool == null ? ForkJoinPool.commonPool() : pool;
+    int workers = target.getParallelism();
+    long leafSize = workers > 1 ? Math.max(size / (workers << 2), MIN_LEAF_SIZE) : Long.MAX_VALUE;
+    AtomicBoolean found = new AtomicBoolean();
+    target.invoke(new NullSearch(split, leafSize, found));
+    return found.get();
+  }
+
+  private static Map<Class<?>, Strategy> knownStrategies() {
+    Map<Class<?>, Strategy> known = new HashMap<>();
+    List<Object> immutables = List.of(List.of(), List.of(1), List.of(1, 2, 3),
+            Set.of(), Set.of(1), Set.of(1, 2, 3), Map.of(), Map.of(1, 1), Map.of(1, 1, 2, 2));
+    for (Object sample : immutables)
+      known.put(sample.getClass(), Strategy.NEVER_NULL);
+    List<Class<?>> nullHostile = List.of(Hashtable.class, EnumMap.class, ArrayDeque.class,
+            PriorityQueue.class, ConcurrentHashMap.class, ConcurrentHashMap.KeySetView.class,
+            ConcurrentSkipListMap.class, ConcurrentSkipListSet.class, ConcurrentLinkedQueue.class,
+            ConcurrentLinkedDeque.class, LinkedBlockingQueue.class, LinkedBlockingDeque.class,
+            ArrayBlockingQueue.class, PriorityBlockingQueue.class, DelayQueue.class,
+            LinkedTransferQueue.class);
+    for (Class<?> type : nullHostile)
+      known.put(type, Strategy.NEVER_NULL);
+    List<Object> hashed = List.of(new HashSet<>(), new LinkedHashSet<>(),
+            new HashMap<>(), new HashMap<>().keySet(), new LinkedHashMap<>(), new LinkedHashMap<>().keySet(),
+            new IdentityHashMap<>(), new IdentityHashMap<>().keySet(), new WeakHashMap<>(), new WeakHashMap<>().keySet());
+    for (Object sample : hashed)
+      known.put(sample.getClass(), Strategy.CONTAINS);
+    try {
+      // since 16, Stream#toList reuses the List.of() classes, nulls included
+      Object nullable = Stream.class.getMethod("toList").invoke(Stream.of(1, null));
+      known.remove(nullable.getClass());
+    } catch (ReflectiveOperationException x) {
+      // no Stream#toList before 16
+    }
+    return known;
+  }
+
+  private static int initialThreshold() {
+    int threshold = Integer.getInteger("ensure.parallelThreshold", DEFAULT_THRESHOLD);
+    return threshold > 0 ? threshold : DEFAULT_THRESHOLD;
+  }
+
+  /** Cheapest correct way to find a {@code null} in a container. */
+  private enum Strategy {
+    /** The container rejects {@code null}s. */
+    NEVER_NULL,
+    /** Ask the container, e.g. via {@link Collection#contains(Object)}. */
+    CONTAINS,
+    /** Look at every element. */
+    ITERATE
+  }
+
+  /**
+   * Splits its part of the container down to {@code leafSize}
+   *  elements, forking the prefixes, and scans the remainder.
+   *  All tasks of one scan share the {@code found} flag.
+   */
+  private static final class NullSearch extends RecursiveAction implements Consumer<Object> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Spliterator<?> split;
+    private final long leafSize;
+    private final AtomicBoolean found;
+    private transient NullSearch next;
+    private boolean sawAny;
+    private boolean sawNull;
+
+    private NullSearch(Spliterator<?> split, long leafSize, AtomicBoolean found) {
+      this.split = split;
+      this.leafSize = leafSize;
+      this.found = found;
+    }
+
+    @Override
+    protected void compute() {
+      Spliterator<?> rest = split;
+      NullSearch forked = null;
+      Spliterator<?> prefix;
+      while (!found.get() && rest.estimateSize() > leafSize && (prefix = rest.trySplit()) != null) {
+        NullSearch task = new NullSearch(prefix, leafSize, found);
+        task.next = forked;
+        forked = task;
+        task.fork();
+      }
+      int scanned = 0;
+      while (rest.tryAdvance(this)) {
+        if (sawNull) {
+          found.set(true);
+          break;
+        }
+        if ((++scanned & STOP_CHECK_MASK) == 0 && found.get())
+          break;
+      }
+      for (; forked != null; forked = forked.next)
+        forked.join();
+    }
+
+    @Override
+    public void accept(Object o) {
+      sawAny = true;
+      if (o == null)
+        sawNull = true;
+    }
+
+  }
+
+  private DeepScan() { }
+
+}
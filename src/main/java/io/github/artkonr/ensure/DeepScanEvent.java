@@ -0,0 +1,70 @@
+package io.github.artkonr.ensure;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * JFR duration event recorded around scans of containers
+ *  with at least {@link Events#SCAN_SIZE} elements; see
+ *  {@link Events}.
+ * @author artkonr@gmail.com
+ */
+@Name("io.github.artkonr.ensure.DeepScan")
+@Label("Deep Null Scan")
+@Category("Ensure")
+@Description("A scan of a container for null elements")
+@StackTrace(false)
+final class DeepScanEvent extends Event {
+
+  /** Runtime class of the scanned container. */
+  @Label("Container Type")
+  String containerType;
+
+  /** Number of elements in the container. */
+  @Label("Size")
+  int size;
+
+  /** Whether the scan ran on a fork-join pool. */
+  @Label("Parallel")
+  boolean parallel;
+
+  /** Whether a {@code null} element was found. */
+  @Label("Null Found")
+  boolean nullFound;
+
+  /** First caller outside of the library. */
+  @Label("Call Site")
+  String callSite;
+
+  /**
+   * Runs {@link DeepScan#iterate(Collection, ForkJoinPool)}
+   *  and records its duration if the event is enabled.
+   * @param val scanned collection
+   * @param pool pool for parallel scans or {@code null} for the common pool
+   * @return {@code true} if a {@code null} element is found
+   */
+  static boolean scan(Collection<?> val, ForkJoinPool pool) {
+    DeepScanEvent event = new DeepScanEvent();
+    int size = val.size();
+    event.begin();
+    boolean found = DeepScan.iterate(val, pool);
+    event.end();
+    if (event.shouldCommit()) {
+      event.containerType = val.getClass().getName();
+      event.size = size;
+      event.parallel = size >= DeepScan.getParallelThreshold();
+      event.nullFound = found;
+      event.callSite = Events.callSite();
+      event.commit();
+    }
+    return found;
+  }
+
+}
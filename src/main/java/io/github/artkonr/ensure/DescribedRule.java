@@ -0,0 +1,39 @@
+package io.github.artkonr.ensure;
+
+/**
+ * A {@link Rule} that describes its own violations, e.g.
+ *  with the bound it enforces, where the {@link Check} code
+ *  alone only names the kind of check.
+ * <p>A class rather than an interface, so that the hook
+ *  stays out of the public API of the implementations.
+ * @param <T> checked type
+ * @author artkonr@gmail.com
+ */
+abstract class DescribedRule<T> implements Rule<T> {
+
+  /**
+   * Creates the exception describing a violation of this rule.
+   * @param code violation code returned by {@link Rule#check(Object)}
+   * @param val rejected value
+   * @param argName name of the argument
+   * @return violation
+   */
+  abstract ViolationException violation(int code, T val, String argName);
+
+  /**
+   * Creates the exception describing a violation of the provided
+   *  rule, in its own terms if it is a {@link DescribedRule}.
+   * @param rule failed rule
+   * @param code violation code returned by the rule
+   * @param val rejected value
+   * @param argName name of the argument
+   * @param <T> checked type
+   * @return violation
+   */
+  static <T> ViolationException violation(Rule<? super T> rule, int code, T val, String argName) {
+    if (rule instanceof DescribedRule)
+      return ((DescribedRule<? super T>) rule).violation(code, val, argName);
+    return Check.violation(code, val, argName);
+  }
+
+}
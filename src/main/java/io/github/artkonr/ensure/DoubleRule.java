@@ -0,0 +1,25 @@
+package io.github.artkonr.ensure;
+
+/**
+ * A {@code double} check reporting {@link Check} codes, used by
+ *  {@link Ensure#eachDouble(Iterable, java.util.function.ToDoubleFunction, DoubleRule, String)}.
+ *  Counterpart of {@link Rule} that avoids boxing.
+ * @author artkonr@gmail.com
+ */
+@FunctionalInterface
+public interface DoubleRule {
+
+  /** Same as {@link Check#isPositive(double)}. */
+  DoubleRule POSITIVE = Check::isPositive;
+
+  /** Same as {@link Check#isNonNegative(double)}. */
+  DoubleRule NON_NEGATIVE = Check::isNonNegative;
+
+  /**
+   * Checks the provided value.
+   * @param val checked value
+   * @return {@link Check#OK} or a violation code
+   */
+  int check(double val);
+
+}
@@ -2,7 +2,15 @@ package io.github.artkonr.ensure;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A collection of argument checks. Non-instantiable.
@@ -13,6 +21,9 @@ import java.util.Map;
  *   <li>{@link Collection}, {@link Iterable} or {@link Map} non-emptiness</li>
  *   <li>other assorted checks</li>
  * </ul>
+ * <p>Every failed check throws a {@link ViolationException}.
+ * <p>Checks may be relaxed at runtime by lowering the global
+ *  {@link ValidationLevel}, see {@link Validation}.
  * @author artkonr@gmail.com
  */
 public final class Ensure {
@@ -26,9 +37,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void notNull(Object val) {
-    if (val == null)
-      throw new IllegalArgumentException(MESSAGE_START
-              + EXPECT_DECL + NON_NULL + SEP + VAL_DECL + null);
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NULL, null);
+    if (val == null && Validation.cheap())
+      throw nullViolation(null);
   }
 
   /**
@@ -39,13 +51,26 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void notNull(Object val, String argName) {
-    if (argNameValid(argName)) {
-      if (val == null)
-        throw new IllegalArgumentException(MESSAGE_START + NAME_DECL + argName
-                + SEP + EXPECT_DECL + NON_NULL + SEP + VAL_DECL + null);
-    } else {
-      notNull(val);
-    }
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NULL, reported(argName));
+    if (val == null && Validation.cheap())
+      throw nullViolation(reported(argName));
+  }
+
+  /**
+   * Checks if the provided object is
+   *  {@code null} and throws if it is.
+   * @param val checked object
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void notNull(Object val, String template, int index) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NULL, indexedName(template, index));
+    if (val == null && Validation.cheap())
+      throw nullViolation(indexedName(template, index));
   }
 
   /**
@@ -62,6 +87,91 @@ public final class Ensure {
         notNull(o);
   }
 
+  /**
+   * Applies {@link Ensure#notNull(Object)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#neitherNull(Object, Object...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void neitherNull(Object val1, Object val2) {
+    notNull(val1);
+    notNull(val2);
+  }
+
+  /**
+   * Applies {@link Ensure#notNull(Object)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#neitherNull(Object, Object...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void neitherNull(Object val1, Object val2, Object val3) {
+    notNull(val1);
+    notNull(val2);
+    notNull(val3);
+  }
+
+  /**
+   * Applies {@link Ensure#notNull(Object)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#neitherNull(Object, Object...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void neitherNull(Object val1, Object val2, Object val3, Object val4) {
+    notNull(val1);
+    notNull(val2);
+    notNull(val3);
+    notNull(val4);
+  }
+
+  /**
+   * Applies {@link Ensure#notNull(Object)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#neitherNull(Object, Object...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void neitherNull(Object val1, Object val2, Object val3, Object val4, Object val5) {
+    notNull(val1);
+    notNull(val2);
+    notNull(val3);
+    notNull(val4);
+    notNull(val5);
+  }
+
+  /**
+   * Applies {@link Ensure#notNull(Object)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#neitherNull(Object, Object...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void neitherNull(Object val1, Object val2, Object val3, Object val4, Object val5, Object val6) {
+    notNull(val1);
+    notNull(val2);
+    notNull(val3);
+    notNull(val4);
+    notNull(val5);
+    notNull(val6);
+  }
+
   // strings
 
   /**
@@ -74,9 +184,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void notBlank(String val) {
-    if (val == null || val.isBlank())
-      throw new IllegalArgumentException(fmtString(val,
-              NON_NULL + '&' + NOT_BLANK));
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NULL + '&' + NOT_BLANK, null);
+    if ((val == null || val.isBlank()) && Validation.cheap())
+      throw violation(null, val, NON_NULL + '&' + NOT_BLANK);
   }
 
   /**
@@ -90,13 +201,29 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void notBlank(String val, String argName) {
-    if (argNameValid(argName)) {
-      if (val == null || val.isBlank())
-        throw new IllegalArgumentException(fmtString(argName, val,
-                NON_NULL + '&' + NOT_BLANK));
-    } else {
-      notBlank(val);
-    }
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NULL + '&' + NOT_BLANK, reported(argName));
+    if ((val == null || val.isBlank()) && Validation.cheap())
+      throw violation(reported(argName), val, NON_NULL + '&' + NOT_BLANK);
+  }
+
+  /**
+   * Checks if the provided {@link String} is
+   *  {@code null} or has {@code 0} length (checked
+   *  by {@link String#isEmpty()}), or contains only
+   *  whitespace chars (checked by {@link String#isBlank()})
+   *  and throws if it is.
+   * @param val checked object
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void notBlank(String val, String template, int index) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NULL + '&' + NOT_BLANK, indexedName(template, index));
+    if ((val == null || val.isBlank()) && Validation.cheap())
+      throw violation(indexedName(template, index), val, NON_NULL + '&' + NOT_BLANK);
   }
 
   /**
@@ -112,8 +239,10 @@ public final class Ensure {
     if (val == null)
       return;
 
-    if (val.isBlank())
-      throw new IllegalArgumentException(fmtString(val, NOT_BLANK));
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NOT_BLANK, null);
+    if (val.isBlank() && Validation.cheap())
+      throw violation(null, val, NOT_BLANK);
   }
 
   /**
@@ -130,12 +259,32 @@ public final class Ensure {
     if (val == null)
       return;
 
-    if (argNameValid(argName)) {
-      if (val.isBlank())
-        throw new IllegalArgumentException(fmtString(argName, val, NOT_BLANK));
-    } else {
-      nullableNotBlank(val);
-    }
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NOT_BLANK, reported(argName));
+    if (val.isBlank() && Validation.cheap())
+      throw violation(reported(argName), val, NOT_BLANK);
+  }
+
+  /**
+   * Checks if the provided {@link String} has
+   *  {@code 0} length (checked by {@link String#isEmpty()}),
+   *  or contains only whitespace chars (checked by {@link
+   *  String#isBlank()}) and throws if it is.
+   * <p>{@code null}-{@link String} is considered valid.
+   * @param val checked object
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void nullableNotBlank(String val, String template, int index) {
+    if (val == null)
+      return;
+
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NOT_BLANK, indexedName(template, index));
+    if (val.isBlank() && Validation.cheap())
+      throw violation(indexedName(template, index), val, NOT_BLANK);
   }
 
   /**
@@ -152,6 +301,78 @@ public final class Ensure {
         notBlank(s);
   }
 
+  /**
+   * Applies {@link Ensure#notBlank(String)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#neitherBlank(String, String...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void neitherBlank(String val1, String val2, String val3) {
+    notBlank(val1);
+    notBlank(val2);
+    notBlank(val3);
+  }
+
+  /**
+   * Applies {@link Ensure#notBlank(String)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#neitherBlank(String, String...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void neitherBlank(String val1, String val2, String val3, String val4) {
+    notBlank(val1);
+    notBlank(val2);
+    notBlank(val3);
+    notBlank(val4);
+  }
+
+  /**
+   * Applies {@link Ensure#notBlank(String)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#neitherBlank(String, String...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void neitherBlank(String val1, String val2, String val3, String val4, String val5) {
+    notBlank(val1);
+    notBlank(val2);
+    notBlank(val3);
+    notBlank(val4);
+    notBlank(val5);
+  }
+
+  /**
+   * Applies {@link Ensure#notBlank(String)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#neitherBlank(String, String...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void neitherBlank(String val1, String val2, String val3, String val4, String val5, String val6) {
+    notBlank(val1);
+    notBlank(val2);
+    notBlank(val3);
+    notBlank(val4);
+    notBlank(val5);
+    notBlank(val6);
+  }
+
   /**
    * Applies {@link Ensure#nullableNotBlank(String)} to
    *  all of the provided objects.
@@ -166,6 +387,78 @@ public final class Ensure {
         nullableNotBlank(s);
   }
 
+  /**
+   * Applies {@link Ensure#nullableNotBlank(String)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#neitherNullableNotBlank(String, String...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void neitherNullableNotBlank(String val1, String val2, String val3) {
+    nullableNotBlank(val1);
+    nullableNotBlank(val2);
+    nullableNotBlank(val3);
+  }
+
+  /**
+   * Applies {@link Ensure#nullableNotBlank(String)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#neitherNullableNotBlank(String, String...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void neitherNullableNotBlank(String val1, String val2, String val3, String val4) {
+    nullableNotBlank(val1);
+    nullableNotBlank(val2);
+    nullableNotBlank(val3);
+    nullableNotBlank(val4);
+  }
+
+  /**
+   * Applies {@link Ensure#nullableNotBlank(String)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#neitherNullableNotBlank(String, String...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void neitherNullableNotBlank(String val1, String val2, String val3, String val4, String val5) {
+    nullableNotBlank(val1);
+    nullableNotBlank(val2);
+    nullableNotBlank(val3);
+    nullableNotBlank(val4);
+    nullableNotBlank(val5);
+  }
+
+  /**
+   * Applies {@link Ensure#nullableNotBlank(String)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#neitherNullableNotBlank(String, String...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void neitherNullableNotBlank(String val1, String val2, String val3, String val4, String val5, String val6) {
+    nullableNotBlank(val1);
+    nullableNotBlank(val2);
+    nullableNotBlank(val3);
+    nullableNotBlank(val4);
+    nullableNotBlank(val5);
+    nullableNotBlank(val6);
+  }
+
   // numerics
 
   /**
@@ -175,8 +468,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void isPositive(int val) {
-    if (val < 1)
-      throw new IllegalArgumentException(fmtInt(val, POSITIVE));
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, null);
+    if (val < 1 && Validation.cheap())
+      throw violation(null, val, POSITIVE);
   }
 
   /**
@@ -187,12 +482,26 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void isPositive(int val, String argName) {
-    if (argNameValid(argName)) {
-      if (val < 1)
-        throw new IllegalArgumentException(fmtInt(argName, val, POSITIVE));
-    } else {
-      isPositive(val);
-    }
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, reported(argName));
+    if (val < 1 && Validation.cheap())
+      throw violation(reported(argName), val, POSITIVE);
+  }
+
+  /**
+   * Checks if the provided {@code int} is
+   *  <b>positive</b> and throws if it is not.
+   * @param val value to check
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(int val, String template, int index) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, indexedName(template, index));
+    if (val < 1 && Validation.cheap())
+      throw violation(indexedName(template, index), val, POSITIVE);
   }
 
   /**
@@ -202,8 +511,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void isNonNegative(int val) {
-    if (val < 0)
-      throw new IllegalArgumentException(fmtInt(val, NON_NEG));
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, null);
+    if (val < 0 && Validation.cheap())
+      throw violation(null, val, NON_NEG);
   }
 
   /**
@@ -214,12 +525,26 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void isNonNegative(int val, String argName) {
-    if (argNameValid(argName)) {
-      if (val < 0)
-        throw new IllegalArgumentException(fmtInt(argName, val, NON_NEG));
-    } else {
-      isNonNegative(val);
-    }
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, reported(argName));
+    if (val < 0 && Validation.cheap())
+      throw violation(reported(argName), val, NON_NEG);
+  }
+
+  /**
+   * Checks if the provided {@code int} is
+   *  <b>non-negative</b> and throws if it is not.
+   * @param val value to check
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(int val, String template, int index) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, indexedName(template, index));
+    if (val < 0 && Validation.cheap())
+      throw violation(indexedName(template, index), val, NON_NEG);
   }
 
   /**
@@ -236,6 +561,91 @@ public final class Ensure {
         isPositive(i);
   }
 
+  /**
+   * Applies {@link Ensure#isPositive(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(int val1, int val2) {
+    isPositive(val1);
+    isPositive(val2);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(int val1, int val2, int val3) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(int val1, int val2, int val3, int val4) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(int val1, int val2, int val3, int val4, int val5) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+    isPositive(val5);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(int val1, int val2, int val3, int val4, int val5, int val6) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+    isPositive(val5);
+    isPositive(val6);
+  }
+
   /**
    * Applies {@link Ensure#isNonNegative(int)} to
    *  all of the provided objects.
@@ -250,6 +660,91 @@ public final class Ensure {
         isNonNegative(i);
   }
 
+  /**
+   * Applies {@link Ensure#isNonNegative(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(int val1, int val2) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(int val1, int val2, int val3) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(int val1, int val2, int val3, int val4) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(int val1, int val2, int val3, int val4, int val5) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+    isNonNegative(val5);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(int val1, int val2, int val3, int val4, int val5, int val6) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+    isNonNegative(val5);
+    isNonNegative(val6);
+  }
+
 
   /**
    * Checks if the provided {@code long} is
@@ -258,8 +753,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void isPositive(long val) {
-    if (val < 1)
-      throw new IllegalArgumentException(fmtLong(val, POSITIVE));
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, null);
+    if (val < 1 && Validation.cheap())
+      throw violation(null, val, POSITIVE);
   }
 
   /**
@@ -270,12 +767,26 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void isPositive(long val, String argName) {
-    if (argNameValid(argName)) {
-      if (val < 1)
-        throw new IllegalArgumentException(fmtLong(argName, val, POSITIVE));
-    } else {
-      isPositive(val);
-    }
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, reported(argName));
+    if (val < 1 && Validation.cheap())
+      throw violation(reported(argName), val, POSITIVE);
+  }
+
+  /**
+   * Checks if the provided {@code long} is
+   *  <b>positive</b> and throws if it is not.
+   * @param val value to check
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(long val, String template, int index) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, indexedName(template, index));
+    if (val < 1 && Validation.cheap())
+      throw violation(indexedName(template, index), val, POSITIVE);
   }
 
   /**
@@ -285,8 +796,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void isNonNegative(long val) {
-    if (val < 0)
-      throw new IllegalArgumentException(fmtLong(val, NON_NEG));
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, null);
+    if (val < 0 && Validation.cheap())
+      throw violation(null, val, NON_NEG);
   }
 
   /**
@@ -297,12 +810,26 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void isNonNegative(long val, String argName) {
-    if (argNameValid(argName)) {
-      if (val < 0)
-        throw new IllegalArgumentException(fmtLong(argName, val, NON_NEG));
-    } else {
-      isNonNegative(val);
-    }
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, reported(argName));
+    if (val < 0 && Validation.cheap())
+      throw violation(reported(argName), val, NON_NEG);
+  }
+
+  /**
+   * Checks if the provided {@code long} is
+   *  <b>non-negative</b> and throws if it is not.
+   * @param val value to check
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(long val, String template, int index) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, indexedName(template, index));
+    if (val < 0 && Validation.cheap())
+      throw violation(indexedName(template, index), val, NON_NEG);
   }
 
   /**
@@ -320,45 +847,231 @@ public final class Ensure {
   }
 
   /**
-   * Applies {@link Ensure#isNonNegative(long)} to
-   *  all of the provided objects.
-   * @param val first checked object
-   * @param other other checked objects as varargs
+   * Applies {@link Ensure#isPositive(long)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(long, long...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
    * @throws IllegalArgumentException if check fails
    */
-  public static void areNonNegative(long val, long... other) {
-    isNonNegative(val);
-    if (other != null)
-      for (long i : other)
-        isNonNegative(i);
+  public static void arePositive(long val1, long val2) {
+    isPositive(val1);
+    isPositive(val2);
   }
-  
 
   /**
-   * Checks if the provided {@code double} is
-   *  <b>positive</b> and throws if it is not.
-   * @param val value to check
+   * Applies {@link Ensure#isPositive(long)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(long, long...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
    * @throws IllegalArgumentException if check fails
    */
-  public static void isPositive(double val) {
-    if (val < 1)
-      throw new IllegalArgumentException(fmtDouble(val, POSITIVE));
+  public static void arePositive(long val1, long val2, long val3) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
   }
 
   /**
-   * Checks if the provided {@code double} is
-   *  <b>positive</b> and throws if it is not.
-   * @param val value to check
-   * @param argName name of the argument
+   * Applies {@link Ensure#isPositive(long)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(long, long...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
    * @throws IllegalArgumentException if check fails
    */
-  public static void isPositive(double val, String argName) {
-    if (argNameValid(argName)) {
-      if (val < 1)
-        throw new IllegalArgumentException(fmtDouble(argName, val, POSITIVE));
-    } else {
-      isPositive(val);
-    }
+  public static void arePositive(long val1, long val2, long val3, long val4) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(long)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(long, long...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(long val1, long val2, long val3, long val4, long val5) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+    isPositive(val5);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(long)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(long, long...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(long val1, long val2, long val3, long val4, long val5, long val6) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+    isPositive(val5);
+    isPositive(val6);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(long)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(long val, long... other) {
+    isNonNegative(val);
+    if (other != null)
+      for (long i : other)
+        isNonNegative(i);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(long)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(long, long...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(long val1, long val2) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(long)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(long, long...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(long val1, long val2, long val3) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(long)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(long, long...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(long val1, long val2, long val3, long val4) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(long)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(long, long...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(long val1, long val2, long val3, long val4, long val5) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+    isNonNegative(val5);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(long)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(long, long...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(long val1, long val2, long val3, long val4, long val5, long val6) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+    isNonNegative(val5);
+    isNonNegative(val6);
+  }
+  
+
+  /**
+   * Checks if the provided {@code double} is
+   *  <b>positive</b> and throws if it is not.
+   * @param val value to check
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(double val) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, null);
+    if (val < 1 && Validation.cheap())
+      throw violation(null, val, POSITIVE);
+  }
+
+  /**
+   * Checks if the provided {@code double} is
+   *  <b>positive</b> and throws if it is not.
+   * @param val value to check
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(double val, String argName) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, reported(argName));
+    if (val < 1 && Validation.cheap())
+      throw violation(reported(argName), val, POSITIVE);
+  }
+
+  /**
+   * Checks if the provided {@code double} is
+   *  <b>positive</b> and throws if it is not.
+   * @param val value to check
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(double val, String template, int index) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, indexedName(template, index));
+    if (val < 1 && Validation.cheap())
+      throw violation(indexedName(template, index), val, POSITIVE);
   }
 
   /**
@@ -368,8 +1081,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void isNonNegative(double val) {
-    if (val < 0)
-      throw new IllegalArgumentException(fmtDouble(val, NON_NEG));
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, null);
+    if (val < 0 && Validation.cheap())
+      throw violation(null, val, NON_NEG);
   }
 
   /**
@@ -380,12 +1095,26 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void isNonNegative(double val, String argName) {
-    if (argNameValid(argName)) {
-      if (val < 0)
-        throw new IllegalArgumentException(fmtDouble(argName, val, NON_NEG));
-    } else {
-      isNonNegative(val);
-    }
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, reported(argName));
+    if (val < 0 && Validation.cheap())
+      throw violation(reported(argName), val, NON_NEG);
+  }
+
+  /**
+   * Checks if the provided {@code double} is
+   *  <b>non-negative</b> and throws if it is not.
+   * @param val value to check
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(double val, String template, int index) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, indexedName(template, index));
+    if (val < 0 && Validation.cheap())
+      throw violation(indexedName(template, index), val, NON_NEG);
   }
 
   /**
@@ -402,184 +1131,1565 @@ public final class Ensure {
         isPositive(i);
   }
 
+  /**
+   * Applies {@link Ensure#isPositive(double)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(double, double...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(double val1, double val2) {
+    isPositive(val1);
+    isPositive(val2);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(double)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(double, double...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(double val1, double val2, double val3) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(double)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(double, double...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(double val1, double val2, double val3, double val4) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(double)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(double, double...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(double val1, double val2, double val3, double val4, double val5) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+    isPositive(val5);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(double)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(double, double...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(double val1, double val2, double val3, double val4, double val5, double val6) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+    isPositive(val5);
+    isPositive(val6);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(double)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(double val, double... other) {
+    isNonNegative(val);
+    if (other != null)
+      for (double i : other)
+        isNonNegative(i);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(double)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(double, double...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(double val1, double val2) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(double)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(double, double...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(double val1, double val2, double val3) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(double)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(double, double...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(double val1, double val2, double val3, double val4) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(double)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(double, double...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(double val1, double val2, double val3, double val4, double val5) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+    isNonNegative(val5);
+  }
+
   /**
    * Applies {@link Ensure#isNonNegative(double)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(double, double...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(double val1, double val2, double val3, double val4, double val5, double val6) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+    isNonNegative(val5);
+    isNonNegative(val6);
+  }
+
+
+  /**
+   * Checks if the provided {@code float} is
+   *  <b>positive</b> and throws if it is not.
+   * @param val value to check
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(float val) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, null);
+    if (val < 1 && Validation.cheap())
+      throw violation(null, val, POSITIVE);
+  }
+
+  /**
+   * Checks if the provided {@code float} is
+   *  <b>positive</b> and throws if it is not.
+   * @param val value to check
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(float val, String argName) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, reported(argName));
+    if (val < 1 && Validation.cheap())
+      throw violation(reported(argName), val, POSITIVE);
+  }
+
+  /**
+   * Checks if the provided {@code float} is
+   *  <b>positive</b> and throws if it is not.
+   * @param val value to check
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(float val, String template, int index) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, indexedName(template, index));
+    if (val < 1 && Validation.cheap())
+      throw violation(indexedName(template, index), val, POSITIVE);
+  }
+
+  /**
+   * Checks if the provided {@code float} is
+   *  <b>non-negative</b> and throws if it is not.
+   * @param val value to check
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(float val) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, null);
+    if (val < 0 && Validation.cheap())
+      throw violation(null, val, NON_NEG);
+  }
+
+  /**
+   * Checks if the provided {@code float} is
+   *  <b>non-negative</b> and throws if it is not.
+   * @param val value to check
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(float val, String argName) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, reported(argName));
+    if (val < 0 && Validation.cheap())
+      throw violation(reported(argName), val, NON_NEG);
+  }
+
+  /**
+   * Checks if the provided {@code float} is
+   *  <b>non-negative</b> and throws if it is not.
+   * @param val value to check
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(float val, String template, int index) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, indexedName(template, index));
+    if (val < 0 && Validation.cheap())
+      throw violation(indexedName(template, index), val, NON_NEG);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(float)} to
    *  all of the provided objects.
    * @param val first checked object
    * @param other other checked objects as varargs
    * @throws IllegalArgumentException if check fails
    */
-  public static void areNonNegative(double val, double... other) {
-    isNonNegative(val);
-    if (other != null)
-      for (double i : other)
-        isNonNegative(i);
+  public static void arePositive(float val, float... other) {
+    isPositive(val);
+    if (other != null)
+      for (float i : other)
+        isPositive(i);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(float)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(float, float...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(float val1, float val2) {
+    isPositive(val1);
+    isPositive(val2);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(float)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(float, float...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(float val1, float val2, float val3) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(float)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(float, float...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(float val1, float val2, float val3, float val4) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(float)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(float, float...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(float val1, float val2, float val3, float val4, float val5) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+    isPositive(val5);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(float)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(float, float...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(float val1, float val2, float val3, float val4, float val5, float val6) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+    isPositive(val5);
+    isPositive(val6);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(float)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(float val, float... other) {
+    isNonNegative(val);
+    if (other != null)
+      for (float i : other)
+        isNonNegative(i);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(float)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(float, float...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(float val1, float val2) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(float)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(float, float...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(float val1, float val2, float val3) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(float)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(float, float...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(float val1, float val2, float val3, float val4) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(float)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(float, float...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(float val1, float val2, float val3, float val4, float val5) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+    isNonNegative(val5);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(float)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(float, float...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(float val1, float val2, float val3, float val4, float val5, float val6) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+    isNonNegative(val5);
+    isNonNegative(val6);
+  }
+  
+
+  /**
+   * Checks if the provided {@code short} is
+   *  <b>positive</b> and throws if it is not.
+   * @param val value to check
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(short val) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, null);
+    if (val < 1 && Validation.cheap())
+      throw violation(null, val, POSITIVE);
+  }
+
+  /**
+   * Checks if the provided {@code short} is
+   *  <b>positive</b> and throws if it is not.
+   * @param val value to check
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(short val, String argName) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, reported(argName));
+    if (val < 1 && Validation.cheap())
+      throw violation(reported(argName), val, POSITIVE);
+  }
+
+  /**
+   * Checks if the provided {@code short} is
+   *  <b>positive</b> and throws if it is not.
+   * @param val value to check
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(short val, String template, int index) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(POSITIVE, indexedName(template, index));
+    if (val < 1 && Validation.cheap())
+      throw violation(indexedName(template, index), val, POSITIVE);
+  }
+
+  /**
+   * Checks if the provided {@code short} is
+   *  <b>non-negative</b> and throws if it is not.
+   * @param val value to check
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(short val) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, null);
+    if (val < 0 && Validation.cheap())
+      throw violation(null, val, NON_NEG);
+  }
+
+  /**
+   * Checks if the provided {@code short} is
+   *  <b>non-negative</b> and throws if it is not.
+   * @param val value to check
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(short val, String argName) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, reported(argName));
+    if (val < 0 && Validation.cheap())
+      throw violation(reported(argName), val, NON_NEG);
+  }
+
+  /**
+   * Checks if the provided {@code short} is
+   *  <b>non-negative</b> and throws if it is not.
+   * @param val value to check
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(short val, String template, int index) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NEG, indexedName(template, index));
+    if (val < 0 && Validation.cheap())
+      throw violation(indexedName(template, index), val, NON_NEG);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(short)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(short val, short... other) {
+    isPositive(val);
+    if (other != null)
+      for (short i : other)
+        isPositive(i);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(short)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(short, short...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(short val1, short val2) {
+    isPositive(val1);
+    isPositive(val2);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(short)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(short, short...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(short val1, short val2, short val3) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(short)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(short, short...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(short val1, short val2, short val3, short val4) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(short)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(short, short...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(short val1, short val2, short val3, short val4, short val5) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+    isPositive(val5);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(short)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#arePositive(short, short...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void arePositive(short val1, short val2, short val3, short val4, short val5, short val6) {
+    isPositive(val1);
+    isPositive(val2);
+    isPositive(val3);
+    isPositive(val4);
+    isPositive(val5);
+    isPositive(val6);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(short)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(short val, short... other) {
+    isNonNegative(val);
+    if (other != null)
+      for (short i : other)
+        isNonNegative(i);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(short)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(short, short...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(short val1, short val2) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(short)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(short, short...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(short val1, short val2, short val3) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(short)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(short, short...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(short val1, short val2, short val3, short val4) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(short)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(short, short...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(short val1, short val2, short val3, short val4, short val5) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+    isNonNegative(val5);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(short)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areNonNegative(short, short...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areNonNegative(short val1, short val2, short val3, short val4, short val5, short val6) {
+    isNonNegative(val1);
+    isNonNegative(val2);
+    isNonNegative(val3);
+    isNonNegative(val4);
+    isNonNegative(val5);
+    isNonNegative(val6);
+  }
+
+
+  // arrays
+
+  /**
+   * Checks if every element of the provided {@code int}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(int)}
+   *  to each element.
+   * @param val array to check
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allPositive(int[] val) {
+    allPositive(val, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code int}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(int)}
+   *  to each element.
+   * @param val array to check
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allPositive(int[] val, String argName) {
+    allPositive(val, 0, val == null ? 0 : val.length, argName);
+  }
+
+  /**
+   * Checks if every element of the provided {@code int}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(int)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allPositive(int[] val, int from, int to) {
+    allPositive(val, from, to, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code int}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(int)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allPositive(int[] val, int from, int to, String argName) {
+    notNull(val, argName);
+    if (!Validation.full())
+      return;
+    Objects.checkFromToIndex(from, to, val.length);
+    if (Metrics.countsChecks())
+      Metrics.checked(POSITIVE, elementName(argName, 0), to - from);
+    int i = ArrayScan.firstBelow(val, from, to, 1);
+    if (i >= 0)
+      throw violation(elementName(argName, i), val[i], POSITIVE);
+  }
+
+  /**
+   * Checks if every element of the provided {@code int}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(int)}
+   *  to each element.
+   * @param val array to check
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allNonNegative(int[] val) {
+    allNonNegative(val, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code int}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(int)}
+   *  to each element.
+   * @param val array to check
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allNonNegative(int[] val, String argName) {
+    allNonNegative(val, 0, val == null ? 0 : val.length, argName);
+  }
+
+  /**
+   * Checks if every element of the provided {@code int}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(int)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allNonNegative(int[] val, int from, int to) {
+    allNonNegative(val, from, to, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code int}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(int)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allNonNegative(int[] val, int from, int to, String argName) {
+    notNull(val, argName);
+    if (!Validation.full())
+      return;
+    Objects.checkFromToIndex(from, to, val.length);
+    if (Metrics.countsChecks())
+      Metrics.checked(NON_NEG, elementName(argName, 0), to - from);
+    int i = ArrayScan.firstBelow(val, from, to, 0);
+    if (i >= 0)
+      throw violation(elementName(argName, i), val[i], NON_NEG);
+  }
+
+
+  /**
+   * Checks if every element of the provided {@code long}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(long)}
+   *  to each element.
+   * @param val array to check
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allPositive(long[] val) {
+    allPositive(val, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code long}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(long)}
+   *  to each element.
+   * @param val array to check
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allPositive(long[] val, String argName) {
+    allPositive(val, 0, val == null ? 0 : val.length, argName);
+  }
+
+  /**
+   * Checks if every element of the provided {@code long}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(long)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allPositive(long[] val, int from, int to) {
+    allPositive(val, from, to, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code long}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(long)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allPositive(long[] val, int from, int to, String argName) {
+    notNull(val, argName);
+    if (!Validation.full())
+      return;
+    Objects.checkFromToIndex(from, to, val.length);
+    if (Metrics.countsChecks())
+      Metrics.checked(POSITIVE, elementName(argName, 0), to - from);
+    int i = ArrayScan.firstBelow(val, from, to, 1);
+    if (i >= 0)
+      throw violation(elementName(argName, i), val[i], POSITIVE);
+  }
+
+  /**
+   * Checks if every element of the provided {@code long}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(long)}
+   *  to each element.
+   * @param val array to check
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allNonNegative(long[] val) {
+    allNonNegative(val, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code long}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(long)}
+   *  to each element.
+   * @param val array to check
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allNonNegative(long[] val, String argName) {
+    allNonNegative(val, 0, val == null ? 0 : val.length, argName);
+  }
+
+  /**
+   * Checks if every element of the provided {@code long}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(long)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allNonNegative(long[] val, int from, int to) {
+    allNonNegative(val, from, to, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code long}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(long)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allNonNegative(long[] val, int from, int to, String argName) {
+    notNull(val, argName);
+    if (!Validation.full())
+      return;
+    Objects.checkFromToIndex(from, to, val.length);
+    if (Metrics.countsChecks())
+      Metrics.checked(NON_NEG, elementName(argName, 0), to - from);
+    int i = ArrayScan.firstBelow(val, from, to, 0);
+    if (i >= 0)
+      throw violation(elementName(argName, i), val[i], NON_NEG);
+  }
+
+
+  /**
+   * Checks if every element of the provided {@code double}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(double)}
+   *  to each element.
+   * @param val array to check
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allPositive(double[] val) {
+    allPositive(val, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code double}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(double)}
+   *  to each element.
+   * @param val array to check
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allPositive(double[] val, String argName) {
+    allPositive(val, 0, val == null ? 0 : val.length, argName);
+  }
+
+  /**
+   * Checks if every element of the provided {@code double}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(double)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allPositive(double[] val, int from, int to) {
+    allPositive(val, from, to, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code double}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(double)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allPositive(double[] val, int from, int to, String argName) {
+    notNull(val, argName);
+    if (!Validation.full())
+      return;
+    Objects.checkFromToIndex(from, to, val.length);
+    if (Metrics.countsChecks())
+      Metrics.checked(POSITIVE, elementName(argName, 0), to - from);
+    int i = ArrayScan.firstBelow(val, from, to, 1);
+    if (i >= 0)
+      throw violation(elementName(argName, i), val[i], POSITIVE);
+  }
+
+  /**
+   * Checks if every element of the provided {@code double}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(double)}
+   *  to each element.
+   * @param val array to check
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allNonNegative(double[] val) {
+    allNonNegative(val, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code double}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(double)}
+   *  to each element.
+   * @param val array to check
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allNonNegative(double[] val, String argName) {
+    allNonNegative(val, 0, val == null ? 0 : val.length, argName);
+  }
+
+  /**
+   * Checks if every element of the provided {@code double}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(double)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allNonNegative(double[] val, int from, int to) {
+    allNonNegative(val, from, to, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code double}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(double)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allNonNegative(double[] val, int from, int to, String argName) {
+    notNull(val, argName);
+    if (!Validation.full())
+      return;
+    Objects.checkFromToIndex(from, to, val.length);
+    if (Metrics.countsChecks())
+      Metrics.checked(NON_NEG, elementName(argName, 0), to - from);
+    int i = ArrayScan.firstBelow(val, from, to, 0);
+    if (i >= 0)
+      throw violation(elementName(argName, i), val[i], NON_NEG);
+  }
+
+
+  /**
+   * Checks if every element of the provided {@code float}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(float)}
+   *  to each element.
+   * @param val array to check
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allPositive(float[] val) {
+    allPositive(val, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code float}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(float)}
+   *  to each element.
+   * @param val array to check
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allPositive(float[] val, String argName) {
+    allPositive(val, 0, val == null ? 0 : val.length, argName);
+  }
+
+  /**
+   * Checks if every element of the provided {@code float}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(float)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allPositive(float[] val, int from, int to) {
+    allPositive(val, from, to, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code float}
+   *  array is <b>positive</b> and throws if it is not;
+   *  same as applying {@link Ensure#isPositive(float)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allPositive(float[] val, int from, int to, String argName) {
+    notNull(val, argName);
+    if (!Validation.full())
+      return;
+    Objects.checkFromToIndex(from, to, val.length);
+    if (Metrics.countsChecks())
+      Metrics.checked(POSITIVE, elementName(argName, 0), to - from);
+    int i = ArrayScan.firstBelow(val, from, to, 1);
+    if (i >= 0)
+      throw violation(elementName(argName, i), val[i], POSITIVE);
+  }
+
+
+  /**
+   * Checks if every element of the provided {@code float}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(float)}
+   *  to each element.
+   * @param val array to check
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allNonNegative(float[] val) {
+    allNonNegative(val, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code float}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(float)}
+   *  to each element.
+   * @param val array to check
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void allNonNegative(float[] val, String argName) {
+    allNonNegative(val, 0, val == null ? 0 : val.length, argName);
+  }
+
+  /**
+   * Checks if every element of the provided {@code float}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(float)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allNonNegative(float[] val, int from, int to) {
+    allNonNegative(val, from, to, null);
+  }
+
+  /**
+   * Checks if every element of the provided {@code float}
+   *  array is <b>non-negative</b> and throws if it is not;
+   *  same as applying {@link Ensure#isNonNegative(float)}
+   *  to each element.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void allNonNegative(float[] val, int from, int to, String argName) {
+    notNull(val, argName);
+    if (!Validation.full())
+      return;
+    Objects.checkFromToIndex(from, to, val.length);
+    if (Metrics.countsChecks())
+      Metrics.checked(NON_NEG, elementName(argName, 0), to - from);
+    int i = ArrayScan.firstBelow(val, from, to, 0);
+    if (i >= 0)
+      throw violation(elementName(argName, i), val[i], NON_NEG);
   }
 
 
   /**
-   * Checks if the provided {@code float} is
-   *  <b>positive</b> and throws if it is not.
-   * @param val value to check
+   * Checks if every element of the provided {@code double}
+   *  array is <b>finite</b>, i.e. neither infinite nor
+   *  {@code NaN}, and throws if it is not.
+   * @param val array to check
    * @throws IllegalArgumentException if check fails
    */
-  public static void isPositive(float val) {
-    if (val < 1)
-      throw new IllegalArgumentException(fmtFloat(val, POSITIVE));
+  public static void allFinite(double[] val) {
+    allFinite(val, null);
   }
 
   /**
-   * Checks if the provided {@code float} is
-   *  <b>positive</b> and throws if it is not.
-   * @param val value to check
+   * Checks if every element of the provided {@code double}
+   *  array is <b>finite</b>, i.e. neither infinite nor
+   *  {@code NaN}, and throws if it is not.
+   * @param val array to check
    * @param argName name of the argument
    * @throws IllegalArgumentException if check fails
    */
-  public static void isPositive(float val, String argName) {
-    if (argNameValid(argName)) {
-      if (val < 1)
-        throw new IllegalArgumentException(fmtFloat(argName, val, POSITIVE));
-    } else {
-      isPositive(val);
-    }
+  public static void allFinite(double[] val, String argName) {
+    allFinite(val, 0, val == null ? 0 : val.length, argName);
   }
 
   /**
-   * Checks if the provided {@code float} is
-   *  <b>non-negative</b> and throws if it is not.
-   * @param val value to check
+   * Checks if every element of the provided {@code double}
+   *  array is <b>finite</b>, i.e. neither infinite nor
+   *  {@code NaN}, and throws if it is not.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
    * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
    */
-  public static void isNonNegative(float val) {
-    if (val < 0)
-      throw new IllegalArgumentException(fmtFloat(val, NON_NEG));
+  public static void allFinite(double[] val, int from, int to) {
+    allFinite(val, from, to, null);
   }
 
   /**
-   * Checks if the provided {@code float} is
-   *  <b>non-negative</b> and throws if it is not.
-   * @param val value to check
+   * Checks if every element of the provided {@code double}
+   *  array is <b>finite</b>, i.e. neither infinite nor
+   *  {@code NaN}, and throws if it is not.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
    * @param argName name of the argument
    * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
    */
-  public static void isNonNegative(float val, String argName) {
-    if (argNameValid(argName)) {
-      if (val < 0)
-        throw new IllegalArgumentException(fmtFloat(argName, val, NON_NEG));
-    } else {
-      isNonNegative(val);
-    }
+  public static void allFinite(double[] val, int from, int to, String argName) {
+    notNull(val, argName);
+    if (!Validation.full())
+      return;
+    Objects.checkFromToIndex(from, to, val.length);
+    if (Metrics.countsChecks())
+      Metrics.checked(FINITE, elementName(argName, 0), to - from);
+    int i = ArrayScan.firstNonFinite(val, from, to);
+    if (i >= 0)
+      throw violation(elementName(argName, i), val[i], FINITE);
   }
 
   /**
-   * Applies {@link Ensure#isPositive(float)} to
-   *  all of the provided objects.
-   * @param val first checked object
-   * @param other other checked objects as varargs
+   * Checks if every element of the provided {@code float}
+   *  array is <b>finite</b>, i.e. neither infinite nor
+   *  {@code NaN}, and throws if it is not.
+   * @param val array to check
    * @throws IllegalArgumentException if check fails
    */
-  public static void arePositive(float val, float... other) {
-    isPositive(val);
-    if (other != null)
-      for (float i : other)
-        isPositive(i);
+  public static void allFinite(float[] val) {
+    allFinite(val, null);
   }
 
   /**
-   * Applies {@link Ensure#isNonNegative(float)} to
-   *  all of the provided objects.
-   * @param val first checked object
-   * @param other other checked objects as varargs
+   * Checks if every element of the provided {@code float}
+   *  array is <b>finite</b>, i.e. neither infinite nor
+   *  {@code NaN}, and throws if it is not.
+   * @param val array to check
+   * @param argName name of the argument
    * @throws IllegalArgumentException if check fails
    */
-  public static void areNonNegative(float val, float... other) {
-    isNonNegative(val);
-    if (other != null)
-      for (float i : other)
-        isNonNegative(i);
+  public static void allFinite(float[] val, String argName) {
+    allFinite(val, 0, val == null ? 0 : val.length, argName);
   }
-  
 
   /**
-   * Checks if the provided {@code short} is
-   *  <b>positive</b> and throws if it is not.
-   * @param val value to check
+   * Checks if every element of the provided {@code float}
+   *  array is <b>finite</b>, i.e. neither infinite nor
+   *  {@code NaN}, and throws if it is not.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
    * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
    */
-  public static void isPositive(short val) {
-    if (val < 1)
-      throw new IllegalArgumentException(fmtShort(val, POSITIVE));
+  public static void allFinite(float[] val, int from, int to) {
+    allFinite(val, from, to, null);
   }
 
   /**
-   * Checks if the provided {@code short} is
-   *  <b>positive</b> and throws if it is not.
-   * @param val value to check
+   * Checks if every element of the provided {@code float}
+   *  array is <b>finite</b>, i.e. neither infinite nor
+   *  {@code NaN}, and throws if it is not.
+   * <p>Only checks the elements in {@code [from;to)}.
+   * @param val array to check
+   * @param from first checked index, inclusive
+   * @param to last checked index, exclusive
    * @param argName name of the argument
    * @throws IllegalArgumentException if check fails
+   * @throws IndexOutOfBoundsException if the range is out of bounds
    */
-  public static void isPositive(short val, String argName) {
-    if (argNameValid(argName)) {
-      if (val < 1)
-        throw new IllegalArgumentException(fmtShort(argName, val, POSITIVE));
-    } else {
-      isPositive(val);
-    }
+  public static void allFinite(float[] val, int from, int to, String argName) {
+    notNull(val, argName);
+    if (!Validation.full())
+      return;
+    Objects.checkFromToIndex(from, to, val.length);
+    if (Metrics.countsChecks())
+      Metrics.checked(FINITE, elementName(argName, 0), to - from);
+    int i = ArrayScan.firstNonFinite(val, from, to);
+    if (i >= 0)
+      throw violation(elementName(argName, i), val[i], FINITE);
   }
 
+
+  // elements
+
   /**
-   * Checks if the provided {@code short} is
-   *  <b>non-negative</b> and throws if it is not.
-   * @param val value to check
+   * Checks a field of every element of the provided
+   *  {@link Iterable} and throws on the first element that
+   *  is {@code null} or whose extracted {@code int} fails
+   *  the {@code rule}, e.g.:
+   * <pre>{@code
+   * Ensure.eachInt(orders, Order::quantity, IntRule.POSITIVE, "orders");
+   * }</pre>
+   * <p>The failing element is reported as {@code argName[index]}.
+   *  {@link RandomAccess} lists are traversed by index; no
+   *  values are boxed unless the check fails.
+   * @param val checked elements
+   * @param extractor extracts the checked value from an element
+   * @param rule applied rule, e.g. {@link IntRule#POSITIVE}
+   * @param argName name of the argument
+   * @param <T> element type
    * @throws IllegalArgumentException if check fails
    */
-  public static void isNonNegative(short val) {
-    if (val < 0)
-      throw new IllegalArgumentException(fmtShort(val, NON_NEG));
+  public static <T> void eachInt(Iterable<? extends T> val, ToIntFunction<? super T> extractor,
+                                 IntRule rule, String argName) {
+    notNull(val, argName);
+    notNull(extractor, "extractor");
+    notNull(rule, "rule");
+    if (!Validation.full())
+      return;
+    if (val instanceof List && val instanceof RandomAccess) {
+      List<? extends T> list = (List<? extends T>) val;
+      for (int i = 0, size = list.size(); i < size; i++)
+        eachInt(list.get(i), i, extractor, rule, argName);
+    } else {
+      int i = 0;
+      for (T element : val)
+        eachInt(element, i++, extractor, rule, argName);
+    }
   }
 
   /**
-   * Checks if the provided {@code short} is
-   *  <b>non-negative</b> and throws if it is not.
-   * @param val value to check
+   * Checks a field of every element of the provided
+   *  {@link Iterable} and throws on the first element that
+   *  is {@code null} or whose extracted {@code long} fails
+   *  the {@code rule}, e.g.:
+   * <pre>{@code
+   * Ensure.eachLong(orders, Order::quantity, LongRule.POSITIVE, "orders");
+   * }</pre>
+   * <p>The failing element is reported as {@code argName[index]}.
+   *  {@link RandomAccess} lists are traversed by index; no
+   *  values are boxed unless the check fails.
+   * @param val checked elements
+   * @param extractor extracts the checked value from an element
+   * @param rule applied rule, e.g. {@link LongRule#POSITIVE}
    * @param argName name of the argument
+   * @param <T> element type
    * @throws IllegalArgumentException if check fails
    */
-  public static void isNonNegative(short val, String argName) {
-    if (argNameValid(argName)) {
-      if (val < 0)
-        throw new IllegalArgumentException(fmtShort(argName, val, NON_NEG));
+  public static <T> void eachLong(Iterable<? extends T> val, ToLongFunction<? super T> extractor,
+                                  LongRule rule, String argName) {
+    notNull(val, argName);
+    notNull(extractor, "extractor");
+    notNull(rule, "rule");
+    if (!Validation.full())
+      return;
+    if (val instanceof List && val instanceof RandomAccess) {
+      List<? extends T> list = (List<? extends T>) val;
+      for (int i = 0, size = list.size(); i < size; i++)
+        eachLong(list.get(i), i, extractor, rule, argName);
     } else {
-      isNonNegative(val);
+      int i = 0;
+      for (T element : val)
+        eachLong(element, i++, extractor, rule, argName);
     }
   }
 
   /**
-   * Applies {@link Ensure#isPositive(short)} to
-   *  all of the provided objects.
-   * @param val first checked object
-   * @param other other checked objects as varargs
+   * Checks a field of every element of the provided
+   *  {@link Iterable} and throws on the first element that
+   *  is {@code null} or whose extracted {@code double} fails
+   *  the {@code rule}, e.g.:
+   * <pre>{@code
+   * Ensure.eachDouble(orders, Order::quantity, DoubleRule.POSITIVE, "orders");
+   * }</pre>
+   * <p>The failing element is reported as {@code argName[index]}.
+   *  {@link RandomAccess} lists are traversed by index; no
+   *  values are boxed unless the check fails.
+   * @param val checked elements
+   * @param extractor extracts the checked value from an element
+   * @param rule applied rule, e.g. {@link DoubleRule#POSITIVE}
+   * @param argName name of the argument
+   * @param <T> element type
    * @throws IllegalArgumentException if check fails
    */
-  public static void arePositive(short val, short... other) {
-    isPositive(val);
-    if (other != null)
-      for (short i : other)
-        isPositive(i);
+  public static <T> void eachDouble(Iterable<? extends T> val, ToDoubleFunction<? super T> extractor,
+                                    DoubleRule rule, String argName) {
+    notNull(val, argName);
+    notNull(extractor, "extractor");
+    notNull(rule, "rule");
+    if (!Validation.full())
+      return;
+    if (val instanceof List && val instanceof RandomAccess) {
+      List<? extends T> list = (List<? extends T>) val;
+      for (int i = 0, size = list.size(); i < size; i++)
+        eachDouble(list.get(i), i, extractor, rule, argName);
+    } else {
+      int i = 0;
+      for (T element : val)
+        eachDouble(element, i++, extractor, rule, argName);
+    }
   }
 
   /**
-   * Applies {@link Ensure#isNonNegative(short)} to
-   *  all of the provided objects.
-   * @param val first checked object
-   * @param other other checked objects as varargs
+   * Checks a field of every element of the provided
+   *  {@link Iterable} and throws on the first element that
+   *  is {@code null} or whose extracted value fails the
+   *  {@code rule}, e.g.:
+   * <pre>{@code
+   * Ensure.each(orders, Order::sku, Check::notBlank, "orders");
+   * }</pre>
+   * <p>The failing element is reported as {@code argName[index]}.
+   *  {@link RandomAccess} lists are traversed by index.
+   * @param val checked elements
+   * @param extractor extracts the checked value from an element
+   * @param rule applied rule, e.g. {@code Check::notBlank}
+   * @param argName name of the argument
+   * @param <T> element type
+   * @param <R> checked value type
    * @throws IllegalArgumentException if check fails
    */
-  public static void areNonNegative(short val, short... other) {
-    isNonNegative(val);
-    if (other != null)
-      for (short i : other)
-        isNonNegative(i);
+  public static <T, R> void each(Iterable<? extends T> val, Function<? super T, ? extends R> extractor,
+                                 Rule<? super R> rule, String argName) {
+    notNull(val, argName);
+    notNull(extractor, "extractor");
+    notNull(rule, "rule");
+    if (!Validation.full())
+      return;
+    if (val instanceof List && val instanceof RandomAccess) {
+      List<? extends T> list = (List<? extends T>) val;
+      for (int i = 0, size = list.size(); i < size; i++)
+        each(list.get(i), i, extractor, rule, argName);
+    } else {
+      int i = 0;
+      for (T element : val)
+        each(element, i++, extractor, rule, argName);
+    }
   }
 
 
@@ -593,9 +2703,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void notEmpty(Collection<?> val) {
-    if (val == null || val.isEmpty())
-      throw new IllegalArgumentException(MESSAGE_START + EXPECT_DECL +
-              NON_NULL + '&' + NOT_EMPTY + SEP + VAL_DECL + "false");
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NULL + '&' + NOT_EMPTY, null);
+    if ((val == null || val.isEmpty()) && Validation.cheap())
+      throw emptyViolation(null);
   }
 
   /**
@@ -607,13 +2718,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void notEmpty(Collection<?> val, String argName) {
-    if (argNameValid(argName)) {
-      if (val == null || val.isEmpty())
-        throw new IllegalArgumentException(MESSAGE_START + NAME_DECL + argName +
-                SEP + EXPECT_DECL + NON_NULL + '&' + NOT_EMPTY + SEP + VAL_DECL + "false");
-    } else {
-      notEmpty(val);
-    }
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NULL + '&' + NOT_EMPTY, reported(argName));
+    if ((val == null || val.isEmpty()) && Validation.cheap())
+      throw emptyViolation(reported(argName));
   }
 
   /**
@@ -625,10 +2733,10 @@ public final class Ensure {
    */
   public static void deepNotEmpty(Collection<?> val) {
     notEmpty(val);
-    for (Object o : val)
-      if (o == null)
-        throw new IllegalArgumentException(MESSAGE_START + EXPECT_DECL + ALL_NON_NULL
-                + SEP + VAL_DECL + "false");
+    if (Metrics.countsChecks() && Validation.full())
+      Metrics.checked(ALL_NON_NULL, null);
+    if (Validation.full() && DeepScan.hasNull(val, null))
+      throw elementViolation(null);
   }
 
   /**
@@ -642,18 +2750,35 @@ public final class Ensure {
   public static void deepNotEmpty(Collection<?> val, String argName) {
     if (argNameValid(argName)) {
       notEmpty(val, argName);
-      for (Object o : val)
-        if (o == null) {
-          throw new IllegalArgumentException(MESSAGE_START
-                  + "elementOf=" + argName
-                  + SEP + EXPECT_DECL + ALL_NON_NULL
-                  + SEP + VAL_DECL + "false");
-        }
+      if (Metrics.countsChecks() && Validation.full())
+        Metrics.checked(ALL_NON_NULL, argName);
+      if (Validation.full() && DeepScan.hasNull(val, null))
+        throw elementViolation(argName);
     } else {
       deepNotEmpty(val);
     }
   }
 
+  /**
+   * Checks if the provided {@link Collection} is neither
+   *  {@code null} nor empty (checked by {@link Collection#isEmpty()}),
+   *  nor any of its element is {@code null} and throws if it is.
+   * <p>Large containers are scanned in parallel on the provided
+   *  pool, see {@link DeepScan}.
+   * @param val checked object
+   * @param argName name of the argument
+   * @param pool pool for parallel scans or {@code null} for
+   *             the {@link ForkJoinPool#commonPool()}
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void deepNotEmpty(Collection<?> val, String argName, ForkJoinPool pool) {
+    notEmpty(val, argName);
+    if (Metrics.countsChecks() && Validation.full())
+      Metrics.checked(ALL_NON_NULL, reported(argName));
+    if (Validation.full() && DeepScan.hasNull(val, pool))
+      throw elementViolation(reported(argName));
+  }
+
 
   /**
    * Checks if the provided {@link Iterable} is neither
@@ -662,9 +2787,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void notEmpty(Iterable<?> val) {
-    if (val == null || !val.iterator().hasNext())
-      throw new IllegalArgumentException(MESSAGE_START + EXPECT_DECL +
-              NON_NULL + '&' + NOT_EMPTY + SEP + VAL_DECL + "false");
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NULL + '&' + NOT_EMPTY, null);
+    if (isEmpty(val) && Validation.cheap())
+      throw emptyViolation(null);
   }
 
   /**
@@ -675,13 +2801,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void notEmpty(Iterable<?> val, String argName) {
-    if (argNameValid(argName)) {
-      if (val == null || !val.iterator().hasNext())
-        throw new IllegalArgumentException(MESSAGE_START + NAME_DECL + argName +
-                SEP + EXPECT_DECL + NON_NULL + '&' + NOT_EMPTY + SEP + VAL_DECL + "false");
-    } else {
-      notEmpty(val);
-    }
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NULL + '&' + NOT_EMPTY, reported(argName));
+    if (isEmpty(val) && Validation.cheap())
+      throw emptyViolation(reported(argName));
   }
 
   /**
@@ -692,11 +2815,7 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void deepNotEmpty(Iterable<?> val) {
-    notEmpty(val);
-    for (Object o : val)
-      if (o == null)
-        throw new IllegalArgumentException(MESSAGE_START + EXPECT_DECL + ALL_NON_NULL
-                + SEP + VAL_DECL + "false");
+    deepNotEmpty(val, null, null);
   }
 
   /**
@@ -708,18 +2827,31 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void deepNotEmpty(Iterable<?> val, String argName) {
-    if (argNameValid(argName)) {
+    deepNotEmpty(val, argName, null);
+  }
+
+  /**
+   * Checks if the provided {@link Iterable} is neither
+   *  {@code null} nor empty, nor any of its element is
+   *  {@code null} and throws if it is.
+   * <p>Large containers are scanned in parallel on the provided
+   *  pool, see {@link DeepScan}.
+   * @param val checked object
+   * @param argName name of the argument
+   * @param pool pool for parallel scans or {@code null} for
+   *             the {@link ForkJoinPool#commonPool()}
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void deepNotEmpty(Iterable<?> val, String argName, ForkJoinPool pool) {
+    if (!Validation.full()) {
       notEmpty(val, argName);
-      for (Object o : val)
-        if (o == null) {
-          throw new IllegalArgumentException(MESSAGE_START
-                  + "elementOf=" + argName
-                  + SEP + EXPECT_DECL + ALL_NON_NULL
-                  + SEP + VAL_DECL + "false");
-        }
-    } else {
-      deepNotEmpty(val);
+      return;
     }
+    if (Metrics.countsChecks())
+      Metrics.checked(null, reported(argName));
+    int code = DeepScan.check(val, pool);
+    if (code != Check.OK)
+      throw Check.violation(code, null, argName);
   }
 
 
@@ -731,9 +2863,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void notEmpty(Map<?, ?> val) {
-    if (val == null || val.isEmpty())
-      throw new IllegalArgumentException(MESSAGE_START + EXPECT_DECL +
-              NON_NULL + '&' + NOT_EMPTY + SEP + VAL_DECL + "false");
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NULL + '&' + NOT_EMPTY, null);
+    if ((val == null || val.isEmpty()) && Validation.cheap())
+      throw emptyViolation(null);
   }
 
   /**
@@ -745,13 +2878,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void notEmpty(Map<?, ?> val, String argName) {
-    if (argNameValid(argName)) {
-      if (val == null || val.isEmpty())
-        throw new IllegalArgumentException(MESSAGE_START + NAME_DECL + argName +
-                SEP + EXPECT_DECL + NON_NULL + '&' + NOT_EMPTY + SEP + VAL_DECL + "false");
-    } else {
-      notEmpty(val);
-    }
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(NON_NULL + '&' + NOT_EMPTY, reported(argName));
+    if ((val == null || val.isEmpty()) && Validation.cheap())
+      throw emptyViolation(reported(argName));
   }
 
   /**
@@ -763,10 +2893,10 @@ public final class Ensure {
    */
   public static void deepNotEmpty(Map<?, ?> val) {
     notEmpty(val);
-    for (Map.Entry<?, ?> entry : val.entrySet())
-      if (entry.getKey() == null)
-        throw new IllegalArgumentException(MESSAGE_START + EXPECT_DECL + ALL_NON_NULL
-                + SEP + VAL_DECL + "false");
+    if (Metrics.countsChecks() && Validation.full())
+      Metrics.checked(ALL_NON_NULL, null);
+    if (Validation.full() && DeepScan.hasNullKey(val, null))
+      throw elementViolation(null);
   }
 
   /**
@@ -780,18 +2910,35 @@ public final class Ensure {
   public static void deepNotEmpty(Map<?, ?> val, String argName) {
     if (argNameValid(argName)) {
       notEmpty(val, argName);
-      for (Map.Entry<?, ?> entry : val.entrySet())
-        if (entry.getKey() == null) {
-          throw new IllegalArgumentException(MESSAGE_START
-                  + "elementOf=" + argName
-                  + SEP + EXPECT_DECL + ALL_NON_NULL
-                  + SEP + VAL_DECL + "false");
-        }
+      if (Metrics.countsChecks() && Validation.full())
+        Metrics.checked(ALL_NON_NULL, argName);
+      if (Validation.full() && DeepScan.hasNullKey(val, null))
+        throw elementViolation(argName);
     } else {
       deepNotEmpty(val);
     }
   }
 
+  /**
+   * Checks if the provided {@link Map} is neither
+   *  {@code null} nor empty (checked by {@link Map#isEmpty()}),
+   *  nor any of its <b>keys</b> is {@code null} and throws if it is.
+   * <p>Large containers are scanned in parallel on the provided
+   *  pool, see {@link DeepScan}.
+   * @param val checked object
+   * @param argName name of the argument
+   * @param pool pool for parallel scans or {@code null} for
+   *             the {@link ForkJoinPool#commonPool()}
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void deepNotEmpty(Map<?, ?> val, String argName, ForkJoinPool pool) {
+    notEmpty(val, argName);
+    if (Metrics.countsChecks() && Validation.full())
+      Metrics.checked(ALL_NON_NULL, reported(argName));
+    if (Validation.full() && DeepScan.hasNullKey(val, pool))
+      throw elementViolation(reported(argName));
+  }
+
 
   // other
 
@@ -800,18 +2947,23 @@ public final class Ensure {
    *  Ensure#notBlank(String)} and is a valid URI (
    *  checked by {@link URI#create(String)})
    *  and throws if it is not.
+   * <p>Returns the created {@link URI}, so applies
+   *  whatever the {@link Validation} level; see {@link
+   *  UrlSyntax} for an allocation-free check and {@link
+   *  UriCache} for reusing parsed URIs.
    * @param val checked object
    * @return created {@link URI}
    * @throws IllegalArgumentException if check fails
    */
   public static URI isValidUrl(String val) {
-    notBlank(val);
-    try {
-      return URI.create(val);
-    } catch (IllegalArgumentException x) {
-      throw new IllegalArgumentException(fmtString(val,
-              NON_NULL + '&' + NOT_BLANK + '&' + "is-url") + ": " + x.getMessage());
+    if (val == null || val.isBlank()) {
+      if (Metrics.countsChecks())
+        Metrics.checked(NON_NULL + '&' + NOT_BLANK, null);
+      throw violation(null, val, NON_NULL + '&' + NOT_BLANK);
     }
+    if (Metrics.countsChecks())
+      Metrics.checked(NON_NULL + '&' + NOT_BLANK + '&' + IS_URL, null);
+    return parseUrl(val, null);
   }
 
   /**
@@ -819,23 +2971,24 @@ public final class Ensure {
    *  Ensure#notBlank(String)} and is a valid URI (
    *  checked by {@link URI#create(String)})
    *  and throws if it is not.
+   * <p>Returns the created {@link URI}, so applies
+   *  whatever the {@link Validation} level; see {@link
+   *  UrlSyntax} for an allocation-free check and {@link
+   *  UriCache} for reusing parsed URIs.
    * @param val checked object
    * @param argName name of the argument
    * @return created {@link URI}
    * @throws IllegalArgumentException if check fails
    */
   public static URI isValidUrl(String val, String argName) {
-    if (argNameValid(argName)) {
-      notBlank(val, argName);
-      try {
-        return URI.create(val);
-      } catch (IllegalArgumentException x) {
-        throw new IllegalArgumentException(fmtString(argName, val,
-                NON_NULL + '&' + NOT_BLANK + '&' + "is-url") + ": " + x.getMessage());
-      }
-    } else {
-      return isValidUrl(val);
+    if (val == null || val.isBlank()) {
+      if (Metrics.countsChecks())
+        Metrics.checked(NON_NULL + '&' + NOT_BLANK, reported(argName));
+      throw violation(reported(argName), val, NON_NULL + '&' + NOT_BLANK);
     }
+    if (Metrics.countsChecks())
+      Metrics.checked(NON_NULL + '&' + NOT_BLANK + '&' + IS_URL, reported(argName));
+    return parseUrl(val, argName);
   }
 
   /**
@@ -846,8 +2999,10 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void isHttpStatus(int val) {
-    if (val < 100 || val > 599)
-      throw new IllegalArgumentException(fmtInt(val, "'in [100;600)'"));
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(HTTP_STATUS, null);
+    if ((val < 100 || val > 599) && Validation.cheap())
+      throw violation(null, val, HTTP_STATUS);
   }
 
   /**
@@ -859,12 +3014,27 @@ public final class Ensure {
    * @throws IllegalArgumentException if check fails
    */
   public static void isHttpStatus(int val, String argName) {
-    if (argNameValid(argName)) {
-      if (val < 100 || val > 599)
-        throw new IllegalArgumentException(fmtInt(argName, val, "'in [100;600)'"));
-    } else {
-      isHttpStatus(val);
-    }
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(HTTP_STATUS, reported(argName));
+    if ((val < 100 || val > 599) && Validation.cheap())
+      throw violation(reported(argName), val, HTTP_STATUS);
+  }
+
+  /**
+   * Checks if a provided {@code int} may
+   *  represent a valid HTTP status, i.e.
+   *  belongs to an interval of {@code [100;600)}.
+   * @param val value to check
+   * @param template name of the argument; its first {@code []}
+   *                 receives the index, see {@link Ensure}
+   * @param index index of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isHttpStatus(int val, String template, int index) {
+    if (Metrics.countsChecks() && Validation.cheap())
+      Metrics.checked(HTTP_STATUS, indexedName(template, index));
+    if ((val < 100 || val > 599) && Validation.cheap())
+      throw violation(indexedName(template, index), val, HTTP_STATUS);
   }
 
   /**
@@ -881,101 +3051,334 @@ public final class Ensure {
         isHttpStatus(st);
   }
 
+  /**
+   * Applies {@link Ensure#isHttpStatus(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areHttpStatuses(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areHttpStatuses(int val1, int val2) {
+    isHttpStatus(val1);
+    isHttpStatus(val2);
+  }
+
+  /**
+   * Applies {@link Ensure#isHttpStatus(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areHttpStatuses(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areHttpStatuses(int val1, int val2, int val3) {
+    isHttpStatus(val1);
+    isHttpStatus(val2);
+    isHttpStatus(val3);
+  }
+
+  /**
+   * Applies {@link Ensure#isHttpStatus(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areHttpStatuses(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areHttpStatuses(int val1, int val2, int val3, int val4) {
+    isHttpStatus(val1);
+    isHttpStatus(val2);
+    isHttpStatus(val3);
+    isHttpStatus(val4);
+  }
 
-  private static final String MESSAGE_START = "Bad arg: ";
-  private static final String NAME_DECL = "argName=";
-  private static final String TYPE_DECL = "type=";
-  private static final String VAL_DECL = "actual=";
-  private static final String EXPECT_DECL = "expected=";
-  private static final char SEP = ';';
+  /**
+   * Applies {@link Ensure#isHttpStatus(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areHttpStatuses(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areHttpStatuses(int val1, int val2, int val3, int val4, int val5) {
+    isHttpStatus(val1);
+    isHttpStatus(val2);
+    isHttpStatus(val3);
+    isHttpStatus(val4);
+    isHttpStatus(val5);
+  }
 
-  private static final String POSITIVE = ">0";
-  private static final String NON_NEG = ">=0";
-  private static final String NON_NULL = "non-null";
-  private static final String NOT_BLANK = "non-blank";
-  private static final String NOT_EMPTY = "non-empty";
-  private static final String ALL_NON_NULL = "all-non-null";
+  /**
+   * Applies {@link Ensure#isHttpStatus(int)} to
+   *  all of the provided objects; fixed-arity
+   *  form of {@link Ensure#areHttpStatuses(int, int...)}.
+   * @param val1 first checked object
+   * @param val2 second checked object
+   * @param val3 third checked object
+   * @param val4 fourth checked object
+   * @param val5 fifth checked object
+   * @param val6 sixth checked object
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void areHttpStatuses(int val1, int val2, int val3, int val4, int val5, int val6) {
+    isHttpStatus(val1);
+    isHttpStatus(val2);
+    isHttpStatus(val3);
+    isHttpStatus(val4);
+    isHttpStatus(val5);
+    isHttpStatus(val6);
+  }
+
+
+  /** Expectation of {@code isPositive} checks. */
+  static final String POSITIVE = ">0";
+  /** Expectation of {@code isNonNegative} checks. */
+  static final String NON_NEG = ">=0";
+  /** Expectation of non-{@code null} values. */
+  static final String NON_NULL = "non-null";
+  /** Expectation of non-blank {@link String}s. */
+  static final String NOT_BLANK = "non-blank";
+  /** Expectation of non-empty containers. */
+  static final String NOT_EMPTY = "non-empty";
+  /** Expectation of containers without {@code null} elements. */
+  static final String ALL_NON_NULL = "all-non-null";
+  /** Expectation of {@code allFinite} checks. */
+  static final String FINITE = "finite";
+  /** Expectation of {@code isValidUrl} checks. */
+  static final String IS_URL = "is-url";
+  /** Expectation of {@code isHttpStatus} checks. */
+  static final String HTTP_STATUS = "'in [100;600)'";
+  /** Expectation of minimal {@link String} lengths, see {@link Validator}. */
+  static final String MIN_LENGTH = "min-length";
+  /** Expectation of maximal {@link String} lengths, see {@link Validator}. */
+  static final String MAX_LENGTH = "max-length";
+  /** Expectation of {@link String} patterns, see {@link Validator}. */
+  static final String MATCHES = "matches";
+  /** Expectation of URL hosts, see {@link HostAllowList}. */
+  static final String ALLOWED_HOST = "allowed-host";
+  /** Expectation of {@link HostAllowList} patterns. */
+  static final String HOST_PATTERN = "host-pattern";
+
+  /** Reported name of the {@link String} type. */
+  static final String STRING = String.class.getSimpleName();
+  /** Reported name of the {@code int} type. */
+  static final String INT = int.class.getSimpleName();
+  /** Reported name of the {@code long} type. */
+  static final String LONG = long.class.getSimpleName();
+  /** Reported name of the {@code short} type. */
+  static final String SHORT = short.class.getSimpleName();
+  /** Reported name of the {@code double} type. */
+  static final String DOUBLE = double.class.getSimpleName();
+  /** Reported name of the {@code float} type. */
+  static final String FLOAT = float.class.getSimpleName();
 
-  private static boolean argNameValid(String argName) {
+  /**
+   * Checks if the provided argument name is
+   *  worth reporting, i.e. is neither {@code null} nor blank.
+   * @param argName name of the argument
+   * @return {@code true} if the name is reported
+   */
+  static boolean argNameValid(String argName) {
     return argName != null && !argName.isBlank();
   }
 
-  private static String fmtString(String argName, String val, String expectation) {
-    return MESSAGE_START + NAME_DECL + argName
-            + SEP + TYPE_DECL + String.class.getSimpleName()
-            + SEP + EXPECT_DECL + expectation
-            + SEP + VAL_DECL + val;
+  /**
+   * Checks if the provided object is {@code null} and
+   *  throws if it is, whatever the {@link Validation} level;
+   *  guards the library's own invariants.
+   * @param val checked object
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  static void requireNonNull(Object val, String argName) {
+    if (val == null)
+      throw nullViolation(reported(argName));
+  }
+
+  /**
+   * Checks if the provided {@link String} is {@code null} or blank
+   *  and throws if it is, whatever the {@link Validation} level;
+   *  guards the library's own invariants.
+   * @param val checked value
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  static void requireNotBlank(String val, String argName) {
+    if (val == null || val.isBlank())
+      throw violation(reported(argName), val, NON_NULL + '&' + NOT_BLANK);
+  }
+
+  /**
+   * Checks if the provided {@code int} is not positive and
+   *  throws if it is, whatever the {@link Validation} level;
+   *  guards the library's own invariants.
+   * @param val checked value
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  static void requirePositive(int val, String argName) {
+    if (val < 1)
+      throw violation(reported(argName), val, POSITIVE);
+  }
+
+  /**
+   * Checks if the provided {@code int} is negative and
+   *  throws if it is, whatever the {@link Validation} level;
+   *  guards the library's own invariants.
+   * @param val checked value
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  static void requireNonNegative(int val, String argName) {
+    if (val < 0)
+      throw violation(reported(argName), val, NON_NEG);
+  }
+
+  /**
+   * Checks if the provided {@link Iterable} is {@code null} or
+   *  empty; asks {@link Collection#isEmpty()} for collections
+   *  instead of creating an iterator.
+   * @param val checked object
+   * @return {@code true} if {@code val} is {@code null} or empty
+   */
+  static boolean isEmpty(Iterable<?> val) {
+    if (val instanceof Collection)
+      return ((Collection<?>) val).isEmpty();
+    return val == null || !val.iterator().hasNext();
+  }
+
+  /**
+   * Returns the provided argument name if it is
+   *  {@link Ensure#argNameValid(String) reported}.
+   * @param argName name of the argument
+   * @return {@code argName} or {@code null}
+   */
+  static String reported(String argName) {
+    return argNameValid(argName) ? argName : null;
+  }
+
+  private static String indexedName(String template, int index) {
+    if (!argNameValid(template))
+      return "[" + index + ']';
+    int at = template.indexOf("[]");
+    if (at < 0)
+      return template + '[' + index + ']';
+    return template.substring(0, at + 1) + index + template.substring(at + 1);
+  }
+
+  private static URI parseUrl(String val, String argName) {
+    if (UriCache.isEnabled()) {
+      UriCache.Entry entry = UriCache.lookup(val);
+      if (entry.failure != null)
+        throw violation(reported(argName), val, NON_NULL + '&' + NOT_BLANK + '&' + IS_URL, entry.failure);
+      return entry.uri;
+    }
+    try {
+      return URI.create(val);
+    } catch (IllegalArgumentException x) {
+      throw violation(reported(argName), val, NON_NULL + '&' + NOT_BLANK + '&' + IS_URL, x);
+    }
+  }
+
+  private static String elementName(String argName, int index) {
+    return (argNameValid(argName) ? argName : "") + '[' + index + ']';
+  }
+
+  private static <T> void eachInt(T element, int index, ToIntFunction<? super T> extractor,
+                                  IntRule rule, String argName) {
+    if (Metrics.countsChecks())
+      Metrics.checked(null, elementName(argName, index));
+    if (element == null)
+      throw nullViolation(elementName(argName, index));
+    int field = extractor.applyAsInt(element);
+    int code = rule.check(field);
+    if (code != Check.OK)
+      throw Check.violation(code, field, elementName(argName, index));
+  }
+
+  private static <T> void eachLong(T element, int index, ToLongFunction<? super T> extractor,
+                                   LongRule rule, String argName) {
+    if (Metrics.countsChecks())
+      Metrics.checked(null, elementName(argName, index));
+    if (element == null)
+      throw nullViolation(elementName(argName, index));
+    long field = extractor.applyAsLong(element);
+    int code = rule.check(field);
+    if (code != Check.OK)
+      throw Check.violation(code, field, elementName(argName, index));
+  }
+
+  private static <T> void eachDouble(T element, int index, ToDoubleFunction<? super T> extractor,
+                                     DoubleRule rule, String argName) {
+    if (Metrics.countsChecks())
+      Metrics.checked(null, elementName(argName, index));
+    if (element == null)
+      throw nullViolation(elementName(argName, index));
+    double field = extractor.applyAsDouble(element);
+    int code = rule.check(field);
+    if (code != Check.OK)
+      throw Check.violation(code, field, elementName(argName, index));
   }
 
-  private static String fmtInt(String argName, int val, String expectation) {
-    return MESSAGE_START + NAME_DECL + argName
-            + SEP + TYPE_DECL + int.class.getSimpleName()
-            + SEP + EXPECT_DECL + expectation
-            + SEP + VAL_DECL + val;
+  private static <T, R> void each(T element, int index, Function<? super T, ? extends R> extractor,
+                                  Rule<? super R> rule, String argName) {
+    if (Metrics.countsChecks())
+      Metrics.checked(null, elementName(argName, index));
+    if (element == null)
+      throw nullViolation(elementName(argName, index));
+    R field = extractor.apply(element);
+    int code = rule.check(field);
+    if (code != Check.OK)
+      throw Check.violation(code, field, elementName(argName, index));
   }
 
-  private static String fmtLong(String argName, long val, String expectation) {
-    return MESSAGE_START + NAME_DECL + argName
-            + SEP + TYPE_DECL + long.class.getSimpleName()
-            + SEP + EXPECT_DECL + expectation
-            + SEP + VAL_DECL + val;
+  private static ViolationException nullViolation(String argName) {
+    return Events.violation(new ViolationException(argName, false, null, NON_NULL, null, null));
   }
 
-  private static String fmtShort(String argName, short val, String expectation) {
-    return MESSAGE_START + NAME_DECL + argName
-            + SEP + TYPE_DECL + short.class.getSimpleName()
-            + SEP + EXPECT_DECL + expectation
-            + SEP + VAL_DECL + val;
+  private static ViolationException emptyViolation(String argName) {
+    return Events.violation(new ViolationException(argName, false, null,
+            NON_NULL + '&' + NOT_EMPTY, Boolean.FALSE, null));
   }
 
-  private static String fmtDouble(String argName, double val, String expectation) {
-    return MESSAGE_START + NAME_DECL + argName
-            + SEP + TYPE_DECL + double.class.getSimpleName()
-            + SEP + EXPECT_DECL + expectation
-            + SEP + VAL_DECL + val;
+  private static ViolationException elementViolation(String argName) {
+    return Events.violation(new ViolationException(argName, true, null, ALL_NON_NULL, Boolean.FALSE, null));
   }
 
-  private static String fmtFloat(String argName, float val, String expectation) {
-    return MESSAGE_START + NAME_DECL + argName
-            + SEP + TYPE_DECL + float.class.getSimpleName()
-            + SEP + EXPECT_DECL + expectation
-            + SEP + VAL_DECL + val;
+  private static ViolationException violation(String argName, String val, String expectation) {
+    return Events.violation(new ViolationException(argName, false, STRING, expectation, val, null));
   }
 
-  private static String fmtString(String val, String expectation) {
-    return MESSAGE_START + TYPE_DECL + String.class.getSimpleName()
-            + SEP + EXPECT_DECL + expectation
-            + SEP + VAL_DECL + val;
+  private static ViolationException violation(String argName, String val, String expectation,
+                                              Throwable cause) {
+    return Events.violation(new ViolationException(argName, false, STRING, expectation, val, cause));
   }
 
-  private static String fmtInt(int val, String expectation) {
-    return MESSAGE_START + TYPE_DECL + int.class.getSimpleName()
-            + SEP + EXPECT_DECL + expectation
-            + SEP + VAL_DECL + val;
+  private static ViolationException violation(String argName, int val, String expectation) {
+    return Events.violation(new ViolationException(argName, false, INT, expectation, val, null));
   }
 
-  private static String fmtLong(long val, String expectation) {
-    return MESSAGE_START + TYPE_DECL + long.class.getSimpleName()
-            + SEP + EXPECT_DECL + expectation
-            + SEP + VAL_DECL + val;
+  private static ViolationException violation(String argName, long val, String expectation) {
+    return Events.violation(new ViolationException(argName, false, LONG, expectation, val, null));
   }
 
-  private static String fmtShort(short val, String expectation) {
-    return MESSAGE_START + TYPE_DECL + short.class.getSimpleName()
-            + SEP + EXPECT_DECL + expectation
-            + SEP + VAL_DECL + val;
+  private static ViolationException violation(String argName, short val, String expectation) {
+    return Events.violation(new ViolationException(argName, false, SHORT, expectation, val, null));
   }
 
-  private static String fmtDouble(double val, String expectation) {
-    return MESSAGE_START + TYPE_DECL + double.class.getSimpleName()
-            + SEP + EXPECT_DECL + expectation
-            + SEP + VAL_DECL + val;
+  private static ViolationException violation(String argName, double val, String expectation) {
+    return Events.violation(new ViolationException(argName, false, DOUBLE, expectation, val, null));
   }
 
-  private static String fmtFloat(float val, String expectation) {
-    return MESSAGE_START + TYPE_DECL + float.class.getSimpleName()
-            + SEP + EXPECT_DECL + expectation
-            + SEP + VAL_DECL + val;
+  private static ViolationException violation(String argName, float val, String expectation) {
+    return Events.violation(new ViolationException(argName, false, FLOAT, expectation, val, null));
   }
 
   private Ensure() { }
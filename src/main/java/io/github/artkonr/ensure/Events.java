@@ -0,0 +1,68 @@
+package io.github.artkonr.ensure;
+
+import java.util.Optional;
+
+/**
+ * Emits the JDK Flight Recorder events of the library:
+ *  {@link ViolationEvent} for every created violation and
+ *  {@link DeepScanEvent} for deep scans of large containers.
+ *  Non-instantiable.
+ * <p>When the {@code jdk.jfr} module is missing from the
+ *  runtime image, the event classes are never loaded and
+ *  no events are emitted. Otherwise, with recording off,
+ *  an event costs a single {@code shouldCommit()} check.
+ * <p>Violations are also passed on to {@link Metrics}
+ *  and {@link Hotspots}.
+ * @author artkonr@gmail.com
+ */
+final class Events {
+
+  /** Whether the {@code jdk.jfr} module is present. */
+  static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+  /**
+   * Minimal container size for {@link DeepScanEvent}s;
+   *  set by the {@code ensure.jfr.scanSize} system property.
+   */
+  static final int SCAN_SIZE = Math.max(Integer.getInteger("ensure.jfr.scanSize", 1 << 12), 0);
+
+  private static final String PACKAGE = Events.class.getPackageName() + '.';
+
+  private static final StackWalker WALKER = StackWalker.getInstance();
+
+  /**
+   * Emits a {@link ViolationEvent} describing
+   *  {@code violation}, if the event is enabled,
+   *  and counts it in {@link Metrics} and {@link Hotspots}.
+   * @param violation created violation
+   * @return {@code violation}
+   */
+  static ViolationException violation(ViolationException violation) {
+    if (AVAILABLE)
+      ViolationEvent.emit(violation);
+    Metrics.record(violation);
+    Hotspots.record();
+    return violation;
+  }
+
+  /**
+   * Finds the first caller outside of this package.
+   * @return call site as {@code class.method:line}
+   *         or {@code null} if there is none
+   */
+  static String callSite() {
+    Optional<StackWalker.StackFrame> caller = WALKER.walk(frames -> frames
+            .filter(frame -> !inPackage(frame.getClassName()))
+            .findFirst());
+    return caller
+            .map(frame -> frame.getClassName() + '.' + frame.getMethodName() + ':' + frame.getLineNumber())
+            .orElse(null);
+  }
+
+  private static boolean inPackage(String className) {
+    return className.startsWith(PACKAGE) && className.indexOf('.', PACKAGE.length()) < 0;
+  }
+
+  private Events() { }
+
+}
@@ -0,0 +1,336 @@
+package io.github.artkonr.ensure;
+
+import java.net.IDN;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An allow-list of URL hosts, e.g. against SSRF.
+ *  Immutable and thread-safe.
+ * <p>A pattern is either a host, allowing itself only, or
+ *  {@code *.}-prefixed, allowing the strict subdomains of the
+ *  rest; both may be listed for the same domain:
+ * <pre>{@code
+ * static final HostAllowList HOOKS = HostAllowList.of("example.com", "*.example.com", "*.partner.io");
+ *
+ * URI callback = HOOKS.validate(url, "callbackUrl");
+ * }</pre>
+ * <p>The patterns are compiled into a trie of reversed labels,
+ *  so a lookup costs time proportional to the host length
+ *  however many patterns there are. Hosts are compared ignoring
+ *  ASCII case and a trailing dot without allocating; hosts with
+ *  non-ASCII chars are converted by {@link IDN#toASCII(String)}
+ *  first, as the patterns are. Percent-encoded hosts are not
+ *  decoded and so are never allowed.
+ * <p>Being a {@link Rule} over URLs, the list also fits {@link
+ *  Validator}s and {@link Validating} stages; it reports {@link
+ *  Check#HOST_NOT_ALLOWED}. Checks apply whatever the {@link
+ *  Validation} level.
+ * @author artkonr@gmail.com
+ */
+public final class HostAllowList extends DescribedRule<String> {
+
+  private static final UrlSyntax SYNTAX = UrlSyntax.ANY.requireHost().allowUnicodeHost();
+
+  private static final int ROOT = 0;
+  private static final byte EXACT = 1;
+  private static final byte WILDCARD = 1 << 1;
+
+  /** Pattern kinds, by node. */
+  private final byte[] flags;
+
+  // open-addressing table of the edges, keyed by parent node and label
+  private final int[] parents;
+  private final int[] hashes;
+  private final String[] labels;
+  private final int[] children;
+
+  private HostAllowList(byte[] flags, int[] parents, int[] hashes, String[] labels, int[] children) {
+    this.flags = flags;
+    this.parents = parents;
+    this.hashes = hashes;
+    this.labels = labels;
+    this.children = children;
+  }
+
+  /**
+   * Compiles an allow-list.
+   * @param patterns allowed hosts and {@code *.}-prefixed domains
+   * @return new allow-list
+   * @throws IllegalArgumentException if {@code patterns} is {@code null},
+   *                                  has {@code null} elements or malformed
+   *                                  patterns
+   */
+  public static HostAllowList of(String... patterns) {
+    Ensure.requireNonNull(patterns, "patterns");
+    return of(Arrays.asList(patterns));
+  }
+
+  /**
+   * Compiles an allow-list.
+   * @param patterns allowed hosts and {@code *.}-prefixed domains
+   * @return new allow-list
+   * @throws IllegalArgumentException if {@code patterns} is {@code null},
+   *                                  has {@code null} elements or malformed
+   *                                  patterns
+   */
+  public static HostAllowList of(Collection<String> patterns) {
+    Ensure.requireNonNull(patterns, "patterns");
+    List<Node> nodes = new ArrayList<>();
+    nodes.add(new Node());
+    int edges = 0;
+    for (String pattern : patterns) {
+      Ensure.requireNonNull(pattern, "patterns[]");
+      boolean wildcard = pattern.startsWith("*.");
+      String host = normalise(wildcard ? pattern.substring(2) : pattern);
+      if (host == null)
+        throw Events.violation(new ViolationException("patterns", true, Ensure.STRING,
+                Ensure.HOST_PATTERN, pattern, null));
+      Node node = nodes.get(ROOT);
+      for (int to = host.length(); to > 0; ) {
+        int from = host.lastIndexOf('.', to - 1) + 1;
+        String label = host.substring(from, to);
+        Node child = node.children.get(label);
+        if (child == null) {
+          child = new Node();
+          child.id = nodes.size();
+          nodes.add(child);
+          node.children.put(label, child);
+          edges++;
+        }
+        node = child;
+        to = from - 1;
+      }
+      node.flags |= wildcard ? WILDCARD : EXACT;
+    }
+
+    int capacity = Integer.highestOneBit(Math.max(edges, 1) * 2 - 1) << 1;
+    byte[] flags = new byte[nodes.size()];
+    int[] parents = new int[capacity];
+    Arrays.fill(parents, -1);
+    int[] hashes = new int[capacity];
+    String[] labels = new String[capacity];
+    int[] children = new int[capacity];
+    for (Node node : nodes) {
+      flags[node.id] = node.flags;
+      for (Map.Entry<String, Node> edge : node.children.entrySet()) {
+        String label = edge.getKey();
+        int hash = hash(label, 0, label.length());
+        int k = slot(node.id, hash, capacity - 1);
+        while (parents[k] >= 0)
+          k = (k + 1) & (capacity - 1);
+        parents[k] = node.id;
+        hashes[k] = hash;
+        labels[k] = label;
+        children[k] = edge.getValue().id;
+      }
+    }
+    return new HostAllowList(flags, parents, hashes, labels, children);
+  }
+
+  /**
+   * Checks if the provided host is allowed.
+   * @param host checked host, possibly with a trailing dot
+   * @return {@code true} if allowed; {@code false} if not
+   *         or {@code null}
+   */
+  public boolean allows(String host) {
+    return host != null && allows(host, 0, host.length());
+  }
+
+  /**
+   * Checks the host of the provided URL; the URL has to
+   *  have a host, see {@link UrlSyntax#requireHost()}, which
+   *  may have non-ASCII chars, as in {@link HostAllowList#allows(String)}.
+   * @param url checked URL
+   * @return {@link Check#OK}, {@link Check#HOST_NOT_ALLOWED}
+   *  or a {@link UrlSyntax#check(String)} code
+   */
+  @Override
+  public int check(String url) {
+    int code = SYNTAX.check(url);
+    if (code != Check.OK)
+      return code;
+    // the first "//" starts the authority, as schemes have no slashes
+    int from = url.indexOf("//") + 2;
+    int end = from;
+    while (end < url.length() && "/?#".indexOf(url.charAt(end)) < 0)
+      end++;
+    int at = url.lastIndexOf('@', end - 1);
+    if (at >= from)
+      from = at + 1;
+    int to = url.charAt(from) == '[' ? url.indexOf(']', from) + 1 : from;
+    while (to < end && url.charAt(to) != ':')
+      to++;
+    return allows(url, from, to) ? Check.OK : Check.HOST_NOT_ALLOWED | Check.TYPE_STRING;
+  }
+
+  /**
+   * Checks the provided URL with {@link Ensure#isValidUrl(String)}
+   *  and its host against this list, and throws if either fails.
+   * @param url checked URL
+   * @return created {@link URI}
+   * @throws IllegalArgumentException if check fails
+   */
+  public URI validate(String url) {
+    return validate(url, null);
+  }
+
+  /**
+   * Checks the provided URL with {@link Ensure#isValidUrl(String)}
+   *  and its host against this list, and throws if either fails.
+   * @param url checked URL
+   * @param argName name of the argument
+   * @return created {@link URI}
+   * @throws IllegalArgumentException if check fails
+   */
+  public URI validate(String url, String argName) {
+    URI uri = Ensure.isValidUrl(url, argName);
+    if (!allows(hostOf(uri)))
+      throw Check.violation(Check.HOST_NOT_ALLOWED | Check.TYPE_STRING, url, argName);
+    return uri;
+  }
+
+  /**
+   * Creates the exception describing a violation of this list;
+   *  malformed URLs report the required syntax.
+   * @param code violation code returned by {@link HostAllowList#check(String)}
+   * @param url rejected URL
+   * @param argName name of the argument
+   * @return violation
+   */
+  @Override
+  ViolationException violation(int code, String url, String argName) {
+    if (Check.rule(code) == Check.HOST_NOT_ALLOWED)
+      return Check.violation(code, url, argName);
+    return SYNTAX.violation(code, url, argName);
+  }
+
+  private boolean allows(String host, int from, int end) {
+    if (end > from && host.charAt(end - 1) == '.')
+      end--;
+    if (end == from)
+      return false;
+    for (int i = from; i < end; i++)
+      if (host.charAt(i) >= 0x80)
+        return allowsIdn(host.substring(from, end));
+
+    int node = ROOT;
+    for (int to = end; ; ) {
+      int start = host.lastIndexOf('.', to - 1) + 1;
+      if (start < from)
+        start = from;
+      if (start == to)
+        return false;
+      if ((flags[node] & WILDCARD) != 0)
+        return true;
+      node = child(node, host, start, to);
+      if (node < 0)
+        return false;
+      if (start == from)
+        return (flags[node] & EXACT) != 0;
+      to = start - 1;
+    }
+  }
+
+  private boolean allowsIdn(String host) {
+    String ascii;
+    try {
+      ascii = IDN.toASCII(host);
+    } catch (IllegalArgumentException x) {
+      return false;
+    }
+    for (int i = 0; i < ascii.length(); i++)
+      if (ascii.charAt(i) >= 0x80)
+        return false;
+    return allows(ascii, 0, ascii.length());
+  }
+
+  private int child(int parent, String host, int from, int to) {
+    int hash = hash(host, from, to);
+    int mask = parents.length - 1;
+    for (int k = slot(parent, hash, mask); parents[k] >= 0; k = (k + 1) & mask) {
+      if (parents[k] == parent && hashes[k] == hash && matches(labels[k], host, from, to))
+        return children[k];
+    }
+    return -1;
+  }
+
+  private static boolean matches(String label, String host, int from, int to) {
+    if (label.length() != to - from)
+      return false;
+    for (int i = from; i < to; i++)
+      if (label.charAt(i - from) != lower(host.charAt(i)))
+        return false;
+    return true;
+  }
+
+  private static int hash(String s, int from, int to) {
+    int hash = 0;
+    for (int i = from; i < to; i++)
+      hash = 31 * hash + lower(s.charAt(i));
+    return hash;
+  }
+
+  private static int slot(int parent, int hash, int mask) {
+    int mixed = (parent * 0x9E3779B9) ^ hash;
+    return (mixed ^ mixed >>> 16) & mask;
+  }
+
+  private static char lower(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+
+  /**
+   * Converts a pattern host to lower-case ASCII
+   *  without a trailing dot.
+   * @return normalised host or {@code null} if malformed
+   */
+  private static String normalise(String host) {
+    String ascii;
+    try {
+      ascii = IDN.toASCII(host).toLowerCase(Locale.ROOT);
+    } catch (IllegalArgumentException x) {
+      return null;
+    }
+    if (ascii.endsWith("."))
+      ascii = ascii.substring(0, ascii.length() - 1);
+    if (ascii.isEmpty() || ascii.startsWith(".") || ascii.contains("..") || ascii.indexOf('*') >= 0)
+      return null;
+    for (int i = 0; i < ascii.length(); i++)
+      if (ascii.charAt(i) >= 0x80)
+        return null;
+    return ascii;
+  }
+
+  /**
+   * Returns the host of a URI; server authorities
+   *  that {@link URI} does not parse, such as those
+   *  with non-ASCII hosts, are split here.
+   */
+  private static String hostOf(URI uri) {
+    if (uri.getHost() != null)
+      return uri.getHost();
+    String authority = uri.getAuthority();
+    if (authority == null)
+      return null;
+    String host = authority.substring(authority.lastIndexOf('@') + 1);
+    int colon = host.lastIndexOf(':');
+    return colon >= 0 && !host.endsWith("]") ? host.substring(0, colon) : host;
+  }
+
+  private static final class Node {
+
+    private final Map<String, Node> children = new HashMap<>();
+    private int id;
+    private byte flags;
+
+  }
+
+}
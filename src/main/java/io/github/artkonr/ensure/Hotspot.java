@@ -0,0 +1,59 @@
+package io.github.artkonr.ensure;
+
+/**
+ * A call site reported by {@link Hotspots}, with its estimated
+ *  number of violations. Immutable.
+ * <p>The estimate never undercounts: the true count lies
+ *  between {@code getCount() - getError()} and {@code getCount()}.
+ * @author artkonr@gmail.com
+ */
+public final class Hotspot {
+
+  private final String callSite;
+  private final long count;
+  private final long error;
+
+  /**
+   * Creates a new snapshot of a call site.
+   * @param callSite call site as {@code class.method:line}
+   * @param count estimated violation count
+   * @param error maximal overestimation of {@code count}
+   */
+  Hotspot(String callSite, long count, long error) {
+    this.callSite = callSite;
+    this.count = count;
+    this.error = error;
+  }
+
+  /**
+   * Returns the call site.
+   * @return call site as {@code class.method:line}
+   */
+  public String getCallSite() {
+    return callSite;
+  }
+
+  /**
+   * Returns the estimated number of violations.
+   * @return upper bound of the violation count
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns by how much {@link Hotspot#getCount()} may
+   *  overestimate; {@code 0} if the call site has been
+   *  tracked since its first violation.
+   * @return maximal overestimation
+   */
+  public long getError() {
+    return error;
+  }
+
+  @Override
+  public String toString() {
+    return callSite + '=' + count + (error > 0 ? " (error " + error + ')' : "");
+  }
+
+}
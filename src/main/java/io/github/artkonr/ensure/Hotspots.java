@@ -0,0 +1,221 @@
+package io.github.artkonr.ensure;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An opt-in reporter of the call sites producing the most
+ *  violations. Non-instantiable.
+ * <p>Reporting is off by default; turn it on with {@link
+ *  Hotspots#setEnabled(boolean)} or the {@code ensure.hotspots}
+ *  system property. The call site, i.e. the first frame outside
+ *  of this library, is captured with a {@link StackWalker} when
+ *  a violation is created, so passed checks cost nothing.
+ * <p>Call sites are counted with the Space-Saving algorithm
+ *  in {@code ensure.hotspots.capacity} (default {@code 64})
+ *  counters: memory stays fixed however many distinct call
+ *  sites fail. A site whose share of all violations exceeds
+ *  {@code 1/capacity} is guaranteed to be tracked; the counts
+ *  of others may be overestimated, see {@link Hotspot#getError()}.
+ * <p>The counters are shared, so a violation raised while another
+ *  thread is updating them is not counted but dropped, see {@link
+ *  Hotspots#getDroppedCount()}: failing threads never wait for each
+ *  other, a dropped violation costs no stack walk, and under
+ *  contention the counts become a sample.
+ * @author artkonr@gmail.com
+ */
+public final class Hotspots {
+
+  /** Number of tracked call sites. */
+  static final int CAPACITY = Math.max(Integer.getInteger("ensure.hotspots.capacity", 64), 1);
+
+  private static final Comparator<Hotspot> BY_COUNT = Comparator.comparingLong(Hotspot::getCount).reversed();
+
+  private static final ReentrantLock LOCK = new ReentrantLock();
+
+  /** Min-heap of the counters, by count. */
+  private static final Counter[] HEAP = new Counter[CAPACITY];
+
+  private static final Map<String, Counter> INDEX = new HashMap<>();
+
+  private static final LongAdder DROPPED = new LongAdder();
+
+  private static int size;
+
+  private static volatile boolean enabled = Boolean.getBoolean("ensure.hotspots");
+
+  /**
+   * Returns whether call sites are being reported.
+   * @return {@code true} if reporting is on
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Turns reporting on or off; the counts are kept.
+   * @param enable {@code true} to report call sites
+   */
+  public static void setEnabled(boolean enable) {
+    enabled = enable;
+  }
+
+  /**
+   * Returns the number of violations dropped because
+   *  another thread was updating the counters.
+   * @return dropped violation count
+   */
+  public static long getDroppedCount() {
+    return DROPPED.sum();
+  }
+
+  /**
+   * Returns the tracked call sites, most frequent first.
+   * @return snapshot of at most {@code ensure.hotspots.capacity} sites
+   */
+  public static List<Hotspot> snapshot() {
+    return top(CAPACITY);
+  }
+
+  /**
+   * Returns the {@code k} most frequent call sites.
+   * @param k maximal number of reported sites
+   * @return snapshot of at most {@code k} sites, most frequent first
+   * @throws IllegalArgumentException if {@code k} is negative
+   */
+  public static List<Hotspot> top(int k) {
+    Ensure.requireNonNegative(k, "k");
+    List<Hotspot> out;
+    LOCK.lock();
+    try {
+      out = new ArrayList<>(size);
+      for (int i = 0; i < size; i++)
+        out.add(new Hotspot(HEAP[i].callSite, HEAP[i].count, HEAP[i].error));
+    } finally {
+      LOCK.unlock();
+    }
+    out.sort(BY_COUNT);
+    return out.size() > k ? new ArrayList<>(out.subList(0, k)) : out;
+  }
+
+  /**
+   * Forgets every tracked call site and the dropped count.
+   */
+  public static void reset() {
+    LOCK.lock();
+    try {
+      INDEX.clear();
+      for (int i = 0; i < size; i++)
+        HEAP[i] = null;
+      size = 0;
+      DROPPED.reset();
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  /**
+   * Counts a violation at the current call site
+   *  if reporting is on; a violation that finds the
+   *  counters busy is dropped before the stack is walked.
+   */
+  static void record() {
+    if (!enabled)
+      return;
+    if (LOCK.isLocked()) {
+      DROPPED.increment();
+      return;
+    }
+    String callSite = Events.callSite();
+    if (callSite != null)
+      record(callSite);
+  }
+
+  /**
+   * Counts a violation at {@code callSite}, or drops it
+   *  if another thread holds the counters.
+   * @param callSite call site as {@code class.method:line}
+   */
+  static void record(String callSite) {
+    if (!LOCK.tryLock()) {
+      DROPPED.increment();
+      return;
+    }
+    try {
+      Counter counter = INDEX.get(callSite);
+      if (counter == null) {
+        if (size < CAPACITY) {
+          counter = new Counter(callSite, 1, size);
+          HEAP[size++] = counter;
+          INDEX.put(callSite, counter);
+          siftUp(counter.index);
+          return;
+        }
+        // evict the least frequent site; its count bounds the newcomer's error
+        counter = HEAP[0];
+        INDEX.remove(counter.callSite);
+        counter.callSite = callSite;
+        counter.error = counter.count;
+        INDEX.put(callSite, counter);
+      }
+      counter.count++;
+      siftDown(counter.index);
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  private static void siftUp(int index) {
+    Counter counter = HEAP[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (HEAP[parent].count <= counter.count)
+        break;
+      HEAP[index] = HEAP[parent];
+      HEAP[index].index = index;
+      index = parent;
+    }
+    HEAP[index] = counter;
+    counter.index = index;
+  }
+
+  private static void siftDown(int index) {
+    Counter counter = HEAP[index];
+    int half = size >>> 1;
+    while (index < half) {
+      int child = 2 * index + 1;
+      if (child + 1 < size && HEAP[child + 1].count < HEAP[child].count)
+        child++;
+      if (counter.count <= HEAP[child].count)
+        break;
+      HEAP[index] = HEAP[child];
+      HEAP[index].index = index;
+      index = child;
+    }
+    HEAP[index] = counter;
+    counter.index = index;
+  }
+
+  private static final class Counter {
+
+    private String callSite;
+    private long count;
+    private long error;
+    private int index;
+
+    private Counter(String callSite, long count, int index) {
+      this.callSite = callSite;
+      this.count = count;
+      this.index = index;
+    }
+
+  }
+
+  private Hotspots() { }
+
+}
@@ -0,0 +1,28 @@
+package io.github.artkonr.ensure;
+
+/**
+ * An {@code int} check reporting {@link Check} codes, used by
+ *  {@link Ensure#eachInt(Iterable, java.util.function.ToIntFunction, IntRule, String)}.
+ *  Counterpart of {@link Rule} that avoids boxing.
+ * @author artkonr@gmail.com
+ */
+@FunctionalInterface
+public interface IntRule {
+
+  /** Same as {@link Check#isPositive(int)}. */
+  IntRule POSITIVE = Check::isPositive;
+
+  /** Same as {@link Check#isNonNegative(int)}. */
+  IntRule NON_NEGATIVE = Check::isNonNegative;
+
+  /** Same as {@link Check#isHttpStatus(int)}. */
+  IntRule HTTP_STATUS = Check::isHttpStatus;
+
+  /**
+   * Checks the provided value.
+   * @param val checked value
+   * @return {@link Check#OK} or a violation code
+   */
+  int check(int val);
+
+}
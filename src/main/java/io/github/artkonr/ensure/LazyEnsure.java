@@ -0,0 +1,192 @@
+package io.github.artkonr.ensure;
+
+import java.util.function.Supplier;
+
+/**
+ * Forms of the {@link Ensure} checks that take the argument
+ *  name from a {@link Supplier}, called only if a check fails.
+ *  Non-instantiable.
+ * <p>Dynamic names, such as {@code "items[" + i + "].price"},
+ *  then cost nothing on the happy path:
+ * <pre>{@code
+ * LazyEnsure.isPositive(item.getPrice(), () -> "items[" + i + "].price");
+ * }</pre>
+ * <p>While {@link Metrics} count checks, every check is
+ *  delegated to {@link Ensure}, so the name is resolved
+ *  on the happy path too.
+ * <p>Names made of a template and an index are better
+ *  served by the allocation-free {@link Ensure} overloads,
+ *  e.g. {@link Ensure#isPositive(int, String, int)}.
+ * @author artkonr@gmail.com
+ */
+public final class LazyEnsure {
+
+  // general
+
+  /**
+   * Applies {@link Ensure#notNull(Object, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void notNull(Object val, Supplier<String> argName) {
+    if ((val == null || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.notNull(val, name(argName));
+  }
+
+  // strings
+
+  /**
+   * Applies {@link Ensure#notBlank(String, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void notBlank(String val, Supplier<String> argName) {
+    if ((val == null || val.isBlank() || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.notBlank(val, name(argName));
+  }
+
+  /**
+   * Applies {@link Ensure#nullableNotBlank(String, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void nullableNotBlank(String val, Supplier<String> argName) {
+    if (((val != null && val.isBlank()) || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.nullableNotBlank(val, name(argName));
+  }
+
+  // numerics
+
+  /**
+   * Applies {@link Ensure#isPositive(int, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(int val, Supplier<String> argName) {
+    if ((val < 1 || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.isPositive(val, name(argName));
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(int, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(int val, Supplier<String> argName) {
+    if ((val < 0 || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.isNonNegative(val, name(argName));
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(long, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(long val, Supplier<String> argName) {
+    if ((val < 1 || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.isPositive(val, name(argName));
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(long, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(long val, Supplier<String> argName) {
+    if ((val < 0 || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.isNonNegative(val, name(argName));
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(double, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(double val, Supplier<String> argName) {
+    if ((val < 1 || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.isPositive(val, name(argName));
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(double, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(double val, Supplier<String> argName) {
+    if ((val < 0 || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.isNonNegative(val, name(argName));
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(float, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(float val, Supplier<String> argName) {
+    if ((val < 1 || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.isPositive(val, name(argName));
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(float, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(float val, Supplier<String> argName) {
+    if ((val < 0 || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.isNonNegative(val, name(argName));
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(short, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isPositive(short val, Supplier<String> argName) {
+    if ((val < 1 || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.isPositive(val, name(argName));
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(short, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isNonNegative(short val, Supplier<String> argName) {
+    if ((val < 0 || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.isNonNegative(val, name(argName));
+  }
+
+  // other
+
+  /**
+   * Applies {@link Ensure#isHttpStatus(int, String)}.
+   * @param val checked value
+   * @param argName supplier of the name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public static void isHttpStatus(int val, Supplier<String> argName) {
+    if ((val < 100 || val > 599 || Metrics.countsChecks()) && Validation.cheap())
+      Ensure.isHttpStatus(val, name(argName));
+  }
+
+  private static String name(Supplier<String> argName) {
+    return argName == null ? null : argName.get();
+  }
+
+  private LazyEnsure() { }
+
+}
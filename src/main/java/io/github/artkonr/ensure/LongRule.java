@@ -0,0 +1,25 @@
+package io.github.artkonr.ensure;
+
+/**
+ * A {@code long} check reporting {@link Check} codes, used by
+ *  {@link Ensure#eachLong(Iterable, java.util.function.ToLongFunction, LongRule, String)}.
+ *  Counterpart of {@link Rule} that avoids boxing.
+ * @author artkonr@gmail.com
+ */
+@FunctionalInterface
+public interface LongRule {
+
+  /** Same as {@link Check#isPositive(long)}. */
+  LongRule POSITIVE = Check::isPositive;
+
+  /** Same as {@link Check#isNonNegative(long)}. */
+  LongRule NON_NEGATIVE = Check::isNonNegative;
+
+  /**
+   * Checks the provided value.
+   * @param val checked value
+   * @return {@link Check#OK} or a violation code
+   */
+  int check(long val);
+
+}
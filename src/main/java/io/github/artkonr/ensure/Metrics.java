@@ -0,0 +1,348 @@
+package io.github.artkonr.ensure;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in registry of violation and check counts per rule
+ *  (the expectation, e.g. {@code >0}) and per argument name.
+ *  Non-instantiable.
+ * <p>Counting is off by default; turn it on with {@link
+ *  Metrics#setEnabled(boolean)} or the {@code ensure.metrics}
+ *  system property. While it is off, a violation costs one
+ *  extra {@code volatile} read. Counters are {@link LongAdder}s,
+ *  so threads failing checks concurrently do not contend on a
+ *  single memory location.
+ * <p>Passed checks are only counted once check counting is
+ *  also turned on, with {@link Metrics#setCountingChecks(boolean)}
+ *  or the {@code ensure.metrics.checks} system property: the
+ *  switch is held in a {@link MutableCallSite}, like the {@link
+ *  Validation} level, so while it is off the JIT drops the
+ *  counting from the happy path altogether. Checks are counted
+ *  by the {@link Ensure} and {@link LazyEnsure} checks applied
+ *  at the current level, under the same keys as their
+ *  violations, so that e.g. the rejection rate of a field is
+ *  its violation count over its check count; the element
+ *  checks of {@code each} are counted per argument name only.
+ *  Violations raised elsewhere, e.g. by {@link Validator}s,
+ *  have no matching check counts. Element
+ *  indices are dropped from argument names, e.g. {@code
+ *  orders[17].price} is counted as {@code orders[].price}, and at most
+ *  {@code ensure.metrics.maxNames} (default {@code 1024})
+ *  distinct names are tracked; the rest are counted under
+ *  {@value Metrics#OTHER}. Unnamed checks are counted under
+ *  {@value Metrics#UNNAMED}.
+ * <p>Once enabled, the counts are exposed through the platform
+ *  MBean server as {@value Metrics#OBJECT_NAME}, see {@link
+ *  MetricsMXBean}.
+ * @author artkonr@gmail.com
+ */
+public final class Metrics {
+
+  /** Name of the registered MBean. */
+  public static final String OBJECT_NAME = "io.github.artkonr.ensure:type=Metrics";
+
+  /** Key of argument names beyond the tracked limit. */
+  public static final String OTHER = "<other>";
+
+  /** Key of unnamed checks. */
+  public static final String UNNAMED = "<unnamed>";
+
+  private static final int MAX_NAMES = Math.max(Integer.getInteger("ensure.metrics.maxNames", 1024), 0);
+
+  private static final LongAdder TOTAL = new LongAdder();
+  private static final ConcurrentHashMap<String, LongAdder> BY_RULE = new ConcurrentHashMap<>();
+  private static final ConcurrentHashMap<String, LongAdder> BY_NAME = new ConcurrentHashMap<>();
+
+  private static final LongAdder CHECKS = new LongAdder();
+  private static final ConcurrentHashMap<String, LongAdder> CHECKS_BY_RULE = new ConcurrentHashMap<>();
+  private static final ConcurrentHashMap<String, LongAdder> CHECKS_BY_NAME = new ConcurrentHashMap<>();
+
+  private static final MutableCallSite COUNTING_CHECKS = new MutableCallSite(MethodHandles.constant(boolean.class,
+          Boolean.getBoolean("ensure.metrics.checks")));
+
+  private static final MethodHandle COUNTING_CHECKS_INVOKER = COUNTING_CHECKS.dynamicInvoker();
+
+  private static volatile boolean enabled;
+
+  static {
+    if (Boolean.getBoolean("ensure.metrics"))
+      setEnabled(true);
+  }
+
+  /**
+   * Returns whether violations are being counted.
+   * @return {@code true} if counting is on
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Turns counting on or off. Turning it on registers the
+   *  {@link MetricsMXBean}, unless it is already registered.
+   * @param enable {@code true} to count violations
+   * @throws IllegalStateException if the MBean cannot be registered
+   */
+  public static void setEnabled(boolean enable) {
+    if (enable)
+      register();
+    enabled = enable;
+  }
+
+  /**
+   * Returns whether passed checks are being counted too;
+   *  they are only counted while counting is on.
+   * @return {@code true} if check counting is on
+   */
+  public static boolean isCountingChecks() {
+    return countsChecks();
+  }
+
+  /**
+   * Turns check counting on or off; turning it on
+   *  deoptimises the code compiled against the old
+   *  setting. Checks are only counted while counting
+   *  is on, see {@link Metrics#setEnabled(boolean)}.
+   * @param enable {@code true} to count checks
+   */
+  public static synchronized void setCountingChecks(boolean enable) {
+    if (countsChecks() == enable)
+      return;
+    COUNTING_CHECKS.setTarget(MethodHandles.constant(boolean.class, enable));
+    MutableCallSite.syncAll(new MutableCallSite[] {COUNTING_CHECKS});
+  }
+
+  /**
+   * Returns the number of violations counted so far.
+   * @return total count
+   */
+  public static long getViolationCount() {
+    return TOTAL.sum();
+  }
+
+  /**
+   * Returns a snapshot of the violation counts per rule.
+   * @return counts keyed by rule, sorted by key
+   */
+  public static Map<String, Long> getViolationsByRule() {
+    return snapshot(BY_RULE);
+  }
+
+  /**
+   * Returns a snapshot of the violation counts per argument name.
+   * @return counts keyed by argument name, sorted by key
+   */
+  public static Map<String, Long> getViolationsByArgName() {
+    return snapshot(BY_NAME);
+  }
+
+  /**
+   * Returns the number of checks counted so far.
+   * @return total check count
+   */
+  public static long getCheckCount() {
+    return CHECKS.sum();
+  }
+
+  /**
+   * Returns a snapshot of the check counts per rule.
+   * @return counts keyed by rule, sorted by key
+   */
+  public static Map<String, Long> getChecksByRule() {
+    return snapshot(CHECKS_BY_RULE);
+  }
+
+  /**
+   * Returns a snapshot of the check counts per argument name.
+   * @return counts keyed by argument name, sorted by key
+   */
+  public static Map<String, Long> getChecksByArgName() {
+    return snapshot(CHECKS_BY_NAME);
+  }
+
+  /**
+   * Sets every count back to zero and forgets
+   *  the tracked argument names.
+   */
+  public static void reset() {
+    TOTAL.reset();
+    BY_RULE.clear();
+    BY_NAME.clear();
+    CHECKS.reset();
+    CHECKS_BY_RULE.clear();
+    CHECKS_BY_NAME.clear();
+  }
+
+  /**
+   * Checks if check counting is on; a constant
+   *  for the JIT until the switch is flipped.
+   * @return {@code true} if checks are to be counted
+   */
+  static boolean countsChecks() {
+    try {
+      return (boolean) COUNTING_CHECKS_INVOKER.invokeExact();
+    } catch (Throwable x) {
+      throw new AssertionError(x);
+    }
+  }
+
+  /**
+   * Counts a check if counting is on.
+   * @param rule expectation of the check or {@code null}
+   *             to count it per argument name only
+   * @param argName reported name of the argument
+   */
+  static void checked(String rule, String argName) {
+    checked(rule, argName, 1);
+  }
+
+  /**
+   * Counts checks of the same rule and name if counting is on.
+   * @param rule expectation of the checks or {@code null}
+   *             to count them per argument name only
+   * @param argName reported name of the argument
+   * @param count number of checks
+   */
+  static void checked(String rule, String argName, long count) {
+    if (!enabled || count <= 0)
+      return;
+    CHECKS.add(count);
+    if (rule != null)
+      counter(CHECKS_BY_RULE, rule).add(count);
+    counter(CHECKS_BY_NAME, tracked(CHECKS_BY_NAME, nameKey(argName))).add(count);
+  }
+
+  /**
+   * Counts {@code violation} if counting is on.
+   * @param violation created violation
+   */
+  static void record(ViolationException violation) {
+    if (!enabled)
+      return;
+    TOTAL.increment();
+    counter(BY_RULE, violation.getExpectation()).increment();
+    counter(BY_NAME, tracked(BY_NAME, nameKey(violation.getArgName()))).increment();
+  }
+
+  private static String tracked(ConcurrentHashMap<String, LongAdder> counters, String name) {
+    return counters.containsKey(name) || counters.size() < MAX_NAMES ? name : OTHER;
+  }
+
+  private static LongAdder counter(ConcurrentHashMap<String, LongAdder> counters, String key) {
+    LongAdder counter = counters.get(key);
+    return counter != null ? counter : counters.computeIfAbsent(key, k -> new LongAdder());
+  }
+
+  /**
+   * Drops the digits of every {@code [n]} segment, e.g.
+   *  {@code items[7].price} is keyed as {@code items[].price}.
+   */
+  private static String nameKey(String argName) {
+    if (argName == null)
+      return UNNAMED;
+    int open = argName.indexOf('[');
+    if (open < 0)
+      return argName;
+    StringBuilder key = new StringBuilder(argName.length());
+    int from = 0;
+    for (; open >= 0; open = argName.indexOf('[', open + 1)) {
+      int close = open + 1;
+      while (close < argName.length() && argName.charAt(close) >= '0' && argName.charAt(close) <= '9')
+        close++;
+      if (close > open + 1 && close < argName.length() && argName.charAt(close) == ']') {
+        key.append(argName, from, open + 1);
+        from = close;
+      }
+    }
+    return key.append(argName, from, argName.length()).toString();
+  }
+
+  private static Map<String, Long> snapshot(ConcurrentHashMap<String, LongAdder> counters) {
+    Map<String, Long> out = new TreeMap<>();
+    counters.forEach((key, counter) -> out.put(key, counter.sum()));
+    return out;
+  }
+
+  private static synchronized void register() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(new Bean(), new ObjectName(OBJECT_NAME));
+    } catch (InstanceAlreadyExistsException x) {
+      // already registered
+    } catch (JMException x) {
+      throw new IllegalStateException("Failed to register " + OBJECT_NAME, x);
+    }
+  }
+
+  /** Registered {@link MetricsMXBean}, backed by the static registry. */
+  private static final class Bean implements MetricsMXBean {
+
+    @Override
+    public boolean isEnabled() {
+      return Metrics.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+      Metrics.setEnabled(enabled);
+    }
+
+    @Override
+    public long getViolationCount() {
+      return Metrics.getViolationCount();
+    }
+
+    @Override
+    public Map<String, Long> getViolationsByRule() {
+      return Metrics.getViolationsByRule();
+    }
+
+    @Override
+    public Map<String, Long> getViolationsByArgName() {
+      return Metrics.getViolationsByArgName();
+    }
+
+    @Override
+    public boolean isCountingChecks() {
+      return Metrics.isCountingChecks();
+    }
+
+    @Override
+    public void setCountingChecks(boolean enabled) {
+      Metrics.setCountingChecks(enabled);
+    }
+
+    @Override
+    public long getCheckCount() {
+      return Metrics.getCheckCount();
+    }
+
+    @Override
+    public Map<String, Long> getChecksByRule() {
+      return Metrics.getChecksByRule();
+    }
+
+    @Override
+    public Map<String, Long> getChecksByArgName() {
+      return Metrics.getChecksByArgName();
+    }
+
+    @Override
+    public void reset() {
+      Metrics.reset();
+    }
+
+  }
+
+  private Metrics() { }
+
+}
@@ -0,0 +1,88 @@
+package io.github.artkonr.ensure;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link Metrics}, registered
+ *  with the platform MBean server as {@value Metrics#OBJECT_NAME}.
+ * @author artkonr@gmail.com
+ */
+public interface MetricsMXBean {
+
+  /**
+   * Returns whether violations are being counted.
+   * @return {@code true} if counting is on
+   * @see Metrics#isEnabled()
+   */
+  boolean isEnabled();
+
+  /**
+   * Turns counting on or off.
+   * @param enabled {@code true} to count violations
+   * @see Metrics#setEnabled(boolean)
+   */
+  void setEnabled(boolean enabled);
+
+  /**
+   * Returns the number of violations counted so far.
+   * @return total count
+   * @see Metrics#getViolationCount()
+   */
+  long getViolationCount();
+
+  /**
+   * Returns the violation counts per rule.
+   * @return counts keyed by rule
+   * @see Metrics#getViolationsByRule()
+   */
+  Map<String, Long> getViolationsByRule();
+
+  /**
+   * Returns the violation counts per argument name.
+   * @return counts keyed by argument name
+   * @see Metrics#getViolationsByArgName()
+   */
+  Map<String, Long> getViolationsByArgName();
+
+  /**
+   * Returns whether passed checks are being counted too.
+   * @return {@code true} if check counting is on
+   * @see Metrics#isCountingChecks()
+   */
+  boolean isCountingChecks();
+
+  /**
+   * Turns check counting on or off.
+   * @param enabled {@code true} to count checks
+   * @see Metrics#setCountingChecks(boolean)
+   */
+  void setCountingChecks(boolean enabled);
+
+  /**
+   * Returns the number of checks counted so far.
+   * @return total check count
+   * @see Metrics#getCheckCount()
+   */
+  long getCheckCount();
+
+  /**
+   * Returns the check counts per rule.
+   * @return counts keyed by rule
+   * @see Metrics#getChecksByRule()
+   */
+  Map<String, Long> getChecksByRule();
+
+  /**
+   * Returns the check counts per argument name.
+   * @return counts keyed by argument name
+   * @see Metrics#getChecksByArgName()
+   */
+  Map<String, Long> getChecksByArgName();
+
+  /**
+   * Sets every count back to zero.
+   * @see Metrics#reset()
+   */
+  void reset();
+
+}
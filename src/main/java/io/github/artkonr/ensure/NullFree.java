@@ -0,0 +1,29 @@
+package io.github.artkonr.ensure;
+
+import java.util.Collection;
+
+/**
+ * Marks containers that reject {@code null} elements (or
+ *  keys and values) on every mutation, so the {@code
+ *  deepNotEmpty} checks may skip scanning them.
+ * <p>Only implemented by final classes of this package.
+ * @author artkonr@gmail.com
+ */
+interface NullFree {
+
+  /**
+   * Checks every element of {@code source} before it is
+   *  copied into a {@link NullFree} container.
+   * @param source copied elements
+   * @throws IllegalArgumentException if {@code source} is {@code null}
+   *                                  or has a {@code null} element
+   */
+  static void checkElements(Collection<?> source) {
+    Ensure.requireNonNull(source, "source");
+    if (source instanceof NullFree)
+      return;
+    for (Object o : source)
+      Ensure.requireNonNull(o, "element");
+  }
+
+}
@@ -0,0 +1,183 @@
+package io.github.artkonr.ensure;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A {@link ConcurrentMap} backed by a {@link ConcurrentHashMap}
+ *  that rejects {@code null} keys and values with a {@link
+ *  ViolationException} rather than a {@link NullPointerException}.
+ * <p>Since the invariant is enforced on every mutation,
+ *  {@link Ensure#deepNotEmpty(Map)} only checks the map for
+ *  emptiness and does not scan its keys.
+ * <p>The {@link Map#keySet()}, {@link Map#values()} and
+ *  {@link Map#entrySet()} views are those of the backing
+ *  {@link ConcurrentHashMap}, which cannot hold {@code null}s
+ *  either.
+ * @param <K> key type
+ * @param <V> value type
+ * @author artkonr@gmail.com
+ */
+public final class NullFreeConcurrentMap<K, V> extends AbstractMap<K, V>
+        implements ConcurrentMap<K, V>, NullFree {
+
+  private static final String KEY = "key";
+  private static final String VALUE = "value";
+
+  private final ConcurrentHashMap<K, V> entries;
+
+  /**
+   * Creates an empty map.
+   */
+  public NullFreeConcurrentMap() {
+    entries = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Creates a map with the entries of {@code source}.
+   * @param source copied entries
+   * @throws IllegalArgumentException if {@code source} is {@code null}
+   *                                  or has a {@code null} key or value
+   */
+  public NullFreeConcurrentMap(Map<? extends K, ? extends V> source) {
+    NullFreeMap.checkEntries(source);
+    entries = new ConcurrentHashMap<>(source);
+  }
+
+  @Override
+  public int size() {
+    return entries.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key != null && entries.containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    return value != null && entries.containsValue(value);
+  }
+
+  @Override
+  public V get(Object key) {
+    return key == null ? null : entries.get(key);
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    return key == null ? defaultValue : entries.getOrDefault(key, defaultValue);
+  }
+
+  @Override
+  public V put(K key, V value) {
+    Ensure.requireNonNull(key, KEY);
+    Ensure.requireNonNull(value, VALUE);
+    return entries.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> m) {
+    NullFreeMap.checkEntries(m);
+    entries.putAll(m);
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    Ensure.requireNonNull(key, KEY);
+    Ensure.requireNonNull(value, VALUE);
+    return entries.putIfAbsent(key, value);
+  }
+
+  @Override
+  public V remove(Object key) {
+    return key == null ? null : entries.remove(key);
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    return key != null && value != null && entries.remove(key, value);
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    Ensure.requireNonNull(key, KEY);
+    Ensure.requireNonNull(oldValue, VALUE);
+    Ensure.requireNonNull(newValue, VALUE);
+    return entries.replace(key, oldValue, newValue);
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    Ensure.requireNonNull(key, KEY);
+    Ensure.requireNonNull(value, VALUE);
+    return entries.replace(key, value);
+  }
+
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    Ensure.requireNonNull(key, KEY);
+    return entries.computeIfAbsent(key, mappingFunction);
+  }
+
+  @Override
+  public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    Ensure.requireNonNull(key, KEY);
+    return entries.computeIfPresent(key, remappingFunction);
+  }
+
+  @Override
+  public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    Ensure.requireNonNull(key, KEY);
+    return entries.compute(key, remappingFunction);
+  }
+
+  @Override
+  public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+    Ensure.requireNonNull(key, KEY);
+    Ensure.requireNonNull(value, VALUE);
+    return entries.merge(key, value, remappingFunction);
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+    Ensure.requireNonNull(function, "function");
+    entries.replaceAll((k, v) -> {
+      V replaced = function.apply(k, v);
+      Ensure.requireNonNull(replaced, VALUE);
+      return replaced;
+    });
+  }
+
+  @Override
+  public void clear() {
+    entries.clear();
+  }
+
+  @Override
+  public Set<K> keySet() {
+    return entries.keySet();
+  }
+
+  @Override
+  public Collection<V> values() {
+    return entries.values();
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return entries.entrySet();
+  }
+
+}
@@ -0,0 +1,136 @@
+package io.github.artkonr.ensure;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An array-backed {@link List} that rejects {@code null}
+ *  elements, throwing a {@link ViolationException} instead.
+ * <p>Since the invariant is enforced on every mutation,
+ *  {@link Ensure#deepNotEmpty(Collection)} only checks
+ *  the list for emptiness and does not scan its elements.
+ * <p>Not thread-safe, same as {@link ArrayList}.
+ * @param <E> element type
+ * @author artkonr@gmail.com
+ */
+public final class NullFreeList<E> extends AbstractList<E> implements RandomAccess, NullFree {
+
+  private static final String ELEMENT = "element";
+
+  private final ArrayList<E> elements;
+
+  /**
+   * Creates an empty list.
+   */
+  public NullFreeList() {
+    elements = new ArrayList<>();
+  }
+
+  /**
+   * Creates an empty list able to hold {@code capacity}
+   *  elements before growing.
+   * @param capacity initial capacity
+   * @throws IllegalArgumentException if {@code capacity} is negative
+   */
+  public NullFreeList(int capacity) {
+    Ensure.requireNonNegative(capacity, "capacity");
+    elements = new ArrayList<>(capacity);
+  }
+
+  /**
+   * Creates a list with the elements of {@code source},
+   *  in its iteration order.
+   * @param source copied elements
+   * @throws IllegalArgumentException if {@code source} is {@code null}
+   *                                  or has a {@code null} element
+   */
+  public NullFreeList(Collection<? extends E> source) {
+    NullFree.checkElements(source);
+    elements = new ArrayList<>(source);
+  }
+
+  @Override
+  public E get(int index) {
+    return elements.get(index);
+  }
+
+  @Override
+  public int size() {
+    return elements.size();
+  }
+
+  @Override
+  public E set(int index, E element) {
+    Ensure.requireNonNull(element, ELEMENT);
+    return elements.set(index, element);
+  }
+
+  @Override
+  public void add(int index, E element) {
+    Ensure.requireNonNull(element, ELEMENT);
+    elements.add(index, element);
+    modCount++;
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    NullFree.checkElements(c);
+    modCount++;
+    return elements.addAll(c);
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    NullFree.checkElements(c);
+    modCount++;
+    return elements.addAll(index, c);
+  }
+
+  @Override
+  public E remove(int index) {
+    E removed = elements.remove(index);
+    modCount++;
+    return removed;
+  }
+
+  @Override
+  public void clear() {
+    elements.clear();
+    modCount++;
+  }
+
+  @Override
+  protected void removeRange(int fromIndex, int toIndex) {
+    elements.subList(fromIndex, toIndex).clear();
+    modCount++;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return o != null && elements.contains(o);
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    return o == null ? -1 : elements.indexOf(o);
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    return o == null ? -1 : elements.lastIndexOf(o);
+  }
+
+  @Override
+  public Object[] toArray() {
+    return elements.toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    return elements.toArray(a);
+  }
+
+}
@@ -0,0 +1,136 @@
+package io.github.artkonr.ensure;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * A hash-based {@link Map} that rejects {@code null} keys
+ *  and values, throwing a {@link ViolationException} instead.
+ *  Iterates in insertion order.
+ * <p>Since the invariant is enforced on every mutation,
+ *  {@link Ensure#deepNotEmpty(Map)} only checks the map for
+ *  emptiness and does not scan its keys.
+ * <p>The {@link Map#keySet()}, {@link Map#values()} and
+ *  {@link Map#entrySet()} views are read-only.
+ * <p>Not thread-safe, same as {@link LinkedHashMap};
+ *  see {@link NullFreeConcurrentMap} for a concurrent variant.
+ * @param <K> key type
+ * @param <V> value type
+ * @author artkonr@gmail.com
+ */
+public final class NullFreeMap<K, V> extends AbstractMap<K, V> implements NullFree {
+
+  private final LinkedHashMap<K, V> entries;
+  private final Map<K, V> view;
+
+  /**
+   * Creates an empty map.
+   */
+  public NullFreeMap() {
+    entries = new LinkedHashMap<>();
+    view = Collections.unmodifiableMap(entries);
+  }
+
+  /**
+   * Creates a map with the entries of {@code source}.
+   * @param source copied entries
+   * @throws IllegalArgumentException if {@code source} is {@code null}
+   *                                  or has a {@code null} key or value
+   */
+  public NullFreeMap(Map<? extends K, ? extends V> source) {
+    checkEntries(source);
+    entries = new LinkedHashMap<>(source);
+    view = Collections.unmodifiableMap(entries);
+  }
+
+  @Override
+  public int size() {
+    return entries.size();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key != null && entries.containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    return value != null && entries.containsValue(value);
+  }
+
+  @Override
+  public V get(Object key) {
+    return key == null ? null : entries.get(key);
+  }
+
+  @Override
+  public V put(K key, V value) {
+    Ensure.requireNonNull(key, "key");
+    Ensure.requireNonNull(value, "value");
+    return entries.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> m) {
+    checkEntries(m);
+    entries.putAll(m);
+  }
+
+  @Override
+  public V remove(Object key) {
+    return key == null ? null : entries.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    entries.clear();
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+    Ensure.requireNonNull(function, "function");
+    entries.replaceAll((k, v) -> {
+      V replaced = function.apply(k, v);
+      Ensure.requireNonNull(replaced, "value");
+      return replaced;
+    });
+  }
+
+  @Override
+  public Set<K> keySet() {
+    return view.keySet();
+  }
+
+  @Override
+  public Collection<V> values() {
+    return view.values();
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return view.entrySet();
+  }
+
+  /**
+   * Checks every key and value of {@code source} before it
+   *  is copied into a {@link NullFree} map.
+   * @param source copied entries
+   * @throws IllegalArgumentException if {@code source} is {@code null}
+   *                                  or has a {@code null} key or value
+   */
+  static void checkEntries(Map<?, ?> source) {
+    Ensure.requireNonNull(source, "source");
+    if (source instanceof NullFree)
+      return;
+    for (Entry<?, ?> entry : source.entrySet()) {
+      Ensure.requireNonNull(entry.getKey(), "key");
+      Ensure.requireNonNull(entry.getValue(), "value");
+    }
+  }
+
+}
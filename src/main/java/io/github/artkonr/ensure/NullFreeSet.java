@@ -0,0 +1,81 @@
+package io.github.artkonr.ensure;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A hash-based {@link Set} that rejects {@code null}
+ *  elements, throwing a {@link ViolationException} instead.
+ *  Iterates in insertion order.
+ * <p>Since the invariant is enforced on every mutation,
+ *  {@link Ensure#deepNotEmpty(Collection)} only checks
+ *  the set for emptiness and does not scan its elements.
+ * <p>Not thread-safe, same as {@link LinkedHashSet}.
+ * @param <E> element type
+ * @author artkonr@gmail.com
+ */
+public final class NullFreeSet<E> extends AbstractSet<E> implements NullFree {
+
+  private static final String ELEMENT = "element";
+
+  private final LinkedHashSet<E> elements;
+
+  /**
+   * Creates an empty set.
+   */
+  public NullFreeSet() {
+    elements = new LinkedHashSet<>();
+  }
+
+  /**
+   * Creates a set with the elements of {@code source}.
+   * @param source copied elements
+   * @throws IllegalArgumentException if {@code source} is {@code null}
+   *                                  or has a {@code null} element
+   */
+  public NullFreeSet(Collection<? extends E> source) {
+    NullFree.checkElements(source);
+    elements = new LinkedHashSet<>(source);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return elements.iterator();
+  }
+
+  @Override
+  public int size() {
+    return elements.size();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return o != null && elements.contains(o);
+  }
+
+  @Override
+  public boolean add(E element) {
+    Ensure.requireNonNull(element, ELEMENT);
+    return elements.add(element);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    NullFree.checkElements(c);
+    return elements.addAll(c);
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    return o != null && elements.remove(o);
+  }
+
+  @Override
+  public void clear() {
+    elements.clear();
+  }
+
+}
@@ -0,0 +1,29 @@
+package io.github.artkonr.ensure;
+
+/**
+ * What a {@link Validating} stream or {@link
+ *  java.util.concurrent.Flow} stage does with
+ *  an element that breaks its {@link Rule}.
+ * @author artkonr@gmail.com
+ */
+public enum OnViolation {
+
+  /**
+   * Stop at the first invalid element: streams throw
+   *  a {@link ViolationException}, Flow stages cancel
+   *  the upstream and signal it through {@code onError}.
+   */
+  FAIL_FAST,
+
+  /**
+   * Skip invalid elements.
+   */
+  DROP,
+
+  /**
+   * Skip invalid elements, passing each of them
+   *  along with its violation code to a side channel.
+   */
+  SIDE_CHANNEL
+
+}
@@ -0,0 +1,26 @@
+package io.github.artkonr.ensure;
+
+/**
+ * A single-value check reporting {@link Check} codes,
+ *  used by the {@link Validating} stream and {@link
+ *  java.util.concurrent.Flow} stages.
+ * <p>Most {@link Check} methods fit as-is:
+ * <pre>{@code
+ * Rule<String> sku = Check::notBlank;
+ * Rule<Integer> quantity = Check::isPositive;
+ * Rule<Integer> status = Check::isHttpStatus;
+ * }</pre>
+ * @param <T> checked type
+ * @author artkonr@gmail.com
+ */
+@FunctionalInterface
+public interface Rule<T> {
+
+  /**
+   * Checks the provided value.
+   * @param val checked value
+   * @return {@link Check#OK} or a violation code
+   */
+  int check(T val);
+
+}
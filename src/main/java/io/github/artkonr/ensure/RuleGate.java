@@ -0,0 +1,59 @@
+package io.github.artkonr.ensure;
+
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Applies a {@link Rule} to elements of a stream or Flow
+ *  stage, handling violations per {@link OnViolation}.
+ * @param <T> element type
+ * @author artkonr@gmail.com
+ */
+final class RuleGate<T> implements Predicate<T> {
+
+  private final Rule<? super T> rule;
+  private final String argName;
+  private final OnViolation mode;
+  private final ObjIntConsumer<? super T> sideChannel;
+
+  /**
+   * Creates a gate.
+   * @param rule applied rule
+   * @param argName name reported for invalid elements
+   * @param mode violation handling
+   * @param sideChannel receiver of invalid elements;
+   *                    only required for {@link OnViolation#SIDE_CHANNEL}
+   * @throws IllegalArgumentException if a required argument is {@code null}
+   */
+  RuleGate(Rule<? super T> rule, String argName, OnViolation mode,
+           ObjIntConsumer<? super T> sideChannel) {
+    Ensure.requireNonNull(rule, "rule");
+    Ensure.requireNonNull(mode, "mode");
+    if (mode == OnViolation.SIDE_CHANNEL)
+      Ensure.requireNonNull(sideChannel, "sideChannel");
+    this.rule = rule;
+    this.argName = argName;
+    this.mode = mode;
+    this.sideChannel = sideChannel;
+  }
+
+  /**
+   * Checks an element.
+   * @param val checked element
+   * @return {@code true} if the element passes, {@code false} if it is skipped
+   * @throws ViolationException if the element is invalid
+   *                            in {@link OnViolation#FAIL_FAST} mode
+   */
+  @Override
+  public boolean test(T val) {
+    int code = rule.check(val);
+    if (code == Check.OK)
+      return true;
+    if (mode == OnViolation.FAIL_FAST)
+      throw DescribedRule.violation(rule, code, val, argName);
+    if (mode == OnViolation.SIDE_CHANNEL)
+      sideChannel.accept(val, code);
+    return false;
+  }
+
+}
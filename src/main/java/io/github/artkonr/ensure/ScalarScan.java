@@ -0,0 +1,105 @@
+package io.github.artkonr.ensure;
+
+/**
+ * Element-by-element scans of primitive arrays backing
+ *  the {@code all*} checks of {@link Ensure}. Non-instantiable.
+ * <p>Every scan inspects the range {@code [from;to)} and
+ *  returns the index of the first violating element or
+ *  {@code -1}; ranges are expected to be valid.
+ * @author artkonr@gmail.com
+ */
+final class ScalarScan {
+
+  /**
+   * Finds the first element less than {@code bound}.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @param bound lowest valid value
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstBelow(int[] val, int from, int to, int bound) {
+    for (int i = from; i < to; i++)
+      if (val[i] < bound)
+        return i;
+    return -1;
+  }
+
+  /**
+   * Finds the first element less than {@code bound}.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @param bound lowest valid value
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstBelow(long[] val, int from, int to, long bound) {
+    for (int i = from; i < to; i++)
+      if (val[i] < bound)
+        return i;
+    return -1;
+  }
+
+  /**
+   * Finds the first element less than {@code bound};
+   *  {@code NaN} is never less than {@code bound}.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @param bound lowest valid value
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstBelow(double[] val, int from, int to, double bound) {
+    for (int i = from; i < to; i++)
+      if (val[i] < bound)
+        return i;
+    return -1;
+  }
+
+  /**
+   * Finds the first element less than {@code bound};
+   *  {@code NaN} is never less than {@code bound}.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @param bound lowest valid value
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstBelow(float[] val, int from, int to, float bound) {
+    for (int i = from; i < to; i++)
+      if (val[i] < bound)
+        return i;
+    return -1;
+  }
+
+  /**
+   * Finds the first infinite or {@code NaN} element.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstNonFinite(double[] val, int from, int to) {
+    for (int i = from; i < to; i++)
+      if (!Double.isFinite(val[i]))
+        return i;
+    return -1;
+  }
+
+  /**
+   * Finds the first infinite or {@code NaN} element.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstNonFinite(float[] val, int from, int to) {
+    for (int i = from; i < to; i++)
+      if (!Float.isFinite(val[i]))
+        return i;
+    return -1;
+  }
+
+  private ScalarScan() { }
+
+}
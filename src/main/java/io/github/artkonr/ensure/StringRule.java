@@ -0,0 +1,243 @@
+package io.github.artkonr.ensure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Consecutive {@link String} rules of a {@link Validator},
+ *  fused into a single pass over the value.
+ * <p>{@code null} is dealt with once, by the first rule that
+ *  rejects it; blankness is computed at most once and shared
+ *  by the blankness rules; length bounds of the same kind are
+ *  merged into the tightest one.
+ * @author artkonr@gmail.com
+ */
+final class StringRule extends DescribedRule<String> {
+
+  /** Operation: reject {@code null}. */
+  static final int NOT_NULL = 0;
+  /** Operation: reject {@code null} and blank values. */
+  static final int NOT_BLANK = 1;
+  /** Operation: reject blank values. */
+  static final int NULLABLE_NOT_BLANK = 2;
+  /** Operation: reject too short values. */
+  static final int MIN_LENGTH = 3;
+  /** Operation: reject too long values. */
+  static final int MAX_LENGTH = 4;
+  /** Operation: reject values not matching a pattern. */
+  static final int PATTERN = 5;
+  /** Operation: reject values that are not valid URIs. */
+  static final int URL = 6;
+
+  private static final int COUNT = 7;
+
+  private final int nullCode;
+  private final int[] ops;
+  private final int minLength;
+  private final int maxLength;
+  private final Pattern pattern;
+
+  private StringRule(int nullCode, int[] ops, int minLength, int maxLength, Pattern pattern) {
+    this.nullCode = nullCode;
+    this.ops = ops;
+    this.minLength = minLength;
+    this.maxLength = maxLength;
+    this.pattern = pattern;
+  }
+
+  @Override
+  public int check(String val) {
+    if (val == null)
+      return nullCode;
+    // 0 - unknown, 1 - blank, -1 - not blank
+    int blank = 0;
+    for (int op : ops) {
+      switch (op) {
+        case NOT_BLANK:
+        case NULLABLE_NOT_BLANK:
+          if (blank == 0)
+            blank = val.isBlank() ? 1 : -1;
+          if (blank > 0)
+            return (op == NOT_BLANK ? Check.BLANK : Check.NULLABLE_BLANK) | Check.TYPE_STRING;
+          break;
+        case MIN_LENGTH:
+          if (val.length() < minLength)
+            return Check.TOO_SHORT | Check.TYPE_STRING;
+          break;
+        case MAX_LENGTH:
+          if (val.length() > maxLength)
+            return Check.TOO_LONG | Check.TYPE_STRING;
+          break;
+        case PATTERN:
+          if (!pattern.matcher(val).matches())
+            return Check.NO_MATCH | Check.TYPE_STRING;
+          break;
+        default:
+          int code = Check.isValidUrl(val);
+          if (code != Check.OK)
+            return code;
+      }
+    }
+    return Check.OK;
+  }
+
+  /**
+   * Checks if this rule rejects {@code null}.
+   * @return {@code true} if {@code null} is rejected
+   */
+  boolean rejectsNull() {
+    return nullCode != Check.OK;
+  }
+
+  /**
+   * Creates the exception describing a violation of this rule;
+   *  length and pattern violations report their bound.
+   * @param code violation code returned by {@link StringRule#check(String)}
+   * @param val rejected value
+   * @param argName name of the argument
+   * @return violation
+   */
+  @Override
+  ViolationException violation(int code, String val, String argName) {
+    String expectation;
+    switch (Check.rule(code)) {
+      case Check.TOO_SHORT:
+        expectation = "length>=" + minLength;
+        break;
+      case Check.TOO_LONG:
+        expectation = "length<=" + maxLength;
+        break;
+      case Check.NO_MATCH:
+        expectation = Ensure.MATCHES + " '" + pattern.pattern() + '\'';
+        break;
+      default:
+        return Check.violation(code, val, argName);
+    }
+    String name = Ensure.argNameValid(argName) ? argName : null;
+    return Events.violation(new ViolationException(name, false, Ensure.STRING, expectation, val, null));
+  }
+
+  /**
+   * Collects the operations of a {@link StringRule}.
+   */
+  static final class Compiler {
+
+    private final int[] ops = new int[COUNT];
+    private final boolean[] added = new boolean[COUNT];
+    private int size;
+    private int minLength;
+    private int maxLength = Integer.MAX_VALUE;
+    private Pattern pattern;
+
+    /**
+     * Adds an operation; repeated operations keep their first
+     *  position, with the tightest length bound. Holds one pattern
+     *  only, see {@link Compiler#hasPattern()}.
+     * @param op added operation
+     * @param length length bound of {@link StringRule#MIN_LENGTH}
+     *               and {@link StringRule#MAX_LENGTH}
+     * @param pattern pattern of {@link StringRule#PATTERN}
+     */
+    void add(int op, int length, Pattern pattern) {
+      if (op == MIN_LENGTH)
+        minLength = Math.max(minLength, length);
+      else if (op == MAX_LENGTH)
+        maxLength = Math.min(maxLength, length);
+      else if (op == PATTERN)
+        this.pattern = pattern;
+      if (!added[op]) {
+        added[op] = true;
+        ops[size++] = op;
+      }
+    }
+
+    /**
+     * Checks if a pattern was added; another one
+     *  needs a rule of its own.
+     * @return {@code true} if a pattern was added
+     */
+    boolean hasPattern() {
+      return pattern != null;
+    }
+
+    /**
+     * Checks if no operation was added.
+     * @return {@code true} if empty
+     */
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    /**
+     * Creates a rule of the added operations.
+     * @return compiled rule
+     * @throws IllegalArgumentException if the minimal length
+     *                                  exceeds the maximal one
+     */
+    StringRule compile() {
+      checkBounds();
+      int nullCode = Check.OK;
+      int[] compiled = new int[size];
+      int n = 0;
+      for (int i = 0; i < size; i++) {
+        int op = ops[i];
+        if (nullCode == Check.OK)
+          nullCode = nullCode(op);
+        // non-null values pass these, and a preceding NOT_BLANK covers a NULLABLE_NOT_BLANK
+        if (op == NOT_NULL || op == NULLABLE_NOT_BLANK && added[NOT_BLANK] && indexOf(NOT_BLANK) < i)
+          continue;
+        compiled[n++] = op;
+      }
+      return new StringRule(nullCode, Arrays.copyOf(compiled, n), minLength, maxLength, pattern);
+    }
+
+    /**
+     * Creates a rule per added operation, so that they
+     *  may be reordered; bounds are merged all the same.
+     * @return compiled rules, in order
+     * @throws IllegalArgumentException if the minimal length
+     *                                  exceeds the maximal one
+     */
+    List<StringRule> split() {
+      checkBounds();
+      List<StringRule> split = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        int op = ops[i];
+        if (op == NULLABLE_NOT_BLANK && added[NOT_BLANK] && indexOf(NOT_BLANK) < i)
+          continue;
+        int[] single = op == NOT_NULL ? new int[0] : new int[] {op};
+        split.add(new StringRule(nullCode(op), single, minLength, maxLength, pattern));
+      }
+      return split;
+    }
+
+    private void checkBounds() {
+      if (minLength > maxLength)
+        throw Events.violation(new ViolationException("maxLength", false, Ensure.INT,
+                ">=" + minLength, maxLength, null));
+    }
+
+    private int indexOf(int op) {
+      for (int i = 0; i < size; i++)
+        if (ops[i] == op)
+          return i;
+      return -1;
+    }
+
+    private static int nullCode(int op) {
+      switch (op) {
+        case NOT_NULL:
+          return Check.NULL;
+        case NOT_BLANK:
+        case URL:
+          return Check.BLANK | Check.TYPE_STRING;
+        default:
+          return Check.OK;
+      }
+    }
+
+  }
+
+}
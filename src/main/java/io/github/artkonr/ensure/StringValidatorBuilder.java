@@ -0,0 +1,191 @@
+package io.github.artkonr.ensure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Collects the rules of a {@link String} {@link Validator};
+ *  obtained from {@link Validator#forStrings()}. Not thread-safe.
+ * <p>Apart from {@link StringValidatorBuilder#notNull()},
+ *  {@link StringValidatorBuilder#notBlank()} and {@link
+ *  StringValidatorBuilder#isValidUrl()}, the rules accept
+ *  {@code null}, so that they may describe optional values.
+ * @author artkonr@gmail.com
+ */
+public final class StringValidatorBuilder {
+
+  /** Custom rules and the segments of string rules between them. */
+  private final List<Object> steps = new ArrayList<>();
+  private StringRule.Compiler segment = new StringRule.Compiler();
+  private boolean adaptive;
+
+  /**
+   * Creates a new builder.
+   */
+  StringValidatorBuilder() { }
+
+  /**
+   * Adds a rule rejecting {@code null}.
+   * @return this builder
+   * @see Ensure#notNull(Object)
+   */
+  public StringValidatorBuilder notNull() {
+    segment.add(StringRule.NOT_NULL, 0, null);
+    return this;
+  }
+
+  /**
+   * Adds a rule rejecting {@code null} and blank values.
+   * @return this builder
+   * @see Ensure#notBlank(String)
+   */
+  public StringValidatorBuilder notBlank() {
+    segment.add(StringRule.NOT_BLANK, 0, null);
+    return this;
+  }
+
+  /**
+   * Adds a rule rejecting blank values.
+   * @return this builder
+   * @see Ensure#nullableNotBlank(String)
+   */
+  public StringValidatorBuilder nullableNotBlank() {
+    segment.add(StringRule.NULLABLE_NOT_BLANK, 0, null);
+    return this;
+  }
+
+  /**
+   * Adds a rule rejecting values shorter
+   *  than {@code length} chars.
+   * @param length minimal length
+   * @return this builder
+   * @throws IllegalArgumentException if {@code length} is negative
+   */
+  public StringValidatorBuilder minLength(int length) {
+    Ensure.requireNonNegative(length, "length");
+    segment.add(StringRule.MIN_LENGTH, length, null);
+    return this;
+  }
+
+  /**
+   * Adds a rule rejecting values longer
+   *  than {@code length} chars.
+   * @param length maximal length
+   * @return this builder
+   * @throws IllegalArgumentException if {@code length} is negative
+   */
+  public StringValidatorBuilder maxLength(int length) {
+    Ensure.requireNonNegative(length, "length");
+    segment.add(StringRule.MAX_LENGTH, length, null);
+    return this;
+  }
+
+  /**
+   * Adds a rule rejecting values that do not
+   *  entirely match a regular expression.
+   * @param regex regular expression
+   * @return this builder
+   * @throws IllegalArgumentException if {@code regex} is blank
+   * @throws java.util.regex.PatternSyntaxException if {@code regex} is malformed
+   */
+  public StringValidatorBuilder pattern(String regex) {
+    Ensure.requireNotBlank(regex, "regex");
+    return pattern(Pattern.compile(regex));
+  }
+
+  /**
+   * Adds a rule rejecting values that do not
+   *  entirely match a pattern.
+   * @param pattern compiled pattern
+   * @return this builder
+   * @throws IllegalArgumentException if {@code pattern} is {@code null}
+   */
+  public StringValidatorBuilder pattern(Pattern pattern) {
+    Ensure.requireNonNull(pattern, "pattern");
+    if (segment.hasPattern())
+      flush();
+    segment.add(StringRule.PATTERN, 0, pattern);
+    return this;
+  }
+
+  /**
+   * Adds a rule rejecting values that are not valid URIs.
+   * @return this builder
+   * @see Ensure#isValidUrl(String)
+   */
+  public StringValidatorBuilder isValidUrl() {
+    segment.add(StringRule.URL, 0, null);
+    return this;
+  }
+
+  /**
+   * Adds a custom rule; it is applied after the
+   *  string rules added before it.
+   * @param rule added rule
+   * @return this builder
+   * @throws IllegalArgumentException if {@code rule} is {@code null}
+   */
+  public StringValidatorBuilder rule(Rule<? super String> rule) {
+    Ensure.requireNonNull(rule, "rule");
+    flush();
+    steps.add(rule);
+    return this;
+  }
+
+  /**
+   * Makes the validator reorder its rules at runtime, moving
+   *  those that fail often at little cost to the front; string
+   *  rules are then applied one by one instead of in a single
+   *  pass, and the leading {@code null}-rejecting ones stay first.
+   *  Custom rules must then accept {@code null} and not rely
+   *  on each other.
+   * @return this builder
+   * @see Validator
+   */
+  public StringValidatorBuilder adaptive() {
+    adaptive = true;
+    return this;
+  }
+
+  /**
+   * Creates a validator of the rules added so far;
+   *  the builder may be reused afterwards.
+   * @return new validator
+   * @throws IllegalArgumentException if a minimal length
+   *                                  exceeds a maximal one
+   */
+  @SuppressWarnings("unchecked")
+  public Validator<String> build() {
+    List<Rule<? super String>> compiled = new ArrayList<>();
+    int pinned = 0;
+    for (int i = 0; i <= steps.size(); i++) {
+      Object step = i < steps.size() ? steps.get(i) : segment;
+      if (step instanceof StringRule.Compiler) {
+        StringRule.Compiler rules = (StringRule.Compiler) step;
+        if (rules.isEmpty())
+          continue;
+        if (!adaptive) {
+          compiled.add(rules.compile());
+          continue;
+        }
+        for (StringRule rule : rules.split()) {
+          if (pinned == compiled.size() && rule.rejectsNull())
+            pinned++;
+          compiled.add(rule);
+        }
+      } else {
+        compiled.add((Rule<? super String>) step);
+      }
+    }
+    return new Validator<>(compiled, adaptive, pinned);
+  }
+
+  private void flush() {
+    if (!segment.isEmpty()) {
+      steps.add(segment);
+      segment = new StringRule.Compiler();
+    }
+  }
+
+}
@@ -0,0 +1,224 @@
+package io.github.artkonr.ensure;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An opt-in cache of the {@link URI}s parsed by {@link
+ *  Ensure#isValidUrl(String)}, and by {@link Check} when it
+ *  falls back to {@link URI}. Non-instantiable.
+ * <p>Caching is off by default; turn it on with {@link
+ *  UriCache#setEnabled(boolean)} or the {@code ensure.uriCache}
+ *  system property. Repeated inputs then share one immutable
+ *  {@link URI}; malformed inputs are cached too, so that they
+ *  are not parsed again. Each violation still gets an exception
+ *  of its own, but a cached failure shares its cause, which has
+ *  no stack trace, so a flood of malformed inputs costs no
+ *  stack walks.
+ * <p>The cache holds at most {@code ensure.uriCache.capacity}
+ *  (default {@code 1024}) entries, and skips inputs longer than
+ *  {@code ensure.uriCache.maxLength} (default {@code 2048})
+ *  chars, which bounds its memory whatever the inputs. Entries
+ *  are evicted by a CLOCK sweep that spares the frequently hit
+ *  ones, so that a flood of distinct, e.g. attacker-supplied,
+ *  URLs only displaces each other. Lookups take no lock, and a
+ *  miss that finds another thread admitting an entry leaves its
+ *  own input uncached rather than wait.
+ * @author artkonr@gmail.com
+ */
+public final class UriCache {
+
+  /** Maximal number of entries. */
+  static final int CAPACITY = Math.max(Integer.getInteger("ensure.uriCache.capacity", 1024), 1);
+
+  /** Maximal length of cached inputs. */
+  static final int MAX_LENGTH = Math.max(Integer.getInteger("ensure.uriCache.maxLength", 2048), 0);
+
+  private static final int MAX_FREQUENCY = 3;
+
+  private static final ReentrantLock LOCK = new ReentrantLock();
+
+  private static final Map<String, Entry> INDEX = new ConcurrentHashMap<>();
+
+  /** Clock of the entries, guarded by {@code LOCK}. */
+  private static final Entry[] SLOTS = new Entry[CAPACITY];
+
+  private static final LongAdder HITS = new LongAdder();
+  private static final LongAdder MISSES = new LongAdder();
+  private static final LongAdder EVICTIONS = new LongAdder();
+
+  private static int size;
+  private static int hand;
+
+  private static volatile boolean enabled = Boolean.getBoolean("ensure.uriCache");
+
+  /**
+   * Returns whether parsed URIs are cached.
+   * @return {@code true} if caching is on
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Turns caching on or off; the entries are kept.
+   * @param enable {@code true} to cache parsed URIs
+   */
+  public static void setEnabled(boolean enable) {
+    enabled = enable;
+  }
+
+  /**
+   * Returns the number of lookups answered by the cache.
+   * @return hit count
+   */
+  public static long getHitCount() {
+    return HITS.sum();
+  }
+
+  /**
+   * Returns the number of lookups that had to parse the input.
+   * @return miss count
+   */
+  public static long getMissCount() {
+    return MISSES.sum();
+  }
+
+  /**
+   * Returns the number of entries evicted to make room.
+   * @return eviction count
+   */
+  public static long getEvictionCount() {
+    return EVICTIONS.sum();
+  }
+
+  /**
+   * Returns the number of cached entries.
+   * @return size, at most {@code ensure.uriCache.capacity}
+   */
+  public static int getSize() {
+    return INDEX.size();
+  }
+
+  /**
+   * Forgets every entry and the statistics.
+   */
+  public static void reset() {
+    LOCK.lock();
+    try {
+      INDEX.clear();
+      for (int i = 0; i < size; i++)
+        SLOTS[i] = null;
+      size = 0;
+      hand = 0;
+      HITS.reset();
+      MISSES.reset();
+      EVICTIONS.reset();
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  /**
+   * Returns the entry of the provided value, parsing
+   *  and caching it on a miss; malformed values yield
+   *  an entry with a failure rather than an exception.
+   * @param val parsed value, not {@code null}
+   * @return entry holding either a shared {@link URI}
+   *         or the failure of {@link URI#create(String)}
+   */
+  static Entry lookup(String val) {
+    Entry entry = INDEX.get(val);
+    if (entry != null) {
+      HITS.increment();
+      if (entry.frequency < MAX_FREQUENCY)
+        entry.frequency++;
+      return entry;
+    }
+
+    MISSES.increment();
+    try {
+      entry = new Entry(val, URI.create(val), null);
+    } catch (IllegalArgumentException x) {
+      entry = new Entry(val, null, new CachedFailure(x.getMessage()));
+    }
+    if (val.length() <= MAX_LENGTH)
+      admit(entry);
+    return entry;
+  }
+
+  private static void admit(Entry entry) {
+    if (!LOCK.tryLock())
+      return;
+    try {
+      if (INDEX.containsKey(entry.key))
+        return;
+      if (size < CAPACITY) {
+        SLOTS[size++] = entry;
+      } else {
+        // every sweep lowers the frequencies, so it ends within MAX_FREQUENCY + 1 turns
+        while (SLOTS[hand].frequency > 0) {
+          SLOTS[hand].frequency--;
+          hand = (hand + 1) % CAPACITY;
+        }
+        INDEX.remove(SLOTS[hand].key);
+        EVICTIONS.increment();
+        SLOTS[hand] = entry;
+        hand = (hand + 1) % CAPACITY;
+      }
+      INDEX.put(entry.key, entry);
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  /**
+   * A parsed input: either {@link Entry#uri}
+   *  or {@link Entry#failure} is set.
+   */
+  static final class Entry {
+
+    private final String key;
+
+    /** Parsed URI or {@code null} if malformed. */
+    final URI uri;
+
+    /** Parse failure or {@code null} if parsed. */
+    final IllegalArgumentException failure;
+
+    /** Approximate recent hits; racy updates are tolerated. */
+    private volatile int frequency;
+
+    private Entry(String key, URI uri, IllegalArgumentException failure) {
+      this.key = key;
+      this.uri = uri;
+      this.failure = failure;
+    }
+
+  }
+
+  /**
+   * A parse failure shared by the lookups of
+   *  a malformed input, so without a stack trace.
+   */
+  private static final class CachedFailure extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private CachedFailure(String message) {
+      super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+
+  }
+
+  private UriCache() { }
+
+}
@@ -0,0 +1,391 @@
+package io.github.artkonr.ensure;
+
+import java.net.URI;
+
+/**
+ * A single-pass, allocation-free check of the RFC 3986
+ *  {@code URI-reference} syntax; an alternative to {@link
+ *  Ensure#isValidUrl(String)} for callers that need no
+ *  {@link URI}. Immutable and thread-safe.
+ * <p>Only the syntax is checked: percent-encodings must be
+ *  complete, IP literals well-formed, but host names are not
+ *  resolved, nor ports range-checked. Non-ASCII chars are
+ *  rejected, as the RFC requires; {@link URI} is laxer here.
+ * <p>The accepted references may be narrowed down:
+ * <pre>{@code
+ * static final UrlSyntax CALLBACK = UrlSyntax.HTTP;
+ * static final UrlSyntax REDIRECT = UrlSyntax.ANY.requireHost();
+ *
+ * CALLBACK.validate(url, "callbackUrl");
+ * }</pre>
+ * <p>Being a {@link Rule}, the check also fits {@link Validator}s
+ *  and {@link Validating} stages; it reports {@link Check#NOT_URL}.
+ * @author artkonr@gmail.com
+ */
+public final class UrlSyntax extends DescribedRule<String> {
+
+  private static final int SCHEME = 1;
+  private static final int HOST = 1 << 1;
+  private static final int HTTP_SCHEME = 1 << 2;
+  private static final int UNICODE_HOST = 1 << 3;
+
+  /** Any URI reference, relative ones included. */
+  public static final UrlSyntax ANY = new UrlSyntax(0);
+
+  /** Absolute {@code http} or {@code https} URLs with a host. */
+  public static final UrlSyntax HTTP = new UrlSyntax(SCHEME | HOST | HTTP_SCHEME);
+
+  // char classes
+  private static final int UNRESERVED = 1;
+  private static final int SUB_DELIM = 1 << 1;
+  private static final int HEX = 1 << 2;
+  private static final int SCHEME_CHAR = 1 << 3;
+  private static final int ALPHA = 1 << 4;
+  private static final int COLON = 1 << 5;
+  private static final int AT = 1 << 6;
+  private static final int SLASH = 1 << 7;
+  private static final int QUESTION = 1 << 8;
+
+  private static final int USER_INFO = UNRESERVED | SUB_DELIM | COLON;
+  private static final int REG_NAME = UNRESERVED | SUB_DELIM;
+  private static final int PATH = UNRESERVED | SUB_DELIM | COLON | AT | SLASH;
+  private static final int QUERY = PATH | QUESTION;
+
+  private static final int[] CLASSES = new int[128];
+
+  static {
+    for (char c = 'a'; c <= 'z'; c++) {
+      CLASSES[c] |= UNRESERVED | SCHEME_CHAR | ALPHA;
+      CLASSES[Character.toUpperCase(c)] |= UNRESERVED | SCHEME_CHAR | ALPHA;
+    }
+    for (char c = '0'; c <= '9'; c++)
+      CLASSES[c] |= UNRESERVED | SCHEME_CHAR | HEX;
+    for (char c : "abcdefABCDEF".toCharArray())
+      CLASSES[c] |= HEX;
+    for (char c : "-._~".toCharArray())
+      CLASSES[c] |= UNRESERVED;
+    for (char c : "+-.".toCharArray())
+      CLASSES[c] |= SCHEME_CHAR;
+    for (char c : "!$&'()*+,;=".toCharArray())
+      CLASSES[c] |= SUB_DELIM;
+    CLASSES[':'] |= COLON;
+    CLASSES['@'] |= AT;
+    CLASSES['/'] |= SLASH;
+    CLASSES['?'] |= QUESTION;
+  }
+
+  private final int options;
+  private final String expectation;
+
+  private UrlSyntax(int options) {
+    this.options = options;
+    StringBuilder expectation = new StringBuilder(Ensure.NON_NULL + '&' + Ensure.NOT_BLANK + '&' + Ensure.IS_URL);
+    if ((options & HTTP_SCHEME) != 0)
+      expectation.append("(http)");
+    else if ((options & (SCHEME | HOST)) == (SCHEME | HOST))
+      expectation.append("(scheme,host)");
+    else if ((options & SCHEME) != 0)
+      expectation.append("(scheme)");
+    else if ((options & HOST) != 0)
+      expectation.append("(host)");
+    this.expectation = expectation.toString();
+  }
+
+  /**
+   * Returns a syntax that also requires a scheme,
+   *  i.e. rejects relative references.
+   * @return narrowed syntax
+   */
+  public UrlSyntax requireScheme() {
+    return with(SCHEME);
+  }
+
+  /**
+   * Returns a syntax that also requires
+   *  an authority with a non-empty host.
+   * @return narrowed syntax
+   */
+  public UrlSyntax requireHost() {
+    return with(HOST);
+  }
+
+  /**
+   * Returns a syntax that also requires the {@code http}
+   *  or {@code https} scheme, in any case, and a host.
+   * @return narrowed syntax
+   */
+  public UrlSyntax requireHttp() {
+    return with(SCHEME | HOST | HTTP_SCHEME);
+  }
+
+  /**
+   * Checks the provided value.
+   * @param val checked value
+   * @return {@link Check#OK}, {@link Check#BLANK}
+   *  or {@link Check#NOT_URL}
+   */
+  @Override
+  public int check(String val) {
+    int code = Check.notBlank(val);
+    if (code != Check.OK)
+      return code;
+    return scan(val, options) ? Check.OK : Check.NOT_URL | Check.TYPE_STRING;
+  }
+
+  /**
+   * Checks the provided value and throws if it is
+   *  blank or not a URI reference of this syntax.
+   * @param val checked value
+   * @throws IllegalArgumentException if check fails
+   */
+  public void validate(String val) {
+    validate(val, null);
+  }
+
+  /**
+   * Checks the provided value and throws if it is
+   *  blank or not a URI reference of this syntax.
+   * @param val checked value
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public void validate(String val, String argName) {
+    int code = check(val);
+    if (code != Check.OK)
+      throw violation(code, val, argName);
+  }
+
+  /**
+   * Creates the exception describing a violation of this
+   *  syntax; the expectation names the required parts.
+   * @param code violation code returned by {@link UrlSyntax#check(String)}
+   * @param val rejected value
+   * @param argName name of the argument
+   * @return violation
+   */
+  @Override
+  ViolationException violation(int code, String val, String argName) {
+    if (Check.rule(code) != Check.NOT_URL)
+      return Check.violation(code, val, argName);
+    return Events.violation(new ViolationException(Ensure.reported(argName), false, Ensure.STRING,
+            expectation, val, null));
+  }
+
+  /**
+   * Returns a syntax that also accepts non-ASCII chars in
+   *  a host name, to be converted by {@link java.net.IDN}.
+   * @return widened syntax
+   */
+  UrlSyntax allowUnicodeHost() {
+    return with(UNICODE_HOST);
+  }
+
+  private UrlSyntax with(int added) {
+    int merged = options | added;
+    if (merged == options)
+      return this;
+    return merged == HTTP.options ? HTTP : new UrlSyntax(merged);
+  }
+
+  private static boolean scan(String s, int options) {
+    int n = s.length();
+    int colon = schemeEnd(s, n);
+    int i = 0;
+    if (colon > 0) {
+      if ((options & HTTP_SCHEME) != 0 && !isHttp(s, colon))
+        return false;
+      i = colon + 1;
+    } else if ((options & SCHEME) != 0) {
+      return false;
+    }
+
+    boolean authority = i + 1 < n && s.charAt(i) == '/' && s.charAt(i + 1) == '/';
+    if (authority)
+      i = authority(s, i + 2, n, options);
+    else if ((options & HOST) != 0)
+      return false;
+
+    // a relative path may not look like a scheme
+    boolean firstSegment = colon < 0 && !authority;
+    for (; i >= 0 && i < n; ) {
+      char c = s.charAt(i);
+      if (c == '?' || c == '#')
+        break;
+      if (c == '/')
+        firstSegment = false;
+      else if (c == ':' && firstSegment)
+        return false;
+      i = next(s, i, n, PATH);
+    }
+    if (i >= 0 && i < n && s.charAt(i) == '?') {
+      for (i++; i >= 0 && i < n && s.charAt(i) != '#'; )
+        i = next(s, i, n, QUERY);
+    }
+    if (i >= 0 && i < n && s.charAt(i) == '#') {
+      for (i++; i >= 0 && i < n; )
+        i = next(s, i, n, QUERY);
+    }
+    return i == n;
+  }
+
+  private static int schemeEnd(String s, int n) {
+    if (n == 0 || !is(s.charAt(0), ALPHA))
+      return -1;
+    for (int i = 1; i < n; i++) {
+      char c = s.charAt(i);
+      if (c == ':')
+        return i;
+      if (!is(c, SCHEME_CHAR))
+        return -1;
+    }
+    return -1;
+  }
+
+  private static boolean isHttp(String s, int colon) {
+    return (colon == 4 || colon == 5 && (s.charAt(4) | 0x20) == 's')
+            && s.regionMatches(true, 0, "http", 0, 4);
+  }
+
+  /**
+   * Scans {@code [ userinfo "@" ] host [ ":" port ]}.
+   * @return index past the authority or {@code -1}
+   */
+  private static int authority(String s, int from, int n, int options) {
+    int end = from;
+    int at = -1;
+    for (; end < n; end++) {
+      char c = s.charAt(end);
+      if (c == '/' || c == '?' || c == '#')
+        break;
+      if (c == '@' && at < 0)
+        at = end;
+    }
+
+    int i = from;
+    if (at >= 0) {
+      while (i >= 0 && i < at)
+        i = next(s, i, at, USER_INFO);
+      if (i < 0)
+        return -1;
+      i = at + 1;
+    }
+
+    int host = i;
+    if (i < end && s.charAt(i) == '[') {
+      int close = s.indexOf(']', i);
+      if (close < 0 || close >= end || !ipLiteral(s, i + 1, close))
+        return -1;
+      i = close + 1;
+    } else {
+      boolean unicode = (options & UNICODE_HOST) != 0;
+      while (i >= 0 && i < end && s.charAt(i) != ':')
+        i = unicode && s.charAt(i) >= 0x80 ? i + 1 : next(s, i, end, REG_NAME);
+      if (i < 0)
+        return -1;
+    }
+    if ((options & HOST) != 0 && i == host)
+      return -1;
+
+    if (i < end) {
+      if (s.charAt(i) != ':')
+        return -1;
+      for (i++; i < end; i++)
+        if (!isDigit(s.charAt(i)))
+          return -1;
+    }
+    return end;
+  }
+
+  private static boolean ipLiteral(String s, int from, int to) {
+    if (from < to && (s.charAt(from) | 0x20) == 'v')
+      return ipFuture(s, from + 1, to);
+    return ipv6(s, from, to);
+  }
+
+  private static boolean ipFuture(String s, int from, int to) {
+    int i = from;
+    while (i < to && is(s.charAt(i), HEX))
+      i++;
+    if (i == from || i >= to || s.charAt(i) != '.' || ++i == to)
+      return false;
+    for (; i < to; i++)
+      if (!is(s.charAt(i), UNRESERVED | SUB_DELIM | COLON))
+        return false;
+    return true;
+  }
+
+  private static boolean ipv6(String s, int from, int to) {
+    int groups = 0;
+    boolean compressed = false;
+    int i = from;
+    if (to - i >= 2 && s.charAt(i) == ':' && s.charAt(i + 1) == ':') {
+      compressed = true;
+      i += 2;
+      if (i == to)
+        return true;
+    }
+    while (true) {
+      int start = i;
+      while (i < to && i - start < 4 && is(s.charAt(i), HEX))
+        i++;
+      if (i < to && s.charAt(i) == '.') {
+        // trailing IPv4 takes two groups
+        if (!ipv4(s, start, to))
+          return false;
+        groups += 2;
+        break;
+      }
+      if (i == start)
+        return false;
+      groups++;
+      if (i == to)
+        break;
+      if (s.charAt(i) != ':' || ++i == to)
+        return false;
+      if (s.charAt(i) == ':') {
+        if (compressed)
+          return false;
+        compressed = true;
+        if (++i == to)
+          break;
+      }
+    }
+    return compressed ? groups < 8 : groups == 8;
+  }
+
+  private static boolean ipv4(String s, int from, int to) {
+    int i = from;
+    for (int octet = 0; octet < 4; octet++) {
+      if (octet > 0 && (i >= to || s.charAt(i++) != '.'))
+        return false;
+      int start = i;
+      int val = 0;
+      while (i < to && i - start < 3 && isDigit(s.charAt(i)))
+        val = val * 10 + s.charAt(i++) - '0';
+      if (i == start || val > 255 || i - start > 1 && s.charAt(start) == '0')
+        return false;
+    }
+    return i == to;
+  }
+
+  /**
+   * Steps over a char of the {@code allowed} classes
+   *  or a percent-encoding.
+   * @return index of the next char or {@code -1}
+   */
+  private static int next(String s, int i, int n, int allowed) {
+    char c = s.charAt(i);
+    if (c == '%')
+      return i + 2 < n && is(s.charAt(i + 1), HEX) && is(s.charAt(i + 2), HEX) ? i + 3 : -1;
+    return is(c, allowed) ? i + 1 : -1;
+  }
+
+  private static boolean is(char c, int classes) {
+    return c < CLASSES.length && (CLASSES[c] & classes) != 0;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+}
@@ -0,0 +1,348 @@
+package io.github.artkonr.ensure;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Factories of lazily validating views and pipeline stages.
+ *  Non-instantiable.
+ * <p>A view applies the {@link Ensure#deepNotEmpty(Iterable, String)}
+ *  rules while the caller consumes the elements, instead of
+ *  traversing the source once to check it and once more to use it:
+ *  a {@code null} element is rejected as it is reached, and an
+ *  empty source once it turns out to have no elements. Both are
+ *  reported with the same {@link ViolationException} as {@link
+ *  Ensure#deepNotEmpty(Iterable, String)} throws.
+ * <p>Suits one-shot or expensive sources, such as database
+ *  cursors, lazy generators or a {@link java.nio.file.DirectoryStream}:
+ * <pre>{@code
+ * try (DirectoryStream<Path> dir = Files.newDirectoryStream(root)) {
+ *   for (Path path : Validating.iterable(dir, "dir"))
+ *     upload(path);
+ * }
+ * }</pre>
+ * <p>Elements consumed before a violation is found are not rolled
+ *  back; callers that must not act on an invalid source at all
+ *  should check it up front instead.
+ * <p>Unbounded {@link Stream}s and {@link Flow.Publisher}s are
+ *  validated element by element against a {@link Rule}, such as
+ *  {@code Check::notBlank}; invalid elements are handled as per
+ *  {@link OnViolation}. The stages hold no elements, so memory
+ *  use does not depend on the length of the pipeline:
+ * <pre>{@code
+ * Validating.stream(events, Event::checkSku, "event", OnViolation.SIDE_CHANNEL,
+ *         (event, code) -> deadLetters.add(Check.message(code, event, "event")))
+ *     .forEach(sink);
+ * }</pre>
+ * @author artkonr@gmail.com
+ */
+public final class Validating {
+
+  /**
+   * Wraps an {@link Iterable}; each of its iterators
+   *  is wrapped with {@link Validating#iterator(Iterator, String)}.
+   * @param source wrapped iterable
+   * @param argName name of the argument
+   * @param <T> element type
+   * @return validating iterable
+   * @throws IllegalArgumentException if {@code source} is {@code null}
+   */
+  public static <T> Iterable<T> iterable(Iterable<T> source, String argName) {
+    if (source == null)
+      throw Check.violation(Check.EMPTY, null, argName);
+    return new Iterable<>() {
+      @Override
+      public Iterator<T> iterator() {
+        return Validating.iterator(source.iterator(), argName);
+      }
+
+      @Override
+      public Spliterator<T> spliterator() {
+        return Validating.spliterator(source.spliterator(), argName);
+      }
+    };
+  }
+
+  /**
+   * Wraps an {@link Iterator}. {@link Iterator#next()} throws
+   *  on a {@code null} element, and {@link Iterator#hasNext()}
+   *  throws if the source has no elements at all.
+   * @param source wrapped iterator
+   * @param argName name of the argument
+   * @param <T> element type
+   * @return validating iterator
+   * @throws IllegalArgumentException if {@code source} is {@code null}
+   */
+  public static <T> Iterator<T> iterator(Iterator<T> source, String argName) {
+    if (source == null)
+      throw Check.violation(Check.EMPTY, null, argName);
+    return new ValidatingIterator<>(source, argName);
+  }
+
+  /**
+   * Wraps a {@link Spliterator}. Traversal throws on a {@code null}
+   *  element; a source of known size throws right away if it is
+   *  empty, any other once every split part is exhausted without
+   *  yielding an element.
+   * <p>Reports the characteristics of {@code source} plus
+   *  {@link Spliterator#NONNULL}, so {@link Spliterator#SIZED}
+   *  and {@link Spliterator#SUBSIZED} sources still split evenly
+   *  in parallel streams.
+   * @param source wrapped spliterator
+   * @param argName name of the argument
+   * @param <T> element type
+   * @return validating spliterator
+   * @throws IllegalArgumentException if {@code source} is {@code null}
+   *                                  or known to be empty
+   */
+  public static <T> Spliterator<T> spliterator(Spliterator<T> source, String argName) {
+    if (source == null || source.getExactSizeIfKnown() == 0)
+      throw Check.violation(Check.EMPTY, null, argName);
+    return new ValidatingSpliterator<>(source, argName, new Progress());
+  }
+
+  /**
+   * Applies a {@link Rule} to every element of a {@link Stream},
+   *  throwing on the first invalid one.
+   * @param source validated stream
+   * @param rule applied rule
+   * @param argName name reported for invalid elements
+   * @param <T> element type
+   * @return validating stream
+   * @throws IllegalArgumentException if {@code source} or {@code rule} is {@code null}
+   */
+  public static <T> Stream<T> stream(Stream<T> source, Rule<? super T> rule, String argName) {
+    return stream(source, rule, argName, OnViolation.FAIL_FAST, null);
+  }
+
+  /**
+   * Applies a {@link Rule} to every element of a {@link Stream}.
+   *  The check runs as an intermediate {@code filter} operation,
+   *  i.e. only as the stream is consumed; in parallel streams the
+   *  {@code sideChannel} may be called concurrently.
+   * @param source validated stream
+   * @param rule applied rule
+   * @param argName name reported for invalid elements
+   * @param mode what to do with invalid elements
+   * @param sideChannel receiver of invalid elements and their violation
+   *                    codes; only required for {@link OnViolation#SIDE_CHANNEL}
+   * @param <T> element type
+   * @return validating stream
+   * @throws IllegalArgumentException if a required argument is {@code null}
+   */
+  public static <T> Stream<T> stream(Stream<T> source, Rule<? super T> rule, String argName,
+                                     OnViolation mode, ObjIntConsumer<? super T> sideChannel) {
+    Ensure.requireNonNull(source, "source");
+    return source.filter(new RuleGate<>(rule, argName, mode, sideChannel));
+  }
+
+  /**
+   * Applies a {@link Rule} to every element of a {@link
+   *  Flow.Publisher}, failing the subscriber on the first
+   *  invalid one.
+   * @param source validated publisher
+   * @param rule applied rule
+   * @param argName name reported for invalid elements
+   * @param <T> element type
+   * @return validating publisher
+   * @throws IllegalArgumentException if {@code source} or {@code rule} is {@code null}
+   */
+  public static <T> Flow.Publisher<T> publisher(Flow.Publisher<? extends T> source,
+                                                Rule<? super T> rule, String argName) {
+    return publisher(source, rule, argName, OnViolation.FAIL_FAST, null);
+  }
+
+  /**
+   * Applies a {@link Rule} to every element of a {@link
+   *  Flow.Publisher}. Each subscriber gets its own {@link
+   *  Validating#processor(Rule, String, OnViolation, ObjIntConsumer)
+   *  processor}, subscribed to {@code source}.
+   * @param source validated publisher
+   * @param rule applied rule
+   * @param argName name reported for invalid elements
+   * @param mode what to do with invalid elements
+   * @param sideChannel receiver of invalid elements and their violation
+   *                    codes; only required for {@link OnViolation#SIDE_CHANNEL}
+   * @param <T> element type
+   * @return validating publisher
+   * @throws IllegalArgumentException if a required argument is {@code null}
+   */
+  public static <T> Flow.Publisher<T> publisher(Flow.Publisher<? extends T> source,
+                                                Rule<? super T> rule, String argName,
+                                                OnViolation mode,
+                                                ObjIntConsumer<? super T> sideChannel) {
+    Ensure.requireNonNull(source, "source");
+    RuleGate<T> gate = new RuleGate<>(rule, argName, mode, sideChannel);
+    return subscriber -> {
+      ValidatingProcessor<T> processor = new ValidatingProcessor<>(gate);
+      processor.subscribe(subscriber);
+      source.subscribe(processor);
+    };
+  }
+
+  /**
+   * Creates a {@link Flow.Processor} applying a {@link Rule} to
+   *  every element it relays; serves a single subscriber.
+   * <p>Respects backpressure: the subscriber's demand is passed
+   *  upstream, and every skipped element is replaced by requesting
+   *  one more. In {@link OnViolation#FAIL_FAST} mode, the first
+   *  invalid element cancels the upstream and is reported to the
+   *  subscriber through {@code onError}.
+   * @param rule applied rule
+   * @param argName name reported for invalid elements
+   * @param mode what to do with invalid elements
+   * @param sideChannel receiver of invalid elements and their violation
+   *                    codes; only required for {@link OnViolation#SIDE_CHANNEL}
+   * @param <T> element type
+   * @return validating processor
+   * @throws IllegalArgumentException if a required argument is {@code null}
+   */
+  public static <T> Flow.Processor<T, T> processor(Rule<? super T> rule, String argName,
+                                                   OnViolation mode,
+                                                   ObjIntConsumer<? super T> sideChannel) {
+    return new ValidatingProcessor<>(new RuleGate<>(rule, argName, mode, sideChannel));
+  }
+
+  private static ViolationException nullElement(String argName) {
+    return Check.violation(Check.NULL_ELEMENT, null, argName);
+  }
+
+  private static final class ValidatingIterator<T> implements Iterator<T> {
+
+    private final Iterator<T> source;
+    private final String argName;
+    private boolean seen;
+
+    private ValidatingIterator(Iterator<T> source, String argName) {
+      this.source = source;
+      this.argName = argName;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (source.hasNext())
+        return true;
+      if (!seen)
+        throw Check.violation(Check.EMPTY, null, argName);
+      return false;
+    }
+
+    @Override
+    public T next() {
+      T next = source.next();
+      if (next == null)
+        throw nullElement(argName);
+      seen = true;
+      return next;
+    }
+
+    @Override
+    public void remove() {
+      source.remove();
+    }
+
+  }
+
+  /**
+   * Tracks a spliterator and its split parts: whether
+   *  any of them yielded an element, and how many are
+   *  not exhausted yet.
+   */
+  private static final class Progress {
+
+    private final AtomicBoolean seen = new AtomicBoolean();
+    private final AtomicInteger open = new AtomicInteger(1);
+
+  }
+
+  private static final class ValidatingSpliterator<T> implements Spliterator<T>, Consumer<T> {
+
+    private final Spliterator<T> source;
+    private final String argName;
+    private final Progress progress;
+    private Consumer<? super T> action;
+    private boolean seen;
+    private boolean exhausted;
+
+    private ValidatingSpliterator(Spliterator<T> source, String argName, Progress progress) {
+      this.source = source;
+      this.argName = argName;
+      this.progress = progress;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      this.action = action;
+      if (source.tryAdvance(this))
+        return true;
+      exhaust();
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      this.action = action;
+      source.forEachRemaining(this);
+      exhaust();
+    }
+
+    @Override
+    public void accept(T t) {
+      if (t == null)
+        throw nullElement(argName);
+      if (!seen) {
+        seen = true;
+        progress.seen.set(true);
+      }
+      action.accept(t);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      Spliterator<T> prefix = source.trySplit();
+      if (prefix == null)
+        return null;
+      progress.open.incrementAndGet();
+      return new ValidatingSpliterator<>(prefix, argName, progress);
+    }
+
+    @Override
+    public long estimateSize() {
+      return source.estimateSize();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+      return source.getExactSizeIfKnown();
+    }
+
+    @Override
+    public int characteristics() {
+      return source.characteristics() | NONNULL;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+      return source.getComparator();
+    }
+
+    private void exhaust() {
+      if (exhausted)
+        return;
+      exhausted = true;
+      if (progress.open.decrementAndGet() == 0 && !progress.seen.get())
+        throw Check.violation(Check.EMPTY, null, argName);
+    }
+
+  }
+
+  private Validating() { }
+
+}
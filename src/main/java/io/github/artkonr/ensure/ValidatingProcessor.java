@@ -0,0 +1,136 @@
+package io.github.artkonr.ensure;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link Flow.Processor} passing through the elements
+ *  accepted by a {@link RuleGate}. Serves a single subscriber.
+ * <p>Demand is forwarded upstream as is; every skipped
+ *  element is replaced by requesting one more, so the
+ *  subscriber gets as many elements as it asked for
+ *  and nothing is buffered.
+ * @param <T> element type
+ * @author artkonr@gmail.com
+ */
+final class ValidatingProcessor<T> implements Flow.Processor<T, T>, Flow.Subscription {
+
+  private final RuleGate<T> gate;
+  private Flow.Subscription upstream;
+  private Flow.Subscriber<? super T> downstream;
+  private boolean started;
+  private boolean completed;
+  private Throwable failure;
+  private volatile boolean done;
+
+  /**
+   * Creates a processor.
+   * @param gate applied gate
+   */
+  ValidatingProcessor(RuleGate<T> gate) {
+    this.gate = gate;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+    synchronized (this) {
+      if (downstream == null) {
+        downstream = subscriber;
+        start();
+        return;
+      }
+    }
+    subscriber.onSubscribe(Cancelled.INSTANCE);
+    subscriber.onError(new IllegalStateException("Only one subscriber is supported"));
+  }
+
+  @Override
+  public synchronized void onSubscribe(Flow.Subscription subscription) {
+    Objects.requireNonNull(subscription, "subscription");
+    if (upstream != null) {
+      subscription.cancel();
+      return;
+    }
+    upstream = subscription;
+    start();
+  }
+
+  @Override
+  public void onNext(T item) {
+    Objects.requireNonNull(item, "item");
+    if (done)
+      return;
+    boolean passed;
+    try {
+      passed = gate.test(item);
+    } catch (RuntimeException x) {
+      cancel();
+      downstream.onError(x);
+      return;
+    }
+    if (passed)
+      downstream.onNext(item);
+    else
+      upstream.request(1);
+  }
+
+  @Override
+  public synchronized void onError(Throwable throwable) {
+    Objects.requireNonNull(throwable, "throwable");
+    if (done)
+      return;
+    done = true;
+    if (started)
+      downstream.onError(throwable);
+    else
+      failure = throwable;
+  }
+
+  @Override
+  public synchronized void onComplete() {
+    if (done)
+      return;
+    done = true;
+    if (started)
+      downstream.onComplete();
+    else
+      completed = true;
+  }
+
+  @Override
+  public void request(long n) {
+    upstream.request(n);
+  }
+
+  @Override
+  public void cancel() {
+    done = true;
+    upstream.cancel();
+  }
+
+  private void start() {
+    if (upstream == null || downstream == null)
+      return;
+    started = true;
+    downstream.onSubscribe(this);
+    if (failure != null)
+      downstream.onError(failure);
+    else if (completed)
+      downstream.onComplete();
+  }
+
+  /** Subscription handed to rejected subscribers. */
+  private enum Cancelled implements Flow.Subscription {
+
+    INSTANCE;
+
+    @Override
+    public void request(long n) { }
+
+    @Override
+    public void cancel() { }
+
+  }
+
+}
@@ -0,0 +1,182 @@
+package io.github.artkonr.ensure;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runtime switches of {@link ValidationLevel}s. Non-instantiable.
+ * <p>The global level, {@link ValidationLevel#FULL} unless set by
+ *  the {@code ensure.level} system property, applies to every check
+ *  in {@link Ensure}. It is held in a {@link MutableCallSite}, so
+ *  the JIT compiles the guard of each check down to a constant and
+ *  a change deoptimises only the code compiled against the old one:
+ *  checks that are off cost nothing in steady state, and the guard
+ *  of checks that are on sits on their failure path.
+ * <p>{@link ValidationGroup}s let callers switch their own checks
+ *  per package or per named layer, e.g. to skip {@code deepNotEmpty}
+ *  in trusted internal code during peak load. A group's initial
+ *  level may be set with the {@code ensure.level.<name>} system
+ *  property.
+ * <p>A property naming no level is logged as a warning through
+ *  the {@link System.Logger} of this class and ignored: the global level falls back to {@link
+ *  ValidationLevel#FULL}, and the group inherits its level.
+ * <p>The library's own invariants, such as those of the {@link
+ *  NullFree} containers, and the arguments of its own classes,
+ *  such as {@link Violations} or {@link HostAllowList}, are
+ *  enforced whatever the level.
+ * @author artkonr@gmail.com
+ */
+public final class Validation {
+
+  private static final ValidationLevel[] LEVELS = ValidationLevel.values();
+
+  private static final MutableCallSite LEVEL = new MutableCallSite(MethodHandles.constant(int.class,
+          level("ensure.level", ValidationLevel.FULL).ordinal()));
+
+  private static final MethodHandle LEVEL_INVOKER = LEVEL.dynamicInvoker();
+
+  private static final Map<String, ValidationGroup> GROUPS = new ConcurrentHashMap<>();
+
+  private static final Comparator<ValidationGroup> BY_DEPTH = Comparator.comparingInt(Validation::depth);
+
+  private static final String GROUP_NAME = "group-name";
+
+
+  /**
+   * Returns the global level.
+   * @return level applied by {@link Ensure}
+   */
+  public static ValidationLevel getLevel() {
+    return LEVELS[level()];
+  }
+
+  /**
+   * Sets the global level, along with the effective level
+   *  of the groups that inherit it.
+   * @param level new level
+   * @throws IllegalArgumentException if {@code level} is {@code null}
+   */
+  public static synchronized void setLevel(ValidationLevel level) {
+    Ensure.requireNonNull(level, "level");
+    if (level() == level.ordinal())
+      return;
+    LEVEL.setTarget(MethodHandles.constant(int.class, level.ordinal()));
+    MutableCallSite.syncAll(new MutableCallSite[] {LEVEL});
+    refreshGroups();
+  }
+
+  /**
+   * Returns the group of the provided name, creating it
+   *  along with its missing ancestors if needed.
+   * @param name dot-separated group name, e.g. a package name
+   * @return group of that name
+   * @throws IllegalArgumentException if {@code name} is blank,
+   *                                  starts or ends with a dot
+   *                                  or has an empty segment
+   */
+  public static ValidationGroup group(String name) {
+    ValidationGroup group = GROUPS.get(name == null ? "" : name);
+    return group != null ? group : create(name);
+  }
+
+  /**
+   * Returns the group of the package of the provided class.
+   * @param type class whose package names the group
+   * @return group of that package
+   * @throws IllegalArgumentException if {@code type} is {@code null}
+   *                                  or in the unnamed package
+   */
+  public static ValidationGroup group(Class<?> type) {
+    Ensure.requireNonNull(type, "type");
+    return group(type.getPackageName());
+  }
+
+  /**
+   * Checks if the global level includes {@link ValidationLevel#CHEAP}.
+   * @return {@code true} if checks are on
+   */
+  static boolean cheap() {
+    return level() >= 1;
+  }
+
+  /**
+   * Checks if the global level is {@link ValidationLevel#FULL}.
+   * @return {@code true} if traversing checks are on
+   */
+  static boolean full() {
+    return level() >= 2;
+  }
+
+  /**
+   * Sets the level of a group and refreshes the effective levels.
+   * @param group changed group
+   * @param level new level or {@code null} to inherit
+   */
+  static synchronized void setLevel(ValidationGroup group, ValidationLevel level) {
+    group.own(level);
+    refreshGroups();
+  }
+
+  private static int level() {
+    try {
+      return (int) LEVEL_INVOKER.invokeExact();
+    } catch (Throwable x) {
+      throw new AssertionError(x);
+    }
+  }
+
+  private static synchronized ValidationGroup create(String name) {
+    if (name == null || name.isBlank() || name.startsWith(".") || name.endsWith(".") || name.contains(".."))
+      throw Events.violation(new ViolationException("name", false, Ensure.STRING, GROUP_NAME, name, null));
+    ValidationGroup group = GROUPS.get(name);
+    if (group == null) {
+      int dot = name.lastIndexOf('.');
+      ValidationGroup parent = dot < 0 ? null : create(name.substring(0, dot));
+      group = new ValidationGroup(name, parent, level("ensure.level." + name, null));
+      GROUPS.put(name, group);
+    }
+    return group;
+  }
+
+  private static void refreshGroups() {
+    GROUPS.values().stream()
+            .sorted(BY_DEPTH)
+            .forEachOrdered(ValidationGroup::refresh);
+  }
+
+  private static int depth(ValidationGroup group) {
+    int depth = 0;
+    for (ValidationGroup g = group.parent(); g != null; g = g.parent())
+      depth++;
+    return depth;
+  }
+
+  /**
+   * Reads a level from a system property; each property
+   *  is read once, so a bad value is reported once.
+   * @param key property key
+   * @param fallback level if the property is unset or malformed
+   * @return level
+   */
+  private static ValidationLevel level(String key, ValidationLevel fallback) {
+    String property = System.getProperty(key);
+    if (property == null)
+      return fallback;
+    String name = property.trim().toUpperCase(Locale.ROOT);
+    for (ValidationLevel level : LEVELS)
+      if (level.name().equals(name))
+        return level;
+    System.getLogger(Validation.class.getName()).log(System.Logger.Level.WARNING,
+            "Ignoring -D" + key + "=" + property + ", not one of " + Arrays.toString(LEVELS));
+    return fallback;
+  }
+
+  private Validation() { }
+
+}
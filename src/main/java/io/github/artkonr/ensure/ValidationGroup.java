@@ -0,0 +1,118 @@
+package io.github.artkonr.ensure;
+
+/**
+ * A named switch of a {@link ValidationLevel}, obtained
+ *  from {@link Validation#group(String)}, for guarding
+ *  checks of a layer or package at runtime:
+ * <pre>{@code
+ * private static final ValidationGroup GROUP = Validation.group(Repository.class);
+ *
+ * void saveAll(List<Order> orders) {
+ *   if (GROUP.includes(ValidationLevel.FULL))
+ *     Ensure.deepNotEmpty(orders, "orders");
+ *   ...
+ * }
+ * }</pre>
+ * <p>Names are dot-separated, like package names. A group
+ *  without a level of its own inherits the level of its
+ *  closest ancestor that has one, e.g. {@code com.acme.orders}
+ *  inherits from {@code com.acme}, and the topmost groups
+ *  inherit the global {@link Validation#getLevel() level}.
+ * <p>A guard is a single memory read, so it stays cheap but,
+ *  unlike the global level, is not folded away by the JIT.
+ * @author artkonr@gmail.com
+ */
+public final class ValidationGroup {
+
+  private final String name;
+
+  private final ValidationGroup parent;
+
+  private volatile ValidationLevel own;
+
+  private volatile ValidationLevel effective;
+
+  /**
+   * Creates a new group.
+   * @param name group name
+   * @param parent closest ancestor or {@code null} for a topmost group
+   * @param own initial level of this group or {@code null} to inherit
+   */
+  ValidationGroup(String name, ValidationGroup parent, ValidationLevel own) {
+    this.name = name;
+    this.parent = parent;
+    this.own = own;
+    refresh();
+  }
+
+  /**
+   * Returns the name of this group.
+   * @return group name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the level in effect for this group, be it
+   *  its own or inherited.
+   * @return effective level
+   */
+  public ValidationLevel getLevel() {
+    return effective;
+  }
+
+  /**
+   * Sets the level of this group and of the descendant
+   *  groups that inherit it.
+   * @param level new level or {@code null} to inherit
+   *              the level of the closest ancestor
+   */
+  public void setLevel(ValidationLevel level) {
+    Validation.setLevel(this, level);
+  }
+
+  /**
+   * Checks if the effective level includes the checks of {@code level}.
+   * @param level required level
+   * @return {@code true} if checks of {@code level} should run
+   * @throws IllegalArgumentException if {@code level} is {@code null}
+   */
+  public boolean includes(ValidationLevel level) {
+    return effective.includes(level);
+  }
+
+  /**
+   * Returns the closest ancestor.
+   * @return parent group or {@code null} for a topmost group
+   */
+  ValidationGroup parent() {
+    return parent;
+  }
+
+  /**
+   * Replaces the level of this group; the effective levels
+   *  are updated by the caller.
+   * @param level new level or {@code null} to inherit
+   */
+  void own(ValidationLevel level) {
+    own = level;
+  }
+
+  /**
+   * Recomputes the effective level; the parent, if any,
+   *  must have been refreshed first.
+   */
+  void refresh() {
+    ValidationLevel level = own;
+    if (level == null)
+      level = parent != null ? parent.effective : Validation.getLevel();
+    effective = level;
+  }
+
+  @Override
+  public String toString() {
+    return name + '=' + effective;
+  }
+
+}
@@ -0,0 +1,41 @@
+package io.github.artkonr.ensure;
+
+/**
+ * How thoroughly checks are applied, see {@link Validation}.
+ *  Levels are ordered: each one includes the checks of
+ *  the previous ones.
+ * @author artkonr@gmail.com
+ */
+public enum ValidationLevel {
+
+  /**
+   * No checks; failing values pass silently.
+   */
+  OFF,
+
+  /**
+   * Constant-time checks only, e.g. {@link Ensure#notNull(Object)}
+   *  or {@link Ensure#isPositive(int)}. Checks that traverse their
+   *  argument, e.g. {@link Ensure#deepNotEmpty(java.util.Collection)},
+   *  {@link Ensure#allPositive(int[])} or {@code Ensure.each},
+   *  only check the container itself.
+   */
+  CHEAP,
+
+  /**
+   * Every check.
+   */
+  FULL;
+
+  /**
+   * Checks if this level includes the checks of {@code level}.
+   * @param level required level
+   * @return {@code true} if this level is at least {@code level}
+   * @throws IllegalArgumentException if {@code level} is {@code null}
+   */
+  public boolean includes(ValidationLevel level) {
+    Ensure.requireNonNull(level, "level");
+    return compareTo(level) >= 0;
+  }
+
+}
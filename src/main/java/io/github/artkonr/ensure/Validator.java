@@ -0,0 +1,165 @@
+package io.github.artkonr.ensure;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A precompiled chain of {@link Rule}s applied to a single
+ *  value. Immutable and thread-safe, so it is meant to be
+ *  built once and kept in a {@code static final} field:
+ * <pre>{@code
+ * private static final Validator<String> SKU = Validator.forStrings()
+ *     .notBlank()
+ *     .maxLength(32)
+ *     .pattern("[A-Z0-9-]+")
+ *     .build();
+ *
+ * void place(String sku) {
+ *   SKU.validate(sku, "sku");
+ *   ...
+ * }
+ * }</pre>
+ * <p>Rules are applied in the order they were added, and the
+ *  first failing one is reported. Consecutive {@link String}
+ *  rules are fused into a single pass: the value is checked for
+ *  {@code null} once, scanned for blankness at most once, and
+ *  redundant rules (e.g. {@code notNull} before {@code notBlank})
+ *  are dropped at build time.
+ * <p>In the <b>adaptive</b> mode (see {@link ValidatorBuilder#adaptive()}),
+ *  the rules are reordered at runtime so that those that fail often
+ *  and cost little come first, making rejections cheap; fused string
+ *  rules are then kept apart so that each can move on its own. Any
+ *  failed rule may be reported, not necessarily the first one added,
+ *  and rules must not depend on each other, apart from relying on the
+ *  leading {@code null}-rejecting rules, which keep their position.
+ * <p>A validator is a {@link Rule} itself, so it fits {@link
+ *  Validating} stages and {@link Ensure#each(Iterable,
+ *  java.util.function.Function, Rule, String)}.
+ * @param <T> checked type
+ * @author artkonr@gmail.com
+ */
+public final class Validator<T> implements Rule<T> {
+
+  private final Rule<? super T>[] rules;
+
+  /** Evaluation order in the adaptive mode or {@code null}. */
+  private final AdaptiveOrder adaptive;
+
+  /**
+   * Creates a new validator.
+   * @param rules applied rules, in order
+   * @param adaptive whether rules are reordered at runtime
+   * @param pinned number of leading rules kept in place
+   *               in the adaptive mode
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  Validator(List<Rule<? super T>> rules, boolean adaptive, int pinned) {
+    this.rules = rules.toArray(new Rule[0]);
+    this.adaptive = adaptive && this.rules.length > pinned + 1
+            ? new AdaptiveOrder(this.rules.length, pinned)
+            : null;
+  }
+
+  /**
+   * Starts building a validator of arbitrary values.
+   * @param <T> checked type
+   * @return new builder
+   */
+  public static <T> ValidatorBuilder<T> builder() {
+    return new ValidatorBuilder<>();
+  }
+
+  /**
+   * Starts building a validator of {@link String}s,
+   *  with fused string rules.
+   * @return new builder
+   */
+  public static StringValidatorBuilder forStrings() {
+    return new StringValidatorBuilder();
+  }
+
+  /**
+   * Applies the rules to the provided value.
+   * @param val checked value
+   * @return {@link Check#OK} or the code of the first failed rule
+   */
+  @Override
+  public int check(T val) {
+    if (adaptive != null)
+      return (int) adaptiveCheck(val);
+    for (Rule<? super T> rule : rules) {
+      int code = rule.check(val);
+      if (code != Check.OK)
+        return code;
+    }
+    return Check.OK;
+  }
+
+  /**
+   * Returns the rules in their current evaluation order;
+   *  fixed unless the validator is adaptive.
+   * @return snapshot of the rules
+   */
+  public List<Rule<? super T>> rules() {
+    List<Rule<? super T>> out = new ArrayList<>(rules.length);
+    if (adaptive == null) {
+      Collections.addAll(out, rules);
+    } else {
+      for (int i : adaptive.order())
+        out.add(rules[i]);
+    }
+    return Collections.unmodifiableList(out);
+  }
+
+  /**
+   * Applies the rules to the provided value
+   *  and throws on the first failed one.
+   * @param val checked value
+   * @throws IllegalArgumentException if check fails
+   */
+  public void validate(T val) {
+    validate(val, null);
+  }
+
+  /**
+   * Applies the rules to the provided value
+   *  and throws on the first failed one.
+   * @param val checked value
+   * @param argName name of the argument
+   * @throws IllegalArgumentException if check fails
+   */
+  public void validate(T val, String argName) {
+    if (adaptive != null) {
+      long failed = adaptiveCheck(val);
+      if (failed != Check.OK)
+        throw DescribedRule.violation(rules[(int) (failed >>> 32)], (int) failed, val, argName);
+      return;
+    }
+    for (Rule<? super T> rule : rules) {
+      int code = rule.check(val);
+      if (code != Check.OK)
+        throw DescribedRule.violation(rule, code, val, argName);
+    }
+  }
+
+  /**
+   * Applies the rules in the adaptive order.
+   * @param val checked value
+   * @return declared index of the failed rule in the upper half and
+   *         its code in the lower half, or {@link Check#OK}
+   */
+  private long adaptiveCheck(T val) {
+    if (AdaptiveOrder.sampled()) {
+      long failed = adaptive.sample(rules, val);
+      return failed < 0 ? Check.OK : failed;
+    }
+    for (int i : adaptive.order()) {
+      int code = rules[i].check(val);
+      if (code != Check.OK)
+        return (long) i << 32 | code & 0xFFFFFFFFL;
+    }
+    return Check.OK;
+  }
+
+}
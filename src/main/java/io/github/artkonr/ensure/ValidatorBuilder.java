@@ -0,0 +1,68 @@
+package io.github.artkonr.ensure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the rules of a {@link Validator}; obtained
+ *  from {@link Validator#builder()}. Not thread-safe.
+ * @param <T> checked type
+ * @author artkonr@gmail.com
+ */
+public final class ValidatorBuilder<T> {
+
+  private final List<Rule<? super T>> rules = new ArrayList<>();
+  private int pinned;
+  private boolean adaptive;
+
+  /**
+   * Creates a new builder.
+   */
+  ValidatorBuilder() { }
+
+  /**
+   * Adds a {@link Check#notNull(Object)} rule.
+   * @return this builder
+   */
+  public ValidatorBuilder<T> notNull() {
+    if (pinned == rules.size())
+      pinned++;
+    rules.add(Check::notNull);
+    return this;
+  }
+
+  /**
+   * Adds a custom rule.
+   * @param rule added rule
+   * @return this builder
+   * @throws IllegalArgumentException if {@code rule} is {@code null}
+   */
+  public ValidatorBuilder<T> rule(Rule<? super T> rule) {
+    Ensure.requireNonNull(rule, "rule");
+    rules.add(rule);
+    return this;
+  }
+
+  /**
+   * Makes the validator reorder its rules at runtime, moving
+   *  those that fail often at little cost to the front; the
+   *  leading {@link ValidatorBuilder#notNull()} rules stay first.
+   *  Rules must then not rely on each other.
+   * @return this builder
+   * @see Validator
+   */
+  public ValidatorBuilder<T> adaptive() {
+    adaptive = true;
+    return this;
+  }
+
+  /**
+   * Creates a validator of the rules added so far;
+   *  the builder may be reused afterwards.
+   * @return new validator
+   */
+  public Validator<T> build() {
+    return new Validator<>(rules, adaptive, pinned);
+  }
+
+}
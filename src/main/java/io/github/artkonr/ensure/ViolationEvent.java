@@ -0,0 +1,54 @@
+package io.github.artkonr.ensure;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded for every violation created
+ *  by a failed check; see {@link Events}.
+ * @author artkonr@gmail.com
+ */
+@Name("io.github.artkonr.ensure.Violation")
+@Label("Argument Violation")
+@Category("Ensure")
+@Description("A failed argument check")
+@StackTrace(false)
+final class ViolationEvent extends Event {
+
+  /** Name of the checked argument, if any. */
+  @Label("Argument Name")
+  String argName;
+
+  /** Failed expectation, e.g. {@code >0}. */
+  @Label("Rule")
+  String rule;
+
+  /** Checked type, if the check is type-specific. */
+  @Label("Value Type")
+  String type;
+
+  /** First caller outside of the library. */
+  @Label("Call Site")
+  String callSite;
+
+  /**
+   * Records an event for {@code violation} if
+   *  the event is enabled.
+   * @param violation created violation
+   */
+  static void emit(ViolationException violation) {
+    ViolationEvent event = new ViolationEvent();
+    if (event.shouldCommit()) {
+      event.argName = violation.getArgName();
+      event.rule = violation.getExpectation();
+      event.type = violation.getType();
+      event.callSite = Events.callSite();
+      event.commit();
+    }
+  }
+
+}
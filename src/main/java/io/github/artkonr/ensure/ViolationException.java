@@ -0,0 +1,226 @@
+package io.github.artkonr.ensure;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
+
+/**
+ * An {@link IllegalArgumentException} thrown by every failed
+ *  {@link Ensure} check.
+ * <p>Keeps the details of the violation as separate fields
+ *  (see {@link ViolationException#getArgName()}, {@link
+ *  ViolationException#getType()}, {@link
+ *  ViolationException#getExpectation()} and {@link
+ *  ViolationException#getActual()}) and renders the
+ *  {@code Bad arg: ...} message only on the first call to
+ *  {@link ViolationException#getMessage()}.
+ * <p>May be switched into <b>stackless</b> mode, either
+ *  globally (see {@link ViolationException#setStackless(boolean)}
+ *  or the {@code ensure.stackless} system property), or for
+ *  the calling thread only (see {@link
+ *  ViolationException#stackless(Runnable)}). In stackless mode
+ *  the exception skips {@link Throwable#fillInStackTrace()}
+ *  and reports an empty stack trace, which makes throwing
+ *  considerably cheaper when rejections are frequent.
+ * @author artkonr@gmail.com
+ */
+public class ViolationException extends IllegalArgumentException {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final ThreadLocal<Boolean> STACKLESS_SCOPE = new ThreadLocal<>();
+
+  private static volatile boolean stackless = Boolean.getBoolean("ensure.stackless");
+
+  private static final String MESSAGE_START = "Bad arg: ";
+  private static final String NAME_DECL = "argName=";
+  private static final String ELEMENT_DECL = "elementOf=";
+  private static final String TYPE_DECL = "type=";
+  private static final String VAL_DECL = "actual=";
+  private static final String EXPECT_DECL = "expected=";
+  private static final char SEP = ';';
+
+  /** Name of the checked argument or container, if any. */
+  private final String argName;
+  /** Whether the violation is about an element of {@code argName}. */
+  private final boolean element;
+  /** Simple name of the checked type, if any. */
+  private final String type;
+  /** Expectation that was not met. */
+  private final String expectation;
+  private final transient Object actual;
+  /** Rendered message; always set before serialization. */
+  private String message;
+
+  /**
+   * Creates an exception describing a violation;
+   *  the message is rendered on demand.
+   * @param argName name of the argument or {@code null}
+   * @param element whether an element of {@code argName} is violating
+   * @param type simple name of the checked type or {@code null}
+   * @param expectation expectation that was not met
+   * @param actual rejected value
+   * @param cause underlying failure or {@code null}
+   */
+  ViolationException(String argName, boolean element, String type,
+                     String expectation, Object actual, Throwable cause) {
+    super((String) null);
+    if (cause != null)
+      initCause(cause);
+    this.argName = argName;
+    this.element = element;
+    this.type = type;
+    this.expectation = expectation;
+    this.actual = actual;
+  }
+
+  /**
+   * Returns the name of the checked argument. For checks
+   *  of container elements, it is the name of the container.
+   * @return argument name or {@code null} if none was provided
+   */
+  public String getArgName() {
+    return argName;
+  }
+
+  /**
+   * Returns the simple name of the checked type,
+   *  e.g. {@code int} or {@code String}.
+   * @return type name or {@code null} if the check is not type-specific
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * Returns the expectation that was not met,
+   *  e.g. {@code >0} or {@code non-null&non-blank}.
+   * @return failed expectation
+   */
+  public String getExpectation() {
+    return expectation;
+  }
+
+  /**
+   * Returns the rejected value. Container checks
+   *  report {@link Boolean#FALSE} instead of the container.
+   * @return rejected value; {@code null} once deserialized
+   */
+  public Object getActual() {
+    return actual;
+  }
+
+  /**
+   * Returns the violation message, rendering
+   *  it on the first call.
+   * @return violation message
+   */
+  @Override
+  public String getMessage() {
+    String rendered = message;
+    if (rendered == null) {
+      rendered = render();
+      message = rendered;
+    }
+    return rendered;
+  }
+
+  /**
+   * Fills in the stack trace unless stackless
+   *  mode is active for the current thread.
+   * @return this instance
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return isStackless() ? this : super.fillInStackTrace();
+  }
+
+  /**
+   * Globally enables or disables stackless mode.
+   * @param enabled {@code true} to stop capturing stack traces
+   */
+  public static void setStackless(boolean enabled) {
+    stackless = enabled;
+  }
+
+  /**
+   * Checks if exceptions created by the current
+   *  thread skip stack trace capture, either because
+   *  of the global setting or an enclosing {@link
+   *  ViolationException#stackless(Runnable)} scope.
+   * @return {@code true} if stackless mode is active
+   */
+  public static boolean isStackless() {
+    return stackless || STACKLESS_SCOPE.get() == Boolean.TRUE;
+  }
+
+  /**
+   * Runs the provided action with stackless
+   *  mode enabled for the current thread.
+   * @param action action to run
+   * @throws IllegalArgumentException if {@code action} is {@code null}
+   */
+  public static void stackless(Runnable action) {
+    Ensure.requireNonNull(action, "action");
+    Boolean previous = STACKLESS_SCOPE.get();
+    STACKLESS_SCOPE.set(Boolean.TRUE);
+    try {
+      action.run();
+    } finally {
+      restore(previous);
+    }
+  }
+
+  /**
+   * Computes a result with stackless mode
+   *  enabled for the current thread.
+   * @param action action to run
+   * @param <T> result type
+   * @return result of the action
+   * @throws IllegalArgumentException if {@code action} is {@code null}
+   */
+  public static <T> T stackless(Supplier<T> action) {
+    Ensure.requireNonNull(action, "action");
+    Boolean previous = STACKLESS_SCOPE.get();
+    STACKLESS_SCOPE.set(Boolean.TRUE);
+    try {
+      return action.get();
+    } finally {
+      restore(previous);
+    }
+  }
+
+  private String render() {
+    StringBuilder out = new StringBuilder(64).append(MESSAGE_START);
+    if (argName != null)
+      out.append(element ? ELEMENT_DECL : NAME_DECL).append(argName).append(SEP);
+    if (type != null)
+      out.append(TYPE_DECL).append(type).append(SEP);
+    out.append(EXPECT_DECL).append(expectation)
+            .append(SEP).append(VAL_DECL).append(actual);
+    Throwable cause = getCause();
+    if (cause != null)
+      out.append(": ").append(cause.getMessage());
+    return out.toString();
+  }
+
+  /**
+   * Renders the message before the default
+   *  serialization, as the rejected value is
+   *  not serialized.
+   * @param out target stream
+   * @throws IOException if writing fails
+   */
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    getMessage();
+    out.defaultWriteObject();
+  }
+
+  private static void restore(Boolean previous) {
+    if (previous == null)
+      STACKLESS_SCOPE.remove();
+    else
+      STACKLESS_SCOPE.set(previous);
+  }
+
+}
@@ -0,0 +1,896 @@
+package io.github.artkonr.ensure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A reusable accumulator of argument violations.
+ * <p>Offers the same checks as {@link Ensure}, but instead of
+ *  throwing on the first failure it records every violation
+ *  into preallocated buffers; {@link Violations#throwIfAny()}
+ *  then throws a single {@link ViolationsException} covering
+ *  all of them. Recording a passed check allocates nothing.
+ * <p>Instances are <b>not</b> thread-safe, but may be reused
+ *  after {@link Violations#reset()}, e.g. from a pool or via
+ *  {@link Violations#local()}:
+ * <pre>{@code
+ * Violations.local()
+ *         .notBlank(request.sku(), "sku")
+ *         .isPositive(request.quantity(), "quantity")
+ *         .throwIfAny();
+ * }</pre>
+ * @author artkonr@gmail.com
+ */
+public final class Violations {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private static final ThreadLocal<Violations> LOCAL = ThreadLocal.withInitial(Violations::new);
+
+  private int[] codes;
+  private String[] names;
+  private long[] numbers;
+  private Object[] values;
+  private int size;
+
+  /**
+   * Creates an accumulator with a default capacity.
+   */
+  public Violations() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an accumulator able to record {@code capacity}
+   *  violations before growing its buffers.
+   * @param capacity initial capacity
+   * @throws IllegalArgumentException if {@code capacity} is not positive
+   */
+  public Violations(int capacity) {
+    Ensure.requirePositive(capacity, "capacity");
+    codes = new int[capacity];
+    names = new String[capacity];
+    numbers = new long[capacity];
+    values = new Object[capacity];
+  }
+
+  /**
+   * Returns the accumulator of the current
+   *  thread, reset to an empty state.
+   * @return thread-local accumulator
+   */
+  public static Violations local() {
+    return LOCAL.get().reset();
+  }
+
+  // general
+
+  /**
+   * Applies {@link Ensure#notNull(Object)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @return this instance
+   */
+  public Violations notNull(Object val) {
+    return notNull(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#notNull(Object, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations notNull(Object val, String argName) {
+    int code = Check.notNull(val);
+    if (code != Check.OK)
+      add(code, argName, (Object) null);
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#notNull(Object)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations neitherNull(Object val, Object... other) {
+    notNull(val);
+    if (other != null)
+      for (Object o : other)
+        notNull(o);
+    return this;
+  }
+
+  // strings
+
+  /**
+   * Applies {@link Ensure#notBlank(String)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @return this instance
+   */
+  public Violations notBlank(String val) {
+    return notBlank(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#notBlank(String, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations notBlank(String val, String argName) {
+    int code = Check.notBlank(val);
+    if (code != Check.OK)
+      add(code, argName, val);
+    return this;
+  }
+
+  /**
+   * Applies {@link Ensure#nullableNotBlank(String)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @return this instance
+   */
+  public Violations nullableNotBlank(String val) {
+    return nullableNotBlank(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#nullableNotBlank(String, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations nullableNotBlank(String val, String argName) {
+    int code = Check.nullableNotBlank(val);
+    if (code != Check.OK)
+      add(code, argName, val);
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#notBlank(String)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations neitherBlank(String val, String... other) {
+    notBlank(val);
+    if (other != null)
+      for (String o : other)
+        notBlank(o);
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#nullableNotBlank(String)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations neitherNullableNotBlank(String val, String... other) {
+    nullableNotBlank(val);
+    if (other != null)
+      for (String o : other)
+        nullableNotBlank(o);
+    return this;
+  }
+
+  // numerics
+
+  /**
+   * Applies {@link Ensure#isPositive(int)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @return this instance
+   */
+  public Violations isPositive(int val) {
+    return isPositive(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(int, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations isPositive(int val, String argName) {
+    int code = Check.isPositive(val);
+    if (code != Check.OK)
+      add(code, argName, val);
+    return this;
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(int)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @return this instance
+   */
+  public Violations isNonNegative(int val) {
+    return isNonNegative(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(int, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations isNonNegative(int val, String argName) {
+    int code = Check.isNonNegative(val);
+    if (code != Check.OK)
+      add(code, argName, val);
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#isPositive(int)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations arePositive(int val, int... other) {
+    isPositive(val);
+    if (other != null)
+      for (int o : other)
+        isPositive(o);
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#isNonNegative(int)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations areNonNegative(int val, int... other) {
+    isNonNegative(val);
+    if (other != null)
+      for (int o : other)
+        isNonNegative(o);
+    return this;
+  }
+
+
+
+  /**
+   * Applies {@link Ensure#isPositive(long)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @return this instance
+   */
+  public Violations isPositive(long val) {
+    return isPositive(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(long, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations isPositive(long val, String argName) {
+    int code = Check.isPositive(val);
+    if (code != Check.OK)
+      add(code, argName, val);
+    return this;
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(long)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @return this instance
+   */
+  public Violations isNonNegative(long val) {
+    return isNonNegative(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(long, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations isNonNegative(long val, String argName) {
+    int code = Check.isNonNegative(val);
+    if (code != Check.OK)
+      add(code, argName, val);
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#isPositive(long)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations arePositive(long val, long... other) {
+    isPositive(val);
+    if (other != null)
+      for (long o : other)
+        isPositive(o);
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#isNonNegative(long)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations areNonNegative(long val, long... other) {
+    isNonNegative(val);
+    if (other != null)
+      for (long o : other)
+        isNonNegative(o);
+    return this;
+  }
+
+
+
+  /**
+   * Applies {@link Ensure#isPositive(double)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @return this instance
+   */
+  public Violations isPositive(double val) {
+    return isPositive(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(double, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations isPositive(double val, String argName) {
+    int code = Check.isPositive(val);
+    if (code != Check.OK)
+      add(code, argName, Double.doubleToRawLongBits(val));
+    return this;
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(double)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @return this instance
+   */
+  public Violations isNonNegative(double val) {
+    return isNonNegative(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(double, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations isNonNegative(double val, String argName) {
+    int code = Check.isNonNegative(val);
+    if (code != Check.OK)
+      add(code, argName, Double.doubleToRawLongBits(val));
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#isPositive(double)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations arePositive(double val, double... other) {
+    isPositive(val);
+    if (other != null)
+      for (double o : other)
+        isPositive(o);
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#isNonNegative(double)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations areNonNegative(double val, double... other) {
+    isNonNegative(val);
+    if (other != null)
+      for (double o : other)
+        isNonNegative(o);
+    return this;
+  }
+
+
+
+  /**
+   * Applies {@link Ensure#isPositive(float)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @return this instance
+   */
+  public Violations isPositive(float val) {
+    return isPositive(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(float, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations isPositive(float val, String argName) {
+    int code = Check.isPositive(val);
+    if (code != Check.OK)
+      add(code, argName, Float.floatToRawIntBits(val));
+    return this;
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(float)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @return this instance
+   */
+  public Violations isNonNegative(float val) {
+    return isNonNegative(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(float, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations isNonNegative(float val, String argName) {
+    int code = Check.isNonNegative(val);
+    if (code != Check.OK)
+      add(code, argName, Float.floatToRawIntBits(val));
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#isPositive(float)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations arePositive(float val, float... other) {
+    isPositive(val);
+    if (other != null)
+      for (float o : other)
+        isPositive(o);
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#isNonNegative(float)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations areNonNegative(float val, float... other) {
+    isNonNegative(val);
+    if (other != null)
+      for (float o : other)
+        isNonNegative(o);
+    return this;
+  }
+
+
+
+  /**
+   * Applies {@link Ensure#isPositive(short)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @return this instance
+   */
+  public Violations isPositive(short val) {
+    return isPositive(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#isPositive(short, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations isPositive(short val, String argName) {
+    int code = Check.isPositive(val);
+    if (code != Check.OK)
+      add(code, argName, val);
+    return this;
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(short)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @return this instance
+   */
+  public Violations isNonNegative(short val) {
+    return isNonNegative(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#isNonNegative(short, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations isNonNegative(short val, String argName) {
+    int code = Check.isNonNegative(val);
+    if (code != Check.OK)
+      add(code, argName, val);
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#isPositive(short)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations arePositive(short val, short... other) {
+    isPositive(val);
+    if (other != null)
+      for (short o : other)
+        isPositive(o);
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#isNonNegative(short)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations areNonNegative(short val, short... other) {
+    isNonNegative(val);
+    if (other != null)
+      for (short o : other)
+        isNonNegative(o);
+    return this;
+  }
+
+
+
+  // collections
+
+  /**
+   * Applies {@link Ensure#notEmpty(Collection)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @return this instance
+   */
+  public Violations notEmpty(Collection<?> val) {
+    return notEmpty(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#notEmpty(Collection, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations notEmpty(Collection<?> val, String argName) {
+    int code = Check.notEmpty(val);
+    if (code != Check.OK)
+      add(code, argName, (Object) null);
+    return this;
+  }
+
+  /**
+   * Applies {@link Ensure#deepNotEmpty(Collection)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @return this instance
+   */
+  public Violations deepNotEmpty(Collection<?> val) {
+    return deepNotEmpty(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#deepNotEmpty(Collection, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations deepNotEmpty(Collection<?> val, String argName) {
+    int code = Check.deepNotEmpty(val);
+    if (code != Check.OK)
+      add(code, argName, (Object) null);
+    return this;
+  }
+
+  /**
+   * Applies {@link Ensure#notEmpty(Iterable)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @return this instance
+   */
+  public Violations notEmpty(Iterable<?> val) {
+    return notEmpty(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#notEmpty(Iterable, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations notEmpty(Iterable<?> val, String argName) {
+    int code = Check.notEmpty(val);
+    if (code != Check.OK)
+      add(code, argName, (Object) null);
+    return this;
+  }
+
+  /**
+   * Applies {@link Ensure#deepNotEmpty(Iterable)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @return this instance
+   */
+  public Violations deepNotEmpty(Iterable<?> val) {
+    return deepNotEmpty(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#deepNotEmpty(Iterable, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations deepNotEmpty(Iterable<?> val, String argName) {
+    int code = Check.deepNotEmpty(val);
+    if (code != Check.OK)
+      add(code, argName, (Object) null);
+    return this;
+  }
+
+  /**
+   * Applies {@link Ensure#notEmpty(Map)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @return this instance
+   */
+  public Violations notEmpty(Map<?, ?> val) {
+    return notEmpty(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#notEmpty(Map, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations notEmpty(Map<?, ?> val, String argName) {
+    int code = Check.notEmpty(val);
+    if (code != Check.OK)
+      add(code, argName, (Object) null);
+    return this;
+  }
+
+  /**
+   * Applies {@link Ensure#deepNotEmpty(Map)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @return this instance
+   */
+  public Violations deepNotEmpty(Map<?, ?> val) {
+    return deepNotEmpty(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#deepNotEmpty(Map, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations deepNotEmpty(Map<?, ?> val, String argName) {
+    int code = Check.deepNotEmpty(val);
+    if (code != Check.OK)
+      add(code, argName, (Object) null);
+    return this;
+  }
+
+  // other
+
+  /**
+   * Applies {@link Ensure#isValidUrl(String)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @return this instance
+   */
+  public Violations isValidUrl(String val) {
+    return isValidUrl(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#isValidUrl(String, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked object
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations isValidUrl(String val, String argName) {
+    int code = Check.isValidUrl(val);
+    if (code != Check.OK)
+      add(code, argName, val);
+    return this;
+  }
+
+  /**
+   * Applies {@link Ensure#isHttpStatus(int)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @return this instance
+   */
+  public Violations isHttpStatus(int val) {
+    return isHttpStatus(val, null);
+  }
+
+  /**
+   * Applies {@link Ensure#isHttpStatus(int, String)},
+   *  recording a violation instead of throwing.
+   * @param val checked value
+   * @param argName name of the argument
+   * @return this instance
+   */
+  public Violations isHttpStatus(int val, String argName) {
+    int code = Check.isHttpStatus(val);
+    if (code != Check.OK)
+      add(code, argName, val);
+    return this;
+  }
+
+  /**
+   * Applies {@link Violations#isHttpStatus(int)} to
+   *  all of the provided objects.
+   * @param val first checked object
+   * @param other other checked objects as varargs
+   * @return this instance
+   */
+  public Violations areHttpStatuses(int val, int... other) {
+    isHttpStatus(val);
+    if (other != null)
+      for (int o : other)
+        isHttpStatus(o);
+    return this;
+  }
+
+  // results
+
+  /**
+   * Checks if any violation was recorded.
+   * @return {@code true} if there are violations
+   */
+  public boolean hasViolations() {
+    return size > 0;
+  }
+
+  /**
+   * Returns the number of recorded violations.
+   * @return number of violations
+   */
+  public int count() {
+    return size;
+  }
+
+  /**
+   * Forgets all recorded violations.
+   * @return this instance
+   */
+  public Violations reset() {
+    if (size > 0) {
+      Arrays.fill(names, 0, size, null);
+      Arrays.fill(values, 0, size, null);
+      size = 0;
+    }
+    return this;
+  }
+
+  /**
+   * Throws a {@link ViolationsException} covering all
+   *  recorded violations, if there are any, and resets
+   *  this instance.
+   * @throws ViolationsException if any violation was recorded
+   */
+  public void throwIfAny() {
+    if (size == 0)
+      return;
+    List<ViolationException> violations = ViolationException.stackless(this::materialize);
+    reset();
+    throw new ViolationsException(violations);
+  }
+
+  private List<ViolationException> materialize() {
+    List<ViolationException> out = new ArrayList<>(size);
+    for (int i = 0; i < size; i++)
+      out.add(Check.violation(codes[i], actual(i), names[i]));
+    return out;
+  }
+
+  private Object actual(int i) {
+    long bits = numbers[i];
+    switch (Check.type(codes[i])) {
+      case Check.TYPE_INT:
+        return (int) bits;
+      case Check.TYPE_LONG:
+        return bits;
+      case Check.TYPE_SHORT:
+        return (short) bits;
+      case Check.TYPE_DOUBLE:
+        return Double.longBitsToDouble(bits);
+      case Check.TYPE_FLOAT:
+        return Float.intBitsToFloat((int) bits);
+      default:
+        return values[i];
+    }
+  }
+
+  private void add(int code, String argName, long bits) {
+    int i = slot(code, argName);
+    numbers[i] = bits;
+  }
+
+  private void add(int code, String argName, Object value) {
+    int i = slot(code, argName);
+    values[i] = value;
+  }
+
+  private int slot(int code, String argName) {
+    if (size == codes.length) {
+      int capacity = size << 1;
+      codes = Arrays.copyOf(codes, capacity);
+      names = Arrays.copyOf(names, capacity);
+      numbers = Arrays.copyOf(numbers, capacity);
+      values = Arrays.copyOf(values, capacity);
+    }
+    codes[size] = code;
+    names[size] = argName;
+    return size++;
+  }
+
+}
@@ -0,0 +1,83 @@
+package io.github.artkonr.ensure;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An {@link IllegalArgumentException} aggregating every
+ *  violation recorded by a {@link Violations} accumulator.
+ * <p>The message lists the message of every violation, one
+ *  per line, and is rendered on the first call to {@link
+ *  ViolationsException#getMessage()}. Follows the stackless
+ *  mode of {@link ViolationException}.
+ * @author artkonr@gmail.com
+ */
+public class ViolationsException extends IllegalArgumentException {
+
+  private static final long serialVersionUID = 1L;
+
+  /** Aggregated violations. */
+  private final List<ViolationException> violations;
+  /** Rendered message; always set before serialization. */
+  private String message;
+
+  /**
+   * Creates an exception aggregating the provided violations.
+   * @param violations aggregated violations
+   */
+  ViolationsException(List<ViolationException> violations) {
+    super((String) null);
+    this.violations = Collections.unmodifiableList(violations);
+  }
+
+  /**
+   * Returns the aggregated violations in
+   *  the order they were recorded.
+   * @return unmodifiable list of violations
+   */
+  public List<ViolationException> getViolations() {
+    return violations;
+  }
+
+  /**
+   * Returns the aggregated message, rendering
+   *  it on the first call.
+   * @return aggregated message
+   */
+  @Override
+  public String getMessage() {
+    String rendered = message;
+    if (rendered == null) {
+      StringBuilder out = new StringBuilder(64 * (violations.size() + 1))
+              .append("Bad args: ").append(violations.size()).append(" violation(s)");
+      for (ViolationException violation : violations)
+        out.append(System.lineSeparator()).append("  ").append(violation.getMessage());
+      rendered = out.toString();
+      message = rendered;
+    }
+    return rendered;
+  }
+
+  /**
+   * Fills in the stack trace unless stackless
+   *  mode is active for the current thread.
+   * @return this instance
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return ViolationException.isStackless() ? this : super.fillInStackTrace();
+  }
+
+  /**
+   * Renders the message before the default serialization.
+   * @param out target stream
+   * @throws IOException if writing fails
+   */
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    getMessage();
+    out.defaultWriteObject();
+  }
+
+}
@@ -0,0 +1,104 @@
+package io.github.artkonr.ensure;
+
+/**
+ * Scans of primitive arrays backing the {@code all*}
+ *  checks of {@link Ensure}. Non-instantiable.
+ * <p>Java 17+ overlay: uses {@link VectorScan} if the
+ *  {@code jdk.incubator.vector} module is present in the
+ *  boot layer (e.g. {@code --add-modules jdk.incubator.vector})
+ *  and the {@code ensure.vector} system property is not
+ *  {@code false}; otherwise falls back to {@link ScalarScan}.
+ * @author artkonr@gmail.com
+ */
+final class ArrayScan {
+
+  private static final boolean VECTORIZED = !"false".equals(System.getProperty("ensure.vector"))
+          && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+  /**
+   * Finds the first element less than {@code bound}.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @param bound lowest valid value
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstBelow(int[] val, int from, int to, int bound) {
+    return VECTORIZED
+            ? VectorScan.firstBelow(val, from, to, bound)
+            : ScalarScan.firstBelow(val, from, to, bound);
+  }
+
+  /**
+   * Finds the first element less than {@code bound}.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @param bound lowest valid value
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstBelow(long[] val, int from, int to, long bound) {
+    return VECTORIZED
+            ? VectorScan.firstBelow(val, from, to, bound)
+            : ScalarScan.firstBelow(val, from, to, bound);
+  }
+
+  /**
+   * Finds the first element less than {@code bound};
+   *  {@code NaN} is never less than {@code bound}.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @param bound lowest valid value
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstBelow(double[] val, int from, int to, double bound) {
+    return VECTORIZED
+            ? VectorScan.firstBelow(val, from, to, bound)
+            : ScalarScan.firstBelow(val, from, to, bound);
+  }
+
+  /**
+   * Finds the first element less than {@code bound};
+   *  {@code NaN} is never less than {@code bound}.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @param bound lowest valid value
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstBelow(float[] val, int from, int to, float bound) {
+    return VECTORIZED
+            ? VectorScan.firstBelow(val, from, to, bound)
+            : ScalarScan.firstBelow(val, from, to, bound);
+  }
+
+  /**
+   * Finds the first infinite or {@code NaN} element.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstNonFinite(double[] val, int from, int to) {
+    return VECTORIZED
+            ? VectorScan.firstNonFinite(val, from, to)
+            : ScalarScan.firstNonFinite(val, from, to);
+  }
+
+  /**
+   * Finds the first infinite or {@code NaN} element.
+   * @param val scanned array
+   * @param from first scanned index, inclusive
+   * @param to last scanned index, exclusive
+   * @return index of the first violating element or {@code -1}
+   */
+  static int firstNonFinite(float[] val, int from, int to) {
+    return VECTORIZED
+            ? VectorScan.firstNonFinite(val, from, to)
+            : ScalarScan.firstNonFinite(val, from, to);
+  }
+
+  private ArrayScan() { }
+
+}
@@ -0,0 +1,90 @@
+package io.github.artkonr.ensure;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API counterparts of the {@link ScalarScan} scans.
+ *  Non-instantiable; only loaded when {@code jdk.incubator.vector}
+ *  is present, see {@link ArrayScan}.
+ * <p>Compares a full vector of elements per step, then
+ *  finishes the tail of the range element by element.
+ * @author artkonr@gmail.com
+ */
+final class VectorScan {
+
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+
+  static int firstBelow(int[] val, int from, int to, int bound) {
+    int i = from;
+    for (int upper = from + INTS.loopBound(to - from); i < upper; i += INTS.length()) {
+      VectorMask<Integer> below = IntVector.fromArray(INTS, val, i).lt(bound);
+      if (below.anyTrue())
+        return i + below.firstTrue();
+    }
+    return ScalarScan.firstBelow(val, i, to, bound);
+  }
+
+  static int firstBelow(long[] val, int from, int to, long bound) {
+    int i = from;
+    for (int upper = from + LONGS.loopBound(to - from); i < upper; i += LONGS.length()) {
+      VectorMask<Long> below = LongVector.fromArray(LONGS, val, i).lt(bound);
+      if (below.anyTrue())
+        return i + below.firstTrue();
+    }
+    return ScalarScan.firstBelow(val, i, to, bound);
+  }
+
+  static int firstBelow(double[] val, int from, int to, double bound) {
+    int i = from;
+    for (int upper = from + DOUBLES.loopBound(to - from); i < upper; i += DOUBLES.length()) {
+      VectorMask<Double> below = DoubleVector.fromArray(DOUBLES, val, i).lt(bound);
+      if (below.anyTrue())
+        return i + below.firstTrue();
+    }
+    return ScalarScan.firstBelow(val, i, to, bound);
+  }
+
+  static int firstBelow(float[] val, int from, int to, float bound) {
+    int i = from;
+    for (int upper = from + FLOATS.loopBound(to - from); i < upper; i += FLOATS.length()) {
+      VectorMask<Float> below = FloatVector.fromArray(FLOATS, val, i).lt(bound);
+      if (below.anyTrue())
+        return i + below.firstTrue();
+    }
+    return ScalarScan.firstBelow(val, i, to, bound);
+  }
+
+  static int firstNonFinite(double[] val, int from, int to) {
+    int i = from;
+    for (int upper = from + DOUBLES.loopBound(to - from); i < upper; i += DOUBLES.length()) {
+      VectorMask<Double> bad = DoubleVector.fromArray(DOUBLES, val, i)
+              .test(VectorOperators.IS_FINITE).not();
+      if (bad.anyTrue())
+        return i + bad.firstTrue();
+    }
+    return ScalarScan.firstNonFinite(val, i, to);
+  }
+
+  static int firstNonFinite(float[] val, int from, int to) {
+    int i = from;
+    for (int upper = from + FLOATS.loopBound(to - from); i < upper; i += FLOATS.length()) {
+      VectorMask<Float> bad = FloatVector.fromArray(FLOATS, val, i)
+              .test(VectorOperators.IS_FINITE).not();
+      if (bad.anyTrue())
+        return i + bad.firstTrue();
+    }
+    return ScalarScan.firstNonFinite(val, i, to);
+  }
+
+  private VectorScan() { }
+
+}
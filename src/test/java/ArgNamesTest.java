@@ -0,0 +1,51 @@
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.LazyEnsure;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class ArgNamesTest {
+
+  @Test
+  void template_indexFilledOnFailure() {
+    Ensure.isPositive(1, "items[].price", 3);
+    Assertions.assertTrue(messageOf(() -> Ensure.isPositive(0, "items[].price", 3))
+            .contains("argName=items[3].price"));
+    Assertions.assertTrue(messageOf(() -> Ensure.notBlank(" ", "skus", 7)).contains("argName=skus[7]"));
+    Assertions.assertTrue(messageOf(() -> Ensure.isHttpStatus(42, null, 2)).contains("argName=[2]"));
+    Assertions.assertEquals(messageOf(() -> Ensure.isNonNegative(-1L, "qty[1]")),
+            messageOf(() -> Ensure.isNonNegative(-1L, "qty[]", 1)));
+  }
+
+  @Test
+  void supplier_calledOnlyOnFailure() {
+    AtomicInteger calls = new AtomicInteger();
+    Supplier<String> name = () -> "items[" + calls.incrementAndGet() + "].price";
+    for (int i = 0; i < 100; i++) {
+      LazyEnsure.isPositive(1.5, name);
+      LazyEnsure.notNull("x", name);
+      LazyEnsure.nullableNotBlank(null, name);
+    }
+    Assertions.assertEquals(0, calls.get());
+
+    Assertions.assertTrue(messageOf(() -> LazyEnsure.isPositive(0, name)).contains("argName=items[1].price"));
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void supplier_messagesMatchEnsure() {
+    Assertions.assertEquals(messageOf(() -> Ensure.notNull(null, "a")),
+            messageOf(() -> LazyEnsure.notNull(null, () -> "a")));
+    Assertions.assertEquals(messageOf(() -> Ensure.notBlank("", null)),
+            messageOf(() -> LazyEnsure.notBlank("", null)));
+    Assertions.assertEquals(messageOf(() -> Ensure.isNonNegative((short) -1, " ")),
+            messageOf(() -> LazyEnsure.isNonNegative((short) -1, () -> " ")));
+  }
+
+  private static String messageOf(Runnable check) {
+    return Assertions.assertThrows(Exceptions.BAD_ARG, check::run).getMessage();
+  }
+
+}
@@ -0,0 +1,130 @@
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.ViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
+public class ArraysTest {
+
+  @Test
+  void allPositive_ints() {
+    int[] ok = new int[100];
+    Arrays.fill(ok, 1);
+    Assertions.assertDoesNotThrow(() -> Ensure.allPositive(ok));
+    Assertions.assertDoesNotThrow(() -> Ensure.allPositive(new int[0]));
+
+    int[] bad = ok.clone();
+    bad[99] = 0;
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.allPositive(bad));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.allPositive((int[]) null));
+  }
+
+  @Test
+  void allNonNegative_longs() {
+    long[] ok = new long[37];
+    Assertions.assertDoesNotThrow(() -> Ensure.allNonNegative(ok));
+
+    long[] bad = ok.clone();
+    bad[5] = -1L;
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.allNonNegative(bad));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.allPositive(ok));
+  }
+
+  @Test
+  void allPositive_floatingPoint() {
+    double[] doubles = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11};
+    float[] floats = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11};
+    Assertions.assertDoesNotThrow(() -> Ensure.allPositive(doubles));
+    Assertions.assertDoesNotThrow(() -> Ensure.allPositive(floats));
+
+    doubles[10] = 0.5;
+    floats[10] = -0.5f;
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.allPositive(doubles));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.allPositive(floats));
+    Assertions.assertDoesNotThrow(() -> Ensure.allNonNegative(doubles));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.allNonNegative(floats));
+  }
+
+  @Test
+  void allFinite_rejectsNanAndInfinity() {
+    double[] doubles = new double[20];
+    float[] floats = new float[20];
+    Assertions.assertDoesNotThrow(() -> Ensure.allFinite(doubles));
+    Assertions.assertDoesNotThrow(() -> Ensure.allFinite(floats));
+
+    doubles[17] = Double.NaN;
+    floats[3] = Float.NEGATIVE_INFINITY;
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.allFinite(doubles));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.allFinite(floats));
+  }
+
+  @Test
+  void subrange_onlyChecksRange() {
+    int[] val = {0, 0, 1, 2, 3, 0};
+    Assertions.assertDoesNotThrow(() -> Ensure.allPositive(val, 2, 5));
+    Assertions.assertDoesNotThrow(() -> Ensure.allPositive(val, 3, 3));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.allPositive(val, 2, 6));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Ensure.allPositive(val, 2, 7));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Ensure.allPositive(val, 4, 3));
+  }
+
+  @Test
+  void violation_namesFirstBadIndex() {
+    long[] val = new long[64];
+    Arrays.fill(val, 7L);
+    val[40] = -3L;
+    val[50] = -4L;
+
+    ViolationException named = Assertions.assertThrows(ViolationException.class,
+            () -> Ensure.allNonNegative(val, "sizes"));
+    Assertions.assertEquals("sizes[40]", named.getArgName());
+    Assertions.assertEquals(-3L, named.getActual());
+    Assertions.assertEquals("Bad arg: argName=sizes[40];type=long;expected=>=0;actual=-3",
+            named.getMessage());
+
+    ViolationException unnamed = Assertions.assertThrows(ViolationException.class,
+            () -> Ensure.allNonNegative(val, 41, 64));
+    Assertions.assertEquals("[50]", unnamed.getArgName());
+  }
+
+  @Test
+  void everyLengthAndPosition_foundByScan() {
+    for (int length = 1; length <= 70; length++) {
+      for (int bad = 0; bad < length; bad++) {
+        int[] ints = new int[length];
+        double[] doubles = new double[length];
+        float[] floats = new float[length];
+        Arrays.fill(ints, 1);
+        Arrays.fill(doubles, 1);
+        Arrays.fill(floats, 1);
+        ints[bad] = 0;
+        doubles[bad] = Double.NaN;
+        floats[bad] = -1;
+        String index = "[" + bad + "]";
+        Assertions.assertEquals(index, Assertions.assertThrows(ViolationException.class,
+                () -> Ensure.allPositive(ints, null)).getArgName());
+        Assertions.assertEquals(index, Assertions.assertThrows(ViolationException.class,
+                () -> Ensure.allFinite(doubles, null)).getArgName());
+        Assertions.assertEquals(index, Assertions.assertThrows(ViolationException.class,
+                () -> Ensure.allNonNegative(floats, null)).getArgName());
+      }
+    }
+  }
+
+  @Test
+  void scanPath_matchesTestSetup() throws Exception {
+    // the vector test execution sets ensure.test.vector, see the java17 profile
+    boolean vectorized;
+    try {
+      Field flag = Class.forName("io.github.artkonr.ensure.ArrayScan").getDeclaredField("VECTORIZED");
+      flag.setAccessible(true);
+      vectorized = flag.getBoolean(null);
+    } catch (NoSuchFieldException x) {
+      vectorized = false;
+    }
+    Assertions.assertEquals(Boolean.getBoolean("ensure.test.vector"), vectorized);
+  }
+
+}
@@ -0,0 +1,125 @@
+import io.github.artkonr.ensure.Check;
+import io.github.artkonr.ensure.Ensure;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class CheckTest {
+
+  @Test
+  void validArguments_returnOk() {
+    Assertions.assertEquals(Check.OK, Check.notNull(new Object()));
+    Assertions.assertEquals(Check.OK, Check.notBlank("val"));
+    Assertions.assertEquals(Check.OK, Check.nullableNotBlank(null));
+    Assertions.assertEquals(Check.OK, Check.isPositive(1));
+    Assertions.assertEquals(Check.OK, Check.isNonNegative(0L));
+    Assertions.assertEquals(Check.OK, Check.isPositive(1.5d));
+    Assertions.assertEquals(Check.OK, Check.isNonNegative(0f));
+    Assertions.assertEquals(Check.OK, Check.isPositive((short) 3));
+    Assertions.assertEquals(Check.OK, Check.deepNotEmpty(List.of(1, 2)));
+    Assertions.assertEquals(Check.OK, Check.deepNotEmpty((Iterable<?>) List.of(1, 2)));
+    Assertions.assertEquals(Check.OK, Check.deepNotEmpty(Map.of(1, 2)));
+    Assertions.assertEquals(Check.OK, Check.isHttpStatus(404));
+    Assertions.assertEquals(Check.OK, Check.isValidUrl("http://localhost:9811"));
+    Assertions.assertEquals(Check.OK, Check.arePositive(1, 2, 3));
+    Assertions.assertEquals(Check.OK, Check.neitherBlank("a", "b"));
+  }
+
+  @Test
+  void invalidArguments_returnRuleAndType() {
+    Assertions.assertEquals(Check.NULL, Check.notNull(null));
+    Assertions.assertEquals(Check.BLANK | Check.TYPE_STRING, Check.notBlank(" "));
+    Assertions.assertEquals(Check.NULLABLE_BLANK | Check.TYPE_STRING, Check.nullableNotBlank(""));
+    Assertions.assertEquals(Check.NOT_POSITIVE | Check.TYPE_INT, Check.isPositive(0));
+    Assertions.assertEquals(Check.NEGATIVE | Check.TYPE_LONG, Check.isNonNegative(-1L));
+    Assertions.assertEquals(Check.NOT_POSITIVE | Check.TYPE_DOUBLE, Check.isPositive(0.5d));
+    Assertions.assertEquals(Check.NEGATIVE | Check.TYPE_FLOAT, Check.isNonNegative(-1f));
+    Assertions.assertEquals(Check.NOT_POSITIVE | Check.TYPE_SHORT, Check.isPositive((short) 0));
+    Assertions.assertEquals(Check.EMPTY, Check.notEmpty(Set.of()));
+    Assertions.assertEquals(Check.EMPTY, Check.deepNotEmpty((Iterable<?>) null));
+    Assertions.assertEquals(Check.NULL_ELEMENT, Check.deepNotEmpty(Arrays.asList(1, null)));
+    Map<Integer, Integer> map = new HashMap<>();
+    map.put(null, 1);
+    Assertions.assertEquals(Check.NULL_ELEMENT, Check.deepNotEmpty(map));
+    Assertions.assertEquals(Check.NOT_HTTP_STATUS | Check.TYPE_INT, Check.isHttpStatus(99));
+    Assertions.assertEquals(Check.BLANK | Check.TYPE_STRING, Check.isValidUrl(null));
+    Assertions.assertEquals(Check.NOT_URL | Check.TYPE_STRING, Check.isValidUrl("'5$% t"));
+  }
+
+  @Test
+  void isValidUrl_agreesWithEnsure() {
+    for (String url : List.of("http://localhost:9811", "https://u:p@[::1]:8080/a/b?c=d#e", "mailto:a@b.c",
+            "urn:isbn:0451450523", "relative/path", "/abs?q", "#frag", "//host/x", "a%20b",
+            "https://bücher.example/ä", "'5$% t", "http://a b", "http://x/%zz", "http://[::1/", "a|b",
+            "ht tp://x", ":no-scheme", "http://x/<tag>", "https://ex%61mple.com")) {
+      boolean valid;
+      try {
+        Ensure.isValidUrl(url);
+        valid = true;
+      } catch (IllegalArgumentException x) {
+        valid = false;
+      }
+      Assertions.assertEquals(valid, Check.isValidUrl(url) == Check.OK, url);
+    }
+    // a registry-based authority is not RFC 3986 syntax
+    Assertions.assertDoesNotThrow(() -> Ensure.isValidUrl("http://host:port/"));
+    Assertions.assertEquals(Check.NOT_URL | Check.TYPE_STRING, Check.isValidUrl("http://host:port/"));
+  }
+
+  @Test
+  void multiArgumentChecks_reportFailedPosition() {
+    int first = Check.arePositive(0, 1, 2);
+    Assertions.assertEquals(Check.NOT_POSITIVE, Check.rule(first));
+    Assertions.assertEquals(Check.TYPE_INT, Check.type(first));
+    Assertions.assertEquals(0, Check.index(first));
+
+    int third = Check.neitherNull(1, 2, null);
+    Assertions.assertEquals(Check.NULL, Check.rule(third));
+    Assertions.assertEquals(2, Check.index(third));
+
+    Assertions.assertEquals(1, Check.index(Check.areHttpStatuses(200, 700)));
+    Assertions.assertEquals(Check.NULLABLE_BLANK, Check.rule(Check.neitherNullableNotBlank(null, " ")));
+  }
+
+  @Test
+  void message_ok_isNull() {
+    Assertions.assertNull(Check.message(Check.OK, 1, "arg"));
+  }
+
+  @Test
+  void message_unknownCode_throws() {
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Check.message(0xFE, 1));
+  }
+
+  @Test
+  void message_matchesEnsureMessage() {
+    Assertions.assertEquals(messageOf(() -> Ensure.notNull(null, "arg")),
+            Check.message(Check.notNull(null), null, "arg"));
+    Assertions.assertEquals(messageOf(() -> Ensure.notBlank(" ")),
+            Check.message(Check.notBlank(" "), " "));
+    Assertions.assertEquals(messageOf(() -> Ensure.nullableNotBlank("", "arg")),
+            Check.message(Check.nullableNotBlank(""), "", "arg"));
+    Assertions.assertEquals(messageOf(() -> Ensure.isPositive(-2L, " ")),
+            Check.message(Check.isPositive(-2L), -2L, " "));
+    Assertions.assertEquals(messageOf(() -> Ensure.isNonNegative(-0.5d, "arg")),
+            Check.message(Check.isNonNegative(-0.5d), -0.5d, "arg"));
+    Assertions.assertEquals(messageOf(() -> Ensure.notEmpty(List.of(), "arg")),
+            Check.message(Check.notEmpty(List.of()), List.of(), "arg"));
+    Assertions.assertEquals(messageOf(() -> Ensure.deepNotEmpty(Arrays.asList(1, null), "arg")),
+            Check.message(Check.deepNotEmpty(Arrays.asList(1, null)), null, "arg"));
+    Assertions.assertEquals(messageOf(() -> Ensure.isHttpStatus(700)),
+            Check.message(Check.isHttpStatus(700), 700));
+    Assertions.assertEquals(messageOf(() -> Ensure.isValidUrl("'5$% t", "arg")),
+            Check.message(Check.isValidUrl("'5$% t"), "'5$% t", "arg"));
+  }
+
+  private static String messageOf(Executable check) {
+    return Assertions.assertThrows(Exceptions.BAD_ARG, check).getMessage();
+  }
+}
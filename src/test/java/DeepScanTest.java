@@ -0,0 +1,163 @@
+import io.github.artkonr.ensure.DeepScan;
+import io.github.artkonr.ensure.Ensure;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+public class DeepScanTest {
+
+  private static final int SIZE = 100_000;
+
+  private int threshold;
+
+  @BeforeEach
+  void lowerThreshold() {
+    threshold = DeepScan.getParallelThreshold();
+    DeepScan.setParallelThreshold(1000);
+  }
+
+  @AfterEach
+  void restoreThreshold() {
+    DeepScan.setParallelThreshold(threshold);
+  }
+
+  @Test
+  void setParallelThreshold_rejectsNonPositive() {
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> DeepScan.setParallelThreshold(0));
+    Assertions.assertEquals(1000, DeepScan.getParallelThreshold());
+  }
+
+  @Test
+  void collection_noNulls_doesNotThrow() {
+    List<Integer> val = numbers();
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(val));
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(val, "arg"));
+  }
+
+  @Test
+  void collection_nullAnywhere_throws() {
+    for (int at : new int[] {0, 1, SIZE / 2, SIZE - 1}) {
+      List<Integer> val = numbers();
+      val.set(at, null);
+      Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(val));
+      Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty((Collection<?>) val, "arg"));
+    }
+  }
+
+  @Test
+  void collection_customPool() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      List<Integer> val = numbers();
+      Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(val, "arg", pool));
+      val.set(SIZE - 10, null);
+      Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(val, "arg", pool));
+      Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(val, null, (ForkJoinPool) null));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void iterable_sized_scannedInParallel() {
+    List<Integer> list = numbers();
+    Iterable<Integer> val = new Iterable<>() {
+      @Override
+      public Iterator<Integer> iterator() {
+        return list.iterator();
+      }
+
+      @Override
+      public Spliterator<Integer> spliterator() {
+        return list.spliterator();
+      }
+    };
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(val, "arg"));
+    list.set(SIZE / 3, null);
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(val, "arg"));
+  }
+
+  @Test
+  void iterable_unsized_scannedSequentially() {
+    List<Integer> list = numbers();
+    Iterable<Integer> val = list::iterator;
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(val));
+    list.set(SIZE - 1, null);
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(val));
+  }
+
+  @Test
+  void map_nullKey_throws() {
+    Map<Integer, Integer> val = new HashMap<>();
+    for (int i = 0; i < SIZE; i++)
+      val.put(i, null);
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(val, "arg", ForkJoinPool.commonPool()));
+    val.put(null, 1);
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(val));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(val, "arg", null));
+  }
+
+  @Test
+  void nullHostile_notScanned() {
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(List.of(1, 2, 3)));
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(Set.of(1)));
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(Map.of(1, 2, 3, 4)));
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(new ConcurrentHashMap<>(Map.of(1, 2)).keySet()));
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(EnumSet.of(TimeUnit.SECONDS)));
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(new ArrayDeque<>(List.of(1))));
+  }
+
+  @Test
+  void hashed_askedDirectly() {
+    Set<Integer> set = new HashSet<>(numbers());
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(set, "arg"));
+    set.add(null);
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(set, "arg"));
+
+    Map<String, Integer> map = new LinkedHashMap<>();
+    map.put("a", null);
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(map));
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(map.keySet()));
+    map.put(null, 1);
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(map));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(map.keySet()));
+  }
+
+  @Test
+  void subclass_iterated() {
+    Set<Integer> set = new HashSet<>() {
+      @Override
+      public boolean contains(Object o) {
+        return false;
+      }
+    };
+    set.add(1);
+    set.add(null);
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(set));
+  }
+
+  private static List<Integer> numbers() {
+    List<Integer> out = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++)
+      out.add(i);
+    return out;
+  }
+
+}
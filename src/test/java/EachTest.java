@@ -0,0 +1,116 @@
+import io.github.artkonr.ensure.Check;
+import io.github.artkonr.ensure.DoubleRule;
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.IntRule;
+import io.github.artkonr.ensure.LongRule;
+import io.github.artkonr.ensure.ViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+public class EachTest {
+
+  private static final class Order {
+
+    private final String sku;
+    private final int quantity;
+    private final long id;
+    private final double price;
+
+    private Order(String sku, int quantity, long id, double price) {
+      this.sku = sku;
+      this.quantity = quantity;
+      this.id = id;
+      this.price = price;
+    }
+
+    String sku() {
+      return sku;
+    }
+
+    int quantity() {
+      return quantity;
+    }
+
+    long id() {
+      return id;
+    }
+
+    double price() {
+      return price;
+    }
+
+  }
+
+  private static final List<Order> ORDERS = List.of(
+          new Order("a", 1, 10L, 1.5d),
+          new Order("b", 2, 11L, 2.5d),
+          new Order("c", 3, 12L, 0.0d));
+
+  @Test
+  void each_validFields_doesNotThrow() {
+    Assertions.assertDoesNotThrow(() -> Ensure.eachInt(ORDERS, Order::quantity, IntRule.POSITIVE, "orders"));
+    Assertions.assertDoesNotThrow(() -> Ensure.eachLong(ORDERS, Order::id, LongRule.POSITIVE, "orders"));
+    Assertions.assertDoesNotThrow(() -> Ensure.eachDouble(ORDERS, Order::price, DoubleRule.NON_NEGATIVE, "orders"));
+    Assertions.assertDoesNotThrow(() -> Ensure.each(ORDERS, Order::sku, Check::notBlank, "orders"));
+    Assertions.assertDoesNotThrow(() -> Ensure.eachInt(Set.of(), Order::quantity, IntRule.POSITIVE, "orders"));
+  }
+
+  @Test
+  void each_invalidField_reportsIndex() {
+    List<Order> orders = new LinkedList<>(ORDERS);
+    orders.add(new Order(" ", 0, 0L, -1.0d));
+
+    ViolationException x = Assertions.assertThrows(ViolationException.class,
+            () -> Ensure.eachInt(orders, Order::quantity, IntRule.POSITIVE, "orders"));
+    Assertions.assertEquals("orders[3]", x.getArgName());
+    Assertions.assertEquals("Bad arg: argName=orders[3];type=int;expected=>0;actual=0", x.getMessage());
+
+    x = Assertions.assertThrows(ViolationException.class,
+            () -> Ensure.eachDouble(ORDERS, Order::price, DoubleRule.POSITIVE, "orders"));
+    Assertions.assertEquals("orders[2]", x.getArgName());
+
+    Assertions.assertThrows(Exceptions.BAD_ARG,
+            () -> Ensure.eachLong(orders, Order::id, LongRule.POSITIVE, "orders"));
+    Assertions.assertThrows(Exceptions.BAD_ARG,
+            () -> Ensure.each(orders, Order::sku, Check::notBlank, null));
+  }
+
+  @Test
+  void each_nullElementOrList_throws() {
+    List<Order> orders = Arrays.asList(ORDERS.get(0), null);
+    ViolationException x = Assertions.assertThrows(ViolationException.class,
+            () -> Ensure.eachInt(orders, Order::quantity, IntRule.POSITIVE, "orders"));
+    Assertions.assertEquals("orders[1]", x.getArgName());
+    Assertions.assertThrows(Exceptions.BAD_ARG,
+            () -> Ensure.eachInt((List<Order>) null, Order::quantity, IntRule.POSITIVE, "orders"));
+    Assertions.assertThrows(Exceptions.BAD_ARG,
+            () -> Ensure.eachInt(ORDERS, Order::quantity, (IntRule) null, "orders"));
+  }
+
+  @Test
+  void each_httpStatus() {
+    Assertions.assertDoesNotThrow(() -> Ensure.eachInt(List.of(200, 404), Integer::intValue, IntRule.HTTP_STATUS, "codes"));
+    Assertions.assertThrows(Exceptions.BAD_ARG,
+            () -> Ensure.eachInt(List.of(200, 99), Integer::intValue, IntRule.HTTP_STATUS, "codes"));
+  }
+
+  @Test
+  void each_methodRefsAndLambdas_resolveUnambiguously() {
+    List<String> skus = List.of("a", "bc");
+    Assertions.assertDoesNotThrow(() -> Ensure.each(skus, String::length, Check::isPositive, "skus"));
+    Assertions.assertDoesNotThrow(() -> Ensure.each(skus, s -> s.length(), n -> Check.isPositive(n), "skus"));
+    Assertions.assertDoesNotThrow(() -> Ensure.eachInt(skus, String::length, Check::isPositive, "skus"));
+    Assertions.assertDoesNotThrow(() -> Ensure.eachLong(skus, s -> s.length(), n -> Check.isPositive(n), "skus"));
+    Assertions.assertDoesNotThrow(() -> Ensure.eachDouble(skus, String::length, Check::isPositive, "skus"));
+
+    ViolationException x = Assertions.assertThrows(ViolationException.class,
+            () -> Ensure.each(List.of("a", ""), String::length, Check::isPositive, "skus"));
+    Assertions.assertEquals("skus[1]", x.getArgName());
+  }
+
+}
@@ -0,0 +1,83 @@
+import io.github.artkonr.ensure.Ensure;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FixedArityTest {
+
+  @Test
+  void neitherNull_allNonNull_doesNotThrow() {
+    Object o = new Object();
+    Assertions.assertDoesNotThrow(() -> Ensure.neitherNull(o, o));
+    Assertions.assertDoesNotThrow(() -> Ensure.neitherNull(o, o, o, o, o, o));
+  }
+
+  @Test
+  void neitherNull_lastNull_throws() {
+    Object o = new Object();
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.neitherNull(o, (Object) null));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.neitherNull(o, o, null));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.neitherNull(o, o, o, null));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.neitherNull(o, o, o, o, null));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.neitherNull(o, o, o, o, o, null));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.neitherNull(o, o, o, o, o, o, null));
+  }
+
+  @Test
+  void neitherNull_explicitArray_checksElements() {
+    Object[] other = {new Object(), null};
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.neitherNull(new Object(), other));
+  }
+
+  @Test
+  void neitherBlank_lastBlank_throws() {
+    Assertions.assertDoesNotThrow(() -> Ensure.neitherBlank("a", "b", "c", "d", "e", "f"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.neitherBlank("a", " "));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.neitherBlank("a", "b", "c", "d", "e", null));
+  }
+
+  @Test
+  void neitherNullableNotBlank_nullsAllowed() {
+    Assertions.assertDoesNotThrow(() -> Ensure.neitherNullableNotBlank(null, null, "c"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.neitherNullableNotBlank(null, null, "c", ""));
+  }
+
+  @Test
+  void literalNullSecondArg_isNullVarargsArray() {
+    Assertions.assertDoesNotThrow(() -> Ensure.neitherNull("a", null));
+    Assertions.assertDoesNotThrow(() -> Ensure.neitherBlank("a", null));
+    Assertions.assertDoesNotThrow(() -> Ensure.neitherNullableNotBlank("a", null));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.neitherBlank(" ", null));
+  }
+
+  @Test
+  void arePositive_everyFamily() {
+    Assertions.assertDoesNotThrow(() -> Ensure.arePositive(1, 2, 3, 4, 5, 6));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.arePositive(1, 2, 3, 4, 0));
+    Assertions.assertDoesNotThrow(() -> Ensure.arePositive(1L, 2L, 3L, 4L, 5L));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.arePositive(1L, 2L, 3L, 0L));
+    Assertions.assertDoesNotThrow(() -> Ensure.arePositive(1d, 2d, 3d, 4d));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.arePositive(1d, 2d, 0d));
+    Assertions.assertDoesNotThrow(() -> Ensure.arePositive(1f, 2f, 3f));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.arePositive(1f, 0f));
+    Assertions.assertDoesNotThrow(() -> Ensure.arePositive((short) 1, (short) 2));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.arePositive((short) 1, (short) 2, (short) 3,
+            (short) 4, (short) 5, (short) 0));
+  }
+
+  @Test
+  void areNonNegative_everyFamily() {
+    Assertions.assertDoesNotThrow(() -> Ensure.areNonNegative(0, 0, 0, 0, 0, 0));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.areNonNegative(0, -1));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.areNonNegative(0L, 0L, -1L));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.areNonNegative(0d, 0d, 0d, -1d));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.areNonNegative(0f, 0f, 0f, 0f, -1f));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.areNonNegative((short) 0, (short) 0, (short) 0,
+            (short) 0, (short) 0, (short) -1));
+  }
+
+  @Test
+  void areHttpStatuses_lastInvalid_throws() {
+    Assertions.assertDoesNotThrow(() -> Ensure.areHttpStatuses(200, 201, 204, 301, 404, 500));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.areHttpStatuses(200, 201, 204, 301, 404, 600));
+  }
+}
@@ -0,0 +1,125 @@
+import io.github.artkonr.ensure.Check;
+import io.github.artkonr.ensure.HostAllowList;
+import io.github.artkonr.ensure.OnViolation;
+import io.github.artkonr.ensure.Validating;
+import io.github.artkonr.ensure.Validator;
+import io.github.artkonr.ensure.ViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class HostAllowListTest {
+
+  private static final HostAllowList HOSTS = HostAllowList.of("example.com", "*.partner.io", "api.Partner.io",
+          "*.bücher.de", "[::1]", "10.0.0.1");
+
+  private static final int NOT_ALLOWED = Check.HOST_NOT_ALLOWED | Check.TYPE_STRING;
+
+  @Test
+  void exactAndWildcardPatterns() {
+    Assertions.assertTrue(HOSTS.allows("example.com"));
+    Assertions.assertTrue(HOSTS.allows("EXAMPLE.com."));
+    Assertions.assertFalse(HOSTS.allows("www.example.com"));
+    Assertions.assertFalse(HOSTS.allows("badexample.com"));
+    Assertions.assertFalse(HOSTS.allows("com"));
+
+    Assertions.assertTrue(HOSTS.allows("a.b.partner.io"));
+    Assertions.assertTrue(HOSTS.allows("api.partner.io"));
+    Assertions.assertFalse(HOSTS.allows("partner.io"));
+    Assertions.assertFalse(HOSTS.allows("evilpartner.io"));
+    Assertions.assertFalse(HOSTS.allows("partner.io.evil.com"));
+
+    Assertions.assertTrue(HOSTS.allows("[::1]"));
+    Assertions.assertTrue(HOSTS.allows("10.0.0.1"));
+    Assertions.assertFalse(HOSTS.allows("10.0.0.2"));
+    Assertions.assertFalse(HOSTS.allows(null));
+    Assertions.assertFalse(HOSTS.allows(""));
+    Assertions.assertFalse(HOSTS.allows("."));
+    Assertions.assertFalse(HOSTS.allows("x..partner.io"));
+  }
+
+  @Test
+  void idnHosts_normalised() {
+    Assertions.assertTrue(HOSTS.allows("shop.bücher.de"));
+    Assertions.assertTrue(HOSTS.allows("shop.xn--bcher-kva.de"));
+    Assertions.assertTrue(HOSTS.allows("shop\u3002BÜCHER.de"));
+    Assertions.assertFalse(HOSTS.allows("bücher.de"));
+    Assertions.assertFalse(HOSTS.allows("exämple.com"));
+  }
+
+  @Test
+  void idnUrls_checkAgreesWithValidate() {
+    Assertions.assertEquals(Check.OK, HOSTS.check("https://shop.bücher.de/x"));
+    Assertions.assertEquals(Check.OK, HOSTS.check("https://user@SHOP.Bücher.de:8443/x?q"));
+    Assertions.assertEquals("shop.bücher.de", HOSTS.validate("https://shop.bücher.de/x").getAuthority());
+    Assertions.assertEquals(Check.OK, HOSTS.check("https://shop.xn--bcher-kva.de/x"));
+    Assertions.assertEquals("shop.xn--bcher-kva.de", HOSTS.validate("https://shop.xn--bcher-kva.de/x").getHost());
+
+    Assertions.assertEquals(NOT_ALLOWED, HOSTS.check("https://bücher.de/x"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> HOSTS.validate("https://bücher.de/x"));
+    Assertions.assertEquals(NOT_ALLOWED, HOSTS.check("https://exämple.com/"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> HOSTS.validate("https://exämple.com/"));
+
+    Validator<String> redirect = Validator.forStrings().rule(HOSTS).build();
+    Assertions.assertDoesNotThrow(() -> redirect.validate("https://shop.bücher.de/x", "to"));
+  }
+
+  @Test
+  void urls_checkedByHost() {
+    Assertions.assertEquals(Check.OK, HOSTS.check("https://user:pw@Example.com:8443/a?b#c"));
+    Assertions.assertEquals(Check.OK, HOSTS.check("http://[::1]:8080/"));
+    Assertions.assertEquals(Check.OK, HOSTS.check("a.b+c://x.partner.io"));
+    Assertions.assertEquals(NOT_ALLOWED, HOSTS.check("https://example.com@evil.com/"));
+    Assertions.assertEquals(NOT_ALLOWED, HOSTS.check("https://evil.com/example.com"));
+    Assertions.assertEquals(NOT_ALLOWED, HOSTS.check("https://ex%61mple.com/"));
+    Assertions.assertEquals(Check.NOT_URL | Check.TYPE_STRING, HOSTS.check("/relative"));
+    Assertions.assertEquals(Check.notBlank(null), HOSTS.check(null));
+
+    URI uri = HOSTS.validate("https://api.partner.io/hooks", "callback");
+    Assertions.assertEquals("api.partner.io", uri.getHost());
+    Assertions.assertEquals("Bad arg: argName=callback;type=String;expected=allowed-host;actual=http://169.254.169.254/",
+            Assertions.assertThrows(Exceptions.BAD_ARG, () -> HOSTS.validate("http://169.254.169.254/", "callback"))
+                    .getMessage());
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> HOSTS.validate("relative/path"));
+
+    Validator<String> redirect = Validator.forStrings().maxLength(2048).rule(HOSTS).build();
+    Assertions.assertEquals("allowed-host",
+            Assertions.assertThrows(ViolationException.class, () -> redirect.validate("https://evil.com", "to"))
+                    .getExpectation());
+    Assertions.assertEquals("non-null&non-blank&is-url(host)",
+            Assertions.assertThrows(ViolationException.class, () -> redirect.validate("/relative", "to"))
+                    .getExpectation());
+    Assertions.assertEquals("allowed-host",
+            Assertions.assertThrows(ViolationException.class,
+                    () -> Validating.stream(Stream.of("https://evil.com"), HOSTS, "to", OnViolation.FAIL_FAST, null)
+                            .count())
+                    .getExpectation());
+  }
+
+  @Test
+  void largeList_matches() {
+    List<String> patterns = new ArrayList<>();
+    for (int i = 0; i < 50_000; i++)
+      patterns.add(i % 2 == 0 ? "host" + i + ".example.org" : "*.tenant" + i + ".example.net");
+    HostAllowList list = HostAllowList.of(patterns);
+    Assertions.assertTrue(list.allows("host49998.example.org"));
+    Assertions.assertTrue(list.allows("a.tenant49999.example.net"));
+    Assertions.assertFalse(list.allows("host49999.example.org"));
+    Assertions.assertFalse(list.allows("tenant49999.example.net"));
+  }
+
+  @Test
+  void badPatterns_throw() {
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> HostAllowList.of((String[]) null));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> HostAllowList.of("a.com", null));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> HostAllowList.of(""));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> HostAllowList.of("a..com"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> HostAllowList.of("*.*.com"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> HostAllowList.of("*"));
+  }
+
+}
@@ -0,0 +1,88 @@
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.Hotspot;
+import io.github.artkonr.ensure.Hotspots;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class HotspotsTest {
+
+  @AfterEach
+  void tearDown() {
+    Hotspots.setEnabled(false);
+    Hotspots.reset();
+  }
+
+  @Test
+  void disabled_reportsNothing() {
+    Hotspots.reset();
+    fail(() -> Ensure.isPositive(0, "quantity"));
+    Assertions.assertTrue(Hotspots.snapshot().isEmpty());
+  }
+
+  @Test
+  void enabled_ranksCallSites() {
+    Hotspots.setEnabled(true);
+    for (int i = 0; i < 5; i++)
+      fail(() -> Ensure.isPositive(0, "quantity"));
+    for (int i = 0; i < 2; i++)
+      fail(() -> Ensure.notBlank("", "sku"));
+    Assertions.assertDoesNotThrow(() -> Ensure.isPositive(1, "quantity"));
+
+    List<Hotspot> top = Hotspots.snapshot();
+    Assertions.assertEquals(2, top.size());
+    Assertions.assertEquals(5, top.get(0).getCount());
+    Assertions.assertEquals(2, top.get(1).getCount());
+    Assertions.assertEquals(0, top.get(0).getError());
+    Assertions.assertTrue(top.get(0).getCallSite().startsWith(HotspotsTest.class.getName()));
+    Assertions.assertNotEquals(top.get(0).getCallSite(), top.get(1).getCallSite());
+
+    Assertions.assertEquals(List.of(top.get(0).getCallSite()),
+            List.of(Hotspots.top(1).get(0).getCallSite()));
+    Assertions.assertTrue(Hotspots.top(0).isEmpty());
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Hotspots.top(-1));
+  }
+
+  @Test
+  void reset_forgetsSites() {
+    Hotspots.setEnabled(true);
+    fail(() -> Ensure.isPositive(0, "quantity"));
+    Assertions.assertEquals(1, Hotspots.snapshot().size());
+    Hotspots.reset();
+    Assertions.assertTrue(Hotspots.snapshot().isEmpty());
+  }
+
+  @Test
+  void concurrentViolations_countedOrDropped() throws InterruptedException {
+    Hotspots.setEnabled(true);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread = new Thread(() -> {
+        for (int i = 0; i < 1000; i++)
+          fail(() -> Ensure.isPositive(0, "quantity"));
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads)
+      thread.join();
+
+    List<Hotspot> top = Hotspots.snapshot();
+    Assertions.assertEquals(1, top.size());
+    Assertions.assertEquals(4000, top.get(0).getCount() + Hotspots.getDroppedCount());
+    Hotspots.reset();
+    Assertions.assertEquals(0, Hotspots.getDroppedCount());
+  }
+
+  private static void fail(Runnable check) {
+    try {
+      check.run();
+    } catch (IllegalArgumentException ignored) {
+      // expected
+    }
+  }
+
+}
@@ -0,0 +1,89 @@
+import io.github.artkonr.ensure.DeepScan;
+import io.github.artkonr.ensure.Ensure;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class JfrTest {
+
+  private static final String VIOLATION = "io.github.artkonr.ensure.Violation";
+  private static final String DEEP_SCAN = "io.github.artkonr.ensure.DeepScan";
+
+  @Test
+  void violation_recorded() throws Exception {
+    List<RecordedEvent> events = record(() -> {
+      try {
+        Ensure.isPositive(0, "quantity");
+      } catch (IllegalArgumentException ignored) {
+        // expected
+      }
+    });
+    List<RecordedEvent> violations = named(events, VIOLATION);
+    Assertions.assertEquals(1, violations.size());
+    RecordedEvent event = violations.get(0);
+    Assertions.assertEquals("quantity", event.getString("argName"));
+    Assertions.assertEquals(">0", event.getString("rule"));
+    Assertions.assertEquals("int", event.getString("type"));
+    Assertions.assertTrue(event.getString("callSite").startsWith(JfrTest.class.getName()));
+  }
+
+  @Test
+  void passedCheck_notRecorded() throws Exception {
+    List<RecordedEvent> events = record(() -> Ensure.notBlank("value", "name"));
+    Assertions.assertTrue(named(events, VIOLATION).isEmpty());
+  }
+
+  @Test
+  void largeScan_recorded() throws Exception {
+    List<Integer> large = new ArrayList<>(Collections.nCopies(10_000, 1));
+    List<Integer> small = new ArrayList<>(Collections.nCopies(10, 1));
+    int threshold = DeepScan.getParallelThreshold();
+    DeepScan.setParallelThreshold(Integer.MAX_VALUE);
+    try {
+      List<RecordedEvent> events = record(() -> {
+        Ensure.deepNotEmpty(large, "large");
+        Ensure.deepNotEmpty(small, "small");
+      });
+      List<RecordedEvent> scans = named(events, DEEP_SCAN);
+      Assertions.assertEquals(1, scans.size());
+      RecordedEvent event = scans.get(0);
+      Assertions.assertEquals(ArrayList.class.getName(), event.getString("containerType"));
+      Assertions.assertEquals(10_000, event.getInt("size"));
+      Assertions.assertFalse(event.getBoolean("parallel"));
+      Assertions.assertFalse(event.getBoolean("nullFound"));
+    } finally {
+      DeepScan.setParallelThreshold(threshold);
+    }
+  }
+
+  private static List<RecordedEvent> record(Runnable action) throws Exception {
+    Path file = Files.createTempFile("ensure", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(VIOLATION);
+      recording.enable(DEEP_SCAN);
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+    return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+  }
+
+}
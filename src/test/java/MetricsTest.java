@@ -0,0 +1,209 @@
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.IntRule;
+import io.github.artkonr.ensure.LazyEnsure;
+import io.github.artkonr.ensure.Metrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class MetricsTest {
+
+  @AfterEach
+  void tearDown() {
+    Metrics.setCountingChecks(false);
+    Metrics.setEnabled(false);
+    Metrics.reset();
+  }
+
+  @Test
+  void checkCounting_offByDefault() {
+    Metrics.setEnabled(true);
+    Assertions.assertFalse(Metrics.isCountingChecks());
+    Ensure.isPositive(1, "quantity");
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.isPositive(0, "quantity"));
+    Assertions.assertEquals(0, Metrics.getCheckCount());
+    Assertions.assertEquals(1, Metrics.getViolationCount());
+  }
+
+  @Test
+  void checkCounting_givesRejectionRate() {
+    Metrics.setEnabled(true);
+    Metrics.setCountingChecks(true);
+    for (int i = 0; i < 10; i++) {
+      int quantity = i % 5;
+      if (quantity == 0)
+        Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.isPositive(quantity, "quantity"));
+      else
+        Ensure.isPositive(quantity, "quantity");
+    }
+    LazyEnsure.isPositive(3, () -> "quantity");
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.notBlank(" ", "sku"));
+    Assertions.assertEquals(12, Metrics.getCheckCount());
+    Assertions.assertEquals(11L, Metrics.getChecksByRule().get(">0"));
+    Assertions.assertEquals(11L, Metrics.getChecksByArgName().get("quantity"));
+    Assertions.assertEquals(2L, Metrics.getViolationsByArgName().get("quantity"));
+    Assertions.assertEquals(1L, Metrics.getChecksByArgName().get("sku"));
+    Assertions.assertEquals(1L, Metrics.getViolationsByArgName().get("sku"));
+  }
+
+  @Test
+  void checkCounting_foldsIndicesAndElements() {
+    Metrics.setEnabled(true);
+    Metrics.setCountingChecks(true);
+    for (int i = 0; i < 3; i++)
+      Ensure.isPositive(1, "items[].price", i);
+    Ensure.allPositive(new int[] {1, 2, 3, 4}, "sizes");
+    Ensure.eachInt(List.of(1, 2), Integer::intValue, IntRule.POSITIVE, "orders");
+    Map<String, Long> byName = Metrics.getChecksByArgName();
+    Assertions.assertEquals(3L, byName.get("items[].price"));
+    Assertions.assertEquals(1L, byName.get("sizes"));
+    Assertions.assertEquals(4L, byName.get("sizes[]"));
+    Assertions.assertEquals(2L, byName.get("orders[]"));
+  }
+
+  @Test
+  void checkCounting_needsMetricsEnabled() {
+    Metrics.setCountingChecks(true);
+    Ensure.isPositive(1, "quantity");
+    Assertions.assertEquals(0, Metrics.getCheckCount());
+  }
+
+  @Test
+  void reset_clearsCheckCounts() {
+    Metrics.setEnabled(true);
+    Metrics.setCountingChecks(true);
+    Ensure.isPositive(1, "quantity");
+    Metrics.reset();
+    Assertions.assertEquals(0, Metrics.getCheckCount());
+    Assertions.assertTrue(Metrics.getChecksByRule().isEmpty());
+    Assertions.assertTrue(Metrics.getChecksByArgName().isEmpty());
+  }
+
+  @Test
+  void disabled_countsNothing() {
+    Metrics.reset();
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.isPositive(0, "quantity"));
+    Assertions.assertEquals(0, Metrics.getViolationCount());
+    Assertions.assertTrue(Metrics.getViolationsByRule().isEmpty());
+  }
+
+  @Test
+  void enabled_countsPerRuleAndArgName() {
+    Metrics.setEnabled(true);
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.isPositive(0, "quantity"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.isPositive(-1, "quantity"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.notBlank(" ", "sku"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.notNull(null));
+    Assertions.assertDoesNotThrow(() -> Ensure.isPositive(1, "quantity"));
+    Assertions.assertEquals(4, Metrics.getViolationCount());
+    Assertions.assertEquals(2L, Metrics.getViolationsByRule().get(">0"));
+    Assertions.assertEquals(2L, Metrics.getViolationsByArgName().get("quantity"));
+    Assertions.assertEquals(1L, Metrics.getViolationsByArgName().get("sku"));
+    Assertions.assertEquals(1L, Metrics.getViolationsByArgName().get(Metrics.UNNAMED));
+  }
+
+  @Test
+  void elementIndices_dropped() {
+    Metrics.setEnabled(true);
+    Assertions.assertThrows(Exceptions.BAD_ARG,
+            () -> Ensure.eachInt(List.of(1, 0), Integer::intValue, IntRule.POSITIVE, "orders"));
+    Assertions.assertThrows(Exceptions.BAD_ARG,
+            () -> Ensure.eachInt(List.of(0), Integer::intValue, IntRule.POSITIVE, "orders"));
+    Assertions.assertEquals(2L, Metrics.getViolationsByArgName().get("orders[]"));
+  }
+
+  @Test
+  void indexedTemplates_foldedToOneName() {
+    Metrics.setEnabled(true);
+    for (int i = 0; i < 2000; i++) {
+      int index = i;
+      Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.isPositive(0, "items[].price", index));
+    }
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.isPositive(0, "grid[3][12].price"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.isPositive(0, "map[key]"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.notBlank("", "sku"));
+
+    Map<String, Long> byName = Metrics.getViolationsByArgName();
+    Assertions.assertEquals(2000L, byName.get("items[].price"));
+    Assertions.assertEquals(1L, byName.get("grid[][].price"));
+    Assertions.assertEquals(1L, byName.get("map[key]"));
+    Assertions.assertEquals(1L, byName.get("sku"));
+    Assertions.assertNull(byName.get(Metrics.OTHER));
+  }
+
+  @Test
+  void concurrentViolations_allCounted() throws Exception {
+    Metrics.setEnabled(true);
+    int threads = 64;
+    int perThread = 1_000;
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      for (int t = 0; t < threads; t++) {
+        pool.execute(() -> {
+          try {
+            start.await();
+          } catch (InterruptedException x) {
+            return;
+          }
+          for (int i = 0; i < perThread; i++) {
+            try {
+              Ensure.isPositive(0, "quantity");
+            } catch (IllegalArgumentException ignored) {
+              // expected
+            }
+          }
+        });
+      }
+      start.countDown();
+    } finally {
+      pool.shutdown();
+    }
+    Assertions.assertTrue(pool.awaitTermination(1, TimeUnit.MINUTES));
+    Assertions.assertEquals((long) threads * perThread, Metrics.getViolationCount());
+    Assertions.assertEquals((long) threads * perThread, Metrics.getViolationsByArgName().get("quantity"));
+  }
+
+  @Test
+  void mbean_exposesCounts() throws Exception {
+    Metrics.setEnabled(true);
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.isPositive(0, "quantity"));
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(Metrics.OBJECT_NAME);
+    Assertions.assertEquals(1L, server.getAttribute(name, "ViolationCount"));
+    TabularData byName = (TabularData) server.getAttribute(name, "ViolationsByArgName");
+    CompositeData row = byName.get(new Object[] {"quantity"});
+    Assertions.assertEquals(1L, row.get("value"));
+
+    server.invoke(name, "reset", null, null);
+    Assertions.assertEquals(0L, server.getAttribute(name, "ViolationCount"));
+    Assertions.assertEquals(true, server.getAttribute(name, "Enabled"));
+  }
+
+  @Test
+  void mbean_switchesCheckCounting() throws Exception {
+    Metrics.setEnabled(true);
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(Metrics.OBJECT_NAME);
+    server.setAttribute(name, new Attribute("CountingChecks", true));
+    Assertions.assertTrue(Metrics.isCountingChecks());
+    Ensure.isPositive(1, "quantity");
+    Assertions.assertEquals(1L, server.getAttribute(name, "CheckCount"));
+    TabularData byRule = (TabularData) server.getAttribute(name, "ChecksByRule");
+    Assertions.assertEquals(1L, byRule.get(new Object[] {">0"}).get("value"));
+  }
+
+}
@@ -0,0 +1,136 @@
+import io.github.artkonr.ensure.DeepScan;
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.NullFreeConcurrentMap;
+import io.github.artkonr.ensure.NullFreeList;
+import io.github.artkonr.ensure.NullFreeMap;
+import io.github.artkonr.ensure.NullFreeSet;
+import io.github.artkonr.ensure.ViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+public class NullFreeTest {
+
+  @Test
+  void list_rejectsNulls() {
+    List<String> list = new NullFreeList<>();
+    list.add("a");
+    list.add("b");
+    Assertions.assertThrows(ViolationException.class, () -> list.add(null));
+    Assertions.assertThrows(ViolationException.class, () -> list.add(0, null));
+    Assertions.assertThrows(ViolationException.class, () -> list.set(1, null));
+    Assertions.assertThrows(ViolationException.class, () -> list.addAll(Arrays.asList("c", null)));
+    Assertions.assertThrows(ViolationException.class, () -> list.subList(0, 1).add(null));
+    Assertions.assertThrows(ViolationException.class, () -> list.listIterator().add(null));
+    Assertions.assertThrows(ViolationException.class, () -> list.replaceAll(s -> null));
+    Assertions.assertEquals(List.of("a", "b"), list);
+    Assertions.assertFalse(list.contains(null));
+    Assertions.assertEquals(-1, list.indexOf(null));
+  }
+
+  @Test
+  void list_mutations() {
+    List<Integer> list = new NullFreeList<>(List.of(1, 2, 3, 4, 5));
+    list.subList(1, 3).clear();
+    Assertions.assertEquals(List.of(1, 4, 5), list);
+    list.removeIf(i -> i > 4);
+    Assertions.assertEquals(List.of(1, 4), list);
+    list.addAll(0, List.of(7, 8));
+    Assertions.assertEquals(List.of(7, 8, 1, 4), list);
+    list.clear();
+    Assertions.assertTrue(list.isEmpty());
+    Assertions.assertThrows(ViolationException.class, () -> new NullFreeList<>(Arrays.asList(1, null)));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> new NullFreeList<>(-1));
+  }
+
+  @Test
+  void list_concurrentModification_detected() {
+    List<Integer> list = new NullFreeList<>(List.of(1, 2));
+    Iterator<Integer> it = list.iterator();
+    list.add(3);
+    Assertions.assertThrows(java.util.ConcurrentModificationException.class, it::next);
+  }
+
+  @Test
+  void set_rejectsNulls() {
+    Set<String> set = new NullFreeSet<>(List.of("a", "b"));
+    Assertions.assertThrows(ViolationException.class, () -> set.add(null));
+    Assertions.assertThrows(ViolationException.class, () -> set.addAll(Arrays.asList("c", null)));
+    Assertions.assertEquals(Set.of("a", "b"), set);
+    Assertions.assertFalse(set.contains(null));
+    Assertions.assertFalse(set.remove(null));
+    Iterator<String> it = set.iterator();
+    it.next();
+    it.remove();
+    Assertions.assertEquals(Set.of("b"), set);
+  }
+
+  @Test
+  void map_rejectsNulls() {
+    Map<String, Integer> map = new NullFreeMap<>(Map.of("a", 1));
+    Assertions.assertThrows(ViolationException.class, () -> map.put(null, 1));
+    Assertions.assertThrows(ViolationException.class, () -> map.put("b", null));
+    Assertions.assertThrows(ViolationException.class, () -> map.putIfAbsent("b", null));
+    Assertions.assertThrows(ViolationException.class, () -> map.replaceAll((k, v) -> null));
+    Map<String, Integer> withNull = new HashMap<>();
+    withNull.put("c", null);
+    Assertions.assertThrows(ViolationException.class, () -> map.putAll(withNull));
+    Assertions.assertThrows(ViolationException.class, () -> new NullFreeMap<>(withNull));
+    Assertions.assertEquals(Map.of("a", 1), map);
+    Assertions.assertNull(map.get(null));
+    Assertions.assertFalse(map.containsKey(null));
+  }
+
+  @Test
+  void map_viewsReadOnly() {
+    Map<String, Integer> map = new NullFreeMap<>(Map.of("a", 1));
+    Assertions.assertThrows(UnsupportedOperationException.class,
+            () -> map.entrySet().iterator().next().setValue(null));
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> map.keySet().remove("a"));
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> map.values().clear());
+  }
+
+  @Test
+  void concurrentMap_rejectsNulls() {
+    ConcurrentMap<String, Integer> map = new NullFreeConcurrentMap<>();
+    map.put("a", 1);
+    Assertions.assertThrows(ViolationException.class, () -> map.put(null, 1));
+    Assertions.assertThrows(ViolationException.class, () -> map.putIfAbsent("b", null));
+    Assertions.assertThrows(ViolationException.class, () -> map.replace("a", null));
+    Assertions.assertThrows(ViolationException.class, () -> map.merge("a", null, Integer::sum));
+    Assertions.assertThrows(ViolationException.class, () -> map.computeIfAbsent(null, k -> 1));
+    Assertions.assertEquals(2, map.merge("a", 1, Integer::sum));
+    Assertions.assertNull(map.compute("a", (k, v) -> null));
+    Assertions.assertTrue(map.isEmpty());
+    Assertions.assertNull(map.get(null));
+    Assertions.assertFalse(map.remove(null, 1));
+  }
+
+  @Test
+  void deepNotEmpty_skipsScan() {
+    int threshold = DeepScan.getParallelThreshold();
+    DeepScan.setParallelThreshold(1);
+    try {
+      Collection<Integer> list = new NullFreeList<>(List.of(1, 2, 3));
+      Iterable<Integer> set = new NullFreeSet<>(List.of(1, 2, 3));
+      Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(list, "list"));
+      Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(set, "set"));
+      Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(new NullFreeMap<>(Map.of(1, 1)), "map"));
+      Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(new NullFreeConcurrentMap<>(Map.of(1, 1))));
+      Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(new NullFreeList<>()));
+      Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.notEmpty((Iterable<?>) new NullFreeSet<>()));
+      Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(new NullFreeMap<>()));
+    } finally {
+      DeepScan.setParallelThreshold(threshold);
+    }
+  }
+
+}
@@ -0,0 +1,85 @@
+import io.github.artkonr.ensure.Check;
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.UriCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+public class UriCacheTest {
+
+  private static final String URL = "https://api.example.com/v1/hooks";
+
+  @BeforeEach
+  void setUp() {
+    UriCache.reset();
+    UriCache.setEnabled(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    UriCache.setEnabled(false);
+    UriCache.reset();
+  }
+
+  @Test
+  void repeatedInput_sharesUri() {
+    URI first = Ensure.isValidUrl(URL);
+    Assertions.assertSame(first, Ensure.isValidUrl(URL, "url"));
+    Assertions.assertEquals(1, UriCache.getMissCount());
+    Assertions.assertEquals(1, UriCache.getHitCount());
+    Assertions.assertEquals(1, UriCache.getSize());
+  }
+
+  @Test
+  void malformedInput_cachedAsFailure() {
+    IllegalArgumentException first = Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.isValidUrl("'5$% t"));
+    IllegalArgumentException second = Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.isValidUrl("'5$% t"));
+    Assertions.assertEquals(first.getMessage(), second.getMessage());
+    Assertions.assertNotSame(first, second);
+    Assertions.assertSame(first.getCause(), second.getCause());
+    Assertions.assertEquals(0, second.getCause().getStackTrace().length);
+    Assertions.assertEquals(1, UriCache.getMissCount());
+    Assertions.assertEquals(1, UriCache.getHitCount());
+  }
+
+  @Test
+  void checkAsciiInput_scannedWithoutParsing() {
+    Assertions.assertEquals(Check.OK, Check.isValidUrl(URL));
+    Assertions.assertEquals(Check.NOT_URL | Check.TYPE_STRING, Check.isValidUrl("'5$% t"));
+    Assertions.assertEquals(0, UriCache.getMissCount() + UriCache.getHitCount());
+
+    Assertions.assertEquals(Check.OK, Check.isValidUrl("https://bücher.example/ä"));
+    Assertions.assertEquals(1, UriCache.getMissCount());
+  }
+
+  @Test
+  void distinctInputs_evictedBelowCapacity() {
+    Ensure.isValidUrl(URL);
+    for (int i = 0; i < 10_000; i++) {
+      Ensure.isValidUrl("https://attacker.example/" + i);
+      if (i % 100 == 0)
+        Ensure.isValidUrl(URL);
+    }
+    Assertions.assertTrue(UriCache.getSize() <= 1024);
+    Assertions.assertTrue(UriCache.getEvictionCount() >= 10_000 - 1024);
+    Assertions.assertEquals(10_001, UriCache.getMissCount());
+
+    long hits = UriCache.getHitCount();
+    Ensure.isValidUrl(URL);
+    Assertions.assertEquals(hits + 1, UriCache.getHitCount());
+    Assertions.assertEquals(10_001, UriCache.getMissCount());
+  }
+
+  @Test
+  void longInput_notCached() {
+    String url = "https://example.com/" + "a".repeat(4096);
+    Ensure.isValidUrl(url);
+    Ensure.isValidUrl(url);
+    Assertions.assertEquals(0, UriCache.getSize());
+    Assertions.assertEquals(2, UriCache.getMissCount());
+  }
+
+}
@@ -0,0 +1,65 @@
+import io.github.artkonr.ensure.Check;
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.UrlSyntax;
+import io.github.artkonr.ensure.Validator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class UrlSyntaxTest {
+
+  private static final int NOT_URL = Check.NOT_URL | Check.TYPE_STRING;
+
+  @Test
+  void any_acceptsReferences() {
+    for (String val : List.of("https://example.com", "HTTP://user:pw@Example.com:8080/a/b;c?q=1&r=%20#frag",
+            "mailto:someone@example.com", "urn:isbn:0451450523", "/relative/path?x=y", "../up", "file:///tmp/x",
+            "foo/bar:baz", "?only=query", "#only-fragment", "http://[::1]:80/", "http://[2001:db8::7]/",
+            "http://[::ffff:192.0.2.1]", "http://[1:2:3:4:5:6:7:8]", "http://[v7.fe80::a+en1]/", "s3://bucket/"))
+      Assertions.assertEquals(Check.OK, UrlSyntax.ANY.check(val), val);
+  }
+
+  @Test
+  void any_rejectsMalformed() {
+    for (String val : List.of("http://exa mple.com", "http://example.com/%zz", "http://example.com/%2",
+            "1http:x", "foo:bar:baz/../%", "a:b#c#d", "http://ex<ample>.com", "http://host:80a/",
+            "http://[::1", "http://[1:2:3:4:5:6:7:8:9]", "http://[1::2::3]", "http://[12345::]",
+            "http://[::256.0.0.1]", "http://[::01.2.3.4]", "http://[v.x]", "http://ünicode.de", "no:sp ace"))
+      Assertions.assertEquals(NOT_URL, UrlSyntax.ANY.check(val), val);
+    Assertions.assertEquals(Check.notBlank(" "), UrlSyntax.ANY.check(" "));
+    Assertions.assertEquals(Check.notBlank(null), UrlSyntax.ANY.check(null));
+  }
+
+  @Test
+  void options_narrowAccepted() {
+    Assertions.assertEquals(NOT_URL, UrlSyntax.ANY.requireScheme().check("/path"));
+    Assertions.assertEquals(Check.OK, UrlSyntax.ANY.requireScheme().check("mailto:a@b.c"));
+    Assertions.assertEquals(NOT_URL, UrlSyntax.ANY.requireHost().check("mailto:a@b.c"));
+    Assertions.assertEquals(NOT_URL, UrlSyntax.ANY.requireHost().check("file:///tmp"));
+    Assertions.assertEquals(Check.OK, UrlSyntax.ANY.requireHost().check("//cdn.example.com/x.js"));
+    Assertions.assertEquals(Check.OK, UrlSyntax.HTTP.check("HTTPS://example.com"));
+    Assertions.assertEquals(NOT_URL, UrlSyntax.HTTP.check("ftp://example.com"));
+    Assertions.assertEquals(NOT_URL, UrlSyntax.HTTP.check("httpx://example.com"));
+    Assertions.assertEquals(NOT_URL, UrlSyntax.HTTP.check("http:/example.com"));
+    Assertions.assertSame(UrlSyntax.HTTP, UrlSyntax.ANY.requireHost().requireHttp());
+    Assertions.assertSame(UrlSyntax.HTTP, UrlSyntax.HTTP.requireScheme());
+  }
+
+  @Test
+  void validate_reportsSyntax() {
+    UrlSyntax.HTTP.validate("http://example.com", "callback");
+    Assertions.assertEquals("Bad arg: argName=callback;type=String;expected=non-null&non-blank&is-url(http);"
+            + "actual=ftp://example.com",
+            Assertions.assertThrows(Exceptions.BAD_ARG, () -> UrlSyntax.HTTP.validate("ftp://example.com", "callback"))
+                    .getMessage());
+    Assertions.assertEquals(
+            Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.notBlank("", "callback")).getMessage(),
+            Assertions.assertThrows(Exceptions.BAD_ARG, () -> UrlSyntax.ANY.validate("", "callback")).getMessage());
+
+    Validator<String> redirect = Validator.forStrings().maxLength(2048).rule(UrlSyntax.ANY.requireHost()).build();
+    Assertions.assertTrue(Assertions.assertThrows(Exceptions.BAD_ARG, () -> redirect.validate("/x", "to"))
+            .getMessage().contains("is-url(host)"));
+  }
+
+}
@@ -0,0 +1,151 @@
+import io.github.artkonr.ensure.Check;
+import io.github.artkonr.ensure.OnViolation;
+import io.github.artkonr.ensure.Rule;
+import io.github.artkonr.ensure.Validating;
+import io.github.artkonr.ensure.Validation;
+import io.github.artkonr.ensure.ValidationLevel;
+import io.github.artkonr.ensure.ViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ValidatingStagesTest {
+
+  private static final Rule<String> NOT_BLANK = Check::notBlank;
+  private static final Rule<Integer> POSITIVE = Check::isPositive;
+
+  @Test
+  void stream_failFast_throwsOnFirstInvalid() {
+    Stream<String> stream = Validating.stream(Stream.of("a", " ", "b"), NOT_BLANK, "sku");
+    ViolationException x = Assertions.assertThrows(ViolationException.class,
+            () -> stream.collect(Collectors.toList()));
+    Assertions.assertEquals(Check.message(Check.notBlank(" "), " ", "sku"), x.getMessage());
+  }
+
+  @Test
+  void stream_drop_skipsInvalid() {
+    List<Integer> out = Validating.stream(Stream.of(1, 0, 2, -5, 3), POSITIVE, "qty", OnViolation.DROP, null)
+            .collect(Collectors.toList());
+    Assertions.assertEquals(List.of(1, 2, 3), out);
+  }
+
+  @Test
+  void stream_sideChannel_receivesInvalid() {
+    List<String> rejected = new ArrayList<>();
+    long valid = Validating.stream(Stream.of(1, 0, 2, -5), POSITIVE, "qty", OnViolation.SIDE_CHANNEL,
+            (val, code) -> rejected.add(val + ":" + Check.rule(code)))
+            .count();
+    Assertions.assertEquals(2, valid);
+    Assertions.assertEquals(List.of("0:" + Check.NOT_POSITIVE, "-5:" + Check.NOT_POSITIVE), rejected);
+  }
+
+  @Test
+  void stream_badArgs_throw() {
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validating.stream(null, NOT_BLANK, "sku"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validating.stream(Stream.of("a"), null, "sku"));
+    Assertions.assertThrows(Exceptions.BAD_ARG,
+            () -> Validating.stream(Stream.of("a"), NOT_BLANK, "sku", OnViolation.SIDE_CHANNEL, null));
+  }
+
+  @Test
+  void publisher_drop_requestsReplacement() {
+    Recorder<Integer> recorder = new Recorder<>(3);
+    try (SubmissionPublisher<Integer> source = new SubmissionPublisher<>(Runnable::run, 16)) {
+      Validating.publisher(source, POSITIVE, "qty", OnViolation.DROP, null).subscribe(recorder);
+      for (int i : new int[] {1, 0, -1, 2, 0, 3, 4})
+        source.submit(i);
+    }
+    Assertions.assertEquals(List.of(1, 2, 3), recorder.items);
+  }
+
+  @Test
+  void publisher_failFast_cancelsAndSignalsError() {
+    Recorder<String> recorder = new Recorder<>(Long.MAX_VALUE);
+    try (SubmissionPublisher<String> source = new SubmissionPublisher<>(Runnable::run, 16)) {
+      Validating.publisher(source, NOT_BLANK, "sku").subscribe(recorder);
+      source.submit("a");
+      source.submit("");
+      source.submit("b");
+      Assertions.assertEquals(0, source.getNumberOfSubscribers());
+    }
+    Assertions.assertEquals(List.of("a"), recorder.items);
+    Assertions.assertTrue(recorder.error instanceof ViolationException);
+    Assertions.assertFalse(recorder.completed);
+  }
+
+  @Test
+  void processor_sideChannel_completes() {
+    List<Integer> rejected = new ArrayList<>();
+    Flow.Processor<Integer, Integer> processor = Validating.processor(POSITIVE, "qty",
+            OnViolation.SIDE_CHANNEL, (val, code) -> rejected.add(val));
+    Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+    processor.subscribe(recorder);
+    try (SubmissionPublisher<Integer> source = new SubmissionPublisher<>(Runnable::run, 16)) {
+      source.subscribe(processor);
+      for (int i : new int[] {5, 0, 6})
+        source.submit(i);
+    }
+    Assertions.assertEquals(List.of(5, 6), recorder.items);
+    Assertions.assertEquals(List.of(0), rejected);
+    Assertions.assertTrue(recorder.completed);
+
+    Recorder<Integer> second = new Recorder<>(1);
+    processor.subscribe(second);
+    Assertions.assertTrue(second.error instanceof IllegalStateException);
+  }
+
+  @Test
+  void processor_nullSignals_throwNpe() {
+    ValidationLevel level = Validation.getLevel();
+    Validation.setLevel(ValidationLevel.OFF);
+    try {
+      Flow.Processor<Integer, Integer> processor = Validating.processor(POSITIVE, "qty", OnViolation.DROP, null);
+      Assertions.assertThrows(NullPointerException.class, () -> processor.subscribe(null));
+      Assertions.assertThrows(NullPointerException.class, () -> processor.onSubscribe(null));
+      Assertions.assertThrows(NullPointerException.class, () -> processor.onNext(null));
+      Assertions.assertThrows(NullPointerException.class, () -> processor.onError(null));
+    } finally {
+      Validation.setLevel(level);
+    }
+  }
+
+  private static final class Recorder<T> implements Flow.Subscriber<T> {
+
+    private final long demand;
+    private final List<T> items = new ArrayList<>();
+    private Throwable error;
+    private boolean completed;
+
+    private Recorder(long demand) {
+      this.demand = demand;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      subscription.request(demand);
+    }
+
+    @Override
+    public void onNext(T item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+
+  }
+
+}
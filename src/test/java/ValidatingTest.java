@@ -0,0 +1,114 @@
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.Validating;
+import io.github.artkonr.ensure.ViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public class ValidatingTest {
+
+  @Test
+  void iterable_validElements_passThrough() {
+    List<String> out = new ArrayList<>();
+    for (String s : Validating.iterable(List.of("a", "b"), "arg"))
+      out.add(s);
+    Assertions.assertEquals(List.of("a", "b"), out);
+  }
+
+  @Test
+  void iterable_empty_throwsWithEnsureMessage() {
+    ViolationException expected = Assertions.assertThrows(ViolationException.class,
+            () -> Ensure.deepNotEmpty(Collections.emptyList(), "arg"));
+    ViolationException actual = Assertions.assertThrows(ViolationException.class, () -> {
+      for (Object ignored : Validating.iterable(Collections.emptyList(), "arg"))
+        Assertions.fail();
+    });
+    Assertions.assertEquals(expected.getMessage(), actual.getMessage());
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validating.iterable(null, "arg"));
+  }
+
+  @Test
+  void iterator_nullElement_throwsWhenReached() {
+    Iterator<String> it = Validating.iterator(Arrays.asList("a", null).iterator(), "arg");
+    Assertions.assertEquals("a", it.next());
+    ViolationException x = Assertions.assertThrows(ViolationException.class, it::next);
+    Assertions.assertEquals(messageOf(() -> Ensure.deepNotEmpty(Arrays.asList("a", null), "arg")),
+            x.getMessage());
+  }
+
+  @Test
+  void iterator_oneShot_traversedOnce() {
+    AtomicInteger calls = new AtomicInteger();
+    Iterable<Integer> oneShot = () -> {
+      if (calls.incrementAndGet() > 1)
+        throw new IllegalStateException("already iterated");
+      return List.of(1, 2, 3).iterator();
+    };
+    int sum = 0;
+    for (int i : Validating.iterable(oneShot, "arg"))
+      sum += i;
+    Assertions.assertEquals(6, sum);
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void deepNotEmpty_oneShot_traversedOnce() {
+    AtomicInteger calls = new AtomicInteger();
+    Iterable<Integer> oneShot = () -> {
+      if (calls.incrementAndGet() > 1)
+        throw new IllegalStateException("already iterated");
+      return List.of(1, 2, 3).iterator();
+    };
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(oneShot, "arg"));
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void spliterator_keepsSizedCharacteristics() {
+    List<Integer> source = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+    Spliterator<Integer> split = Validating.spliterator(source.spliterator(), "arg");
+    Assertions.assertTrue(split.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL));
+    Assertions.assertEquals(10_000, split.getExactSizeIfKnown());
+    Assertions.assertNotNull(split.trySplit());
+
+    long sum = StreamSupport.stream(Validating.spliterator(source.spliterator(), "arg"), true)
+            .mapToLong(Integer::longValue)
+            .sum();
+    Assertions.assertEquals(49_995_000L, sum);
+  }
+
+  @Test
+  void spliterator_parallelNull_throws() {
+    List<Integer> source = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+    source.set(7_777, null);
+    Assertions.assertThrows(ViolationException.class,
+            () -> StreamSupport.stream(Validating.spliterator(source.spliterator(), "arg"), true)
+                    .mapToLong(Integer::longValue)
+                    .sum());
+  }
+
+  @Test
+  void spliterator_empty_throws() {
+    Assertions.assertThrows(Exceptions.BAD_ARG,
+            () -> Validating.spliterator(List.of().spliterator(), "arg"));
+    Spliterator<Object> unsized = Spliterators.spliteratorUnknownSize(Collections.emptyIterator(), 0);
+    Spliterator<Object> validating = Validating.spliterator(unsized, "arg");
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> validating.tryAdvance(o -> { }));
+  }
+
+  private static String messageOf(Runnable check) {
+    return Assertions.assertThrows(ViolationException.class, check::run).getMessage();
+  }
+
+}
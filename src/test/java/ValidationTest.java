@@ -0,0 +1,192 @@
+import io.github.artkonr.ensure.DeepScan;
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.HostAllowList;
+import io.github.artkonr.ensure.Hotspots;
+import io.github.artkonr.ensure.IntRule;
+import io.github.artkonr.ensure.NullFreeList;
+import io.github.artkonr.ensure.Validating;
+import io.github.artkonr.ensure.Validation;
+import io.github.artkonr.ensure.ValidationGroup;
+import io.github.artkonr.ensure.ValidationLevel;
+import io.github.artkonr.ensure.Validator;
+import io.github.artkonr.ensure.ViolationException;
+import io.github.artkonr.ensure.Violations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+public class ValidationTest {
+
+  @AfterEach
+  void tearDown() {
+    Validation.setLevel(ValidationLevel.FULL);
+  }
+
+  @Test
+  void full_byDefault() {
+    Assertions.assertEquals(ValidationLevel.FULL, Validation.getLevel());
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(Arrays.asList(1, null), "list"));
+  }
+
+  @Test
+  void cheap_skipsTraversals() {
+    Validation.setLevel(ValidationLevel.CHEAP);
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty(Arrays.asList(1, null), "list"));
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty((Iterable<Integer>) Arrays.asList(1, null), "list"));
+    Assertions.assertDoesNotThrow(() -> Ensure.allPositive(new int[] {1, 0}, "arr"));
+    Assertions.assertDoesNotThrow(() -> Ensure.eachInt(List.of(0), Integer::intValue, IntRule.POSITIVE, "list"));
+
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.deepNotEmpty(List.of(), "list"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.allPositive((int[]) null, "arr"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.isPositive(0, "quantity"));
+  }
+
+  @Test
+  void off_skipsEverything() {
+    Validation.setLevel(ValidationLevel.OFF);
+    Assertions.assertDoesNotThrow(() -> Ensure.notNull(null, "arg"));
+    Assertions.assertDoesNotThrow(() -> Ensure.notBlank(" "));
+    Assertions.assertDoesNotThrow(() -> Ensure.arePositive(1, 0, -1));
+    Assertions.assertDoesNotThrow(() -> Ensure.notEmpty(List.of(), "list"));
+    Assertions.assertDoesNotThrow(() -> Ensure.deepNotEmpty((List<?>) null, "list"));
+    Assertions.assertDoesNotThrow(() -> Ensure.allFinite((double[]) null, "arr"));
+    Assertions.assertDoesNotThrow(() -> Ensure.isHttpStatus(42));
+
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.isValidUrl(" ", "url"));
+    Assertions.assertThrows(ViolationException.class, () -> new NullFreeList<>().add(null));
+
+    Validation.setLevel(ValidationLevel.FULL);
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Ensure.notNull(null, "arg"));
+  }
+
+  @Test
+  void off_keepsLibraryArgumentChecks() {
+    Validation.setLevel(ValidationLevel.OFF);
+    int threshold = DeepScan.getParallelThreshold();
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> new Violations(0));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> DeepScan.setParallelThreshold(-5));
+    Assertions.assertEquals(threshold, DeepScan.getParallelThreshold());
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Hotspots.top(-1));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> HostAllowList.of((String[]) null));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validator.forStrings().maxLength(-1));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validator.forStrings().pattern(" "));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validator.builder().rule(null));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validating.stream(Stream.of(1), null, "qty"));
+  }
+
+  @Test
+  void groups_inheritLevels() {
+    ValidationGroup parent = Validation.group("test.groups");
+    ValidationGroup child = Validation.group("test.groups.child");
+    Assertions.assertSame(child, Validation.group("test.groups.child"));
+    Assertions.assertEquals(ValidationLevel.FULL, child.getLevel());
+
+    parent.setLevel(ValidationLevel.CHEAP);
+    Assertions.assertEquals(ValidationLevel.CHEAP, child.getLevel());
+    Assertions.assertTrue(child.includes(ValidationLevel.CHEAP));
+    Assertions.assertFalse(child.includes(ValidationLevel.FULL));
+
+    child.setLevel(ValidationLevel.OFF);
+    Assertions.assertEquals(ValidationLevel.OFF, child.getLevel());
+    parent.setLevel(null);
+    Assertions.assertEquals(ValidationLevel.FULL, parent.getLevel());
+    Assertions.assertEquals(ValidationLevel.OFF, child.getLevel());
+
+    child.setLevel(null);
+    Validation.setLevel(ValidationLevel.CHEAP);
+    Assertions.assertEquals(ValidationLevel.CHEAP, child.getLevel());
+  }
+
+  @Test
+  void groups_byPackage() {
+    ValidationGroup group = Validation.group(Ensure.class);
+    Assertions.assertEquals(Ensure.class.getPackageName(), group.getName());
+    Assertions.assertSame(group, Validation.group(Ensure.class.getPackageName()));
+
+    Validation.group("io.github").setLevel(ValidationLevel.OFF);
+    try {
+      Assertions.assertEquals(ValidationLevel.OFF, group.getLevel());
+    } finally {
+      Validation.group("io.github").setLevel(null);
+    }
+    Assertions.assertEquals(ValidationLevel.FULL, group.getLevel());
+  }
+
+  @Test
+  void groups_badNames_throw() {
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validation.group((String) null));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validation.group(" "));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validation.group(".a"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validation.group("a..b"));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validation.setLevel(null));
+  }
+
+  @Test
+  void groups_badLevelProperty_inherits() {
+    System.setProperty("ensure.level.test.badLevel", "none");
+    Logger logger = Logger.getLogger(Validation.class.getName());
+    List<LogRecord> records = new ArrayList<>();
+    Handler handler = new Handler() {
+      @Override
+      public void publish(LogRecord record) {
+        records.add(record);
+      }
+
+      @Override
+      public void flush() { }
+
+      @Override
+      public void close() { }
+    };
+    logger.addHandler(handler);
+    ValidationGroup group;
+    try {
+      group = Validation.group("test.badLevel");
+      Validation.group("test.badLevel");
+    } finally {
+      logger.removeHandler(handler);
+      System.clearProperty("ensure.level.test.badLevel");
+    }
+    Assertions.assertEquals(ValidationLevel.FULL, group.getLevel());
+    Assertions.assertEquals(1, records.size());
+    Assertions.assertEquals(Level.WARNING, records.get(0).getLevel());
+    Assertions.assertTrue(records.get(0).getMessage().contains("-Densure.level.test.badLevel=none"),
+            records.get(0).getMessage());
+  }
+
+  @Test
+  void badLevelProperty_fallsBackToFull() throws IOException, InterruptedException {
+    Process process = new ProcessBuilder(
+            System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+            "-cp", System.getProperty("java.class.path"), "-Densure.level=of",
+            PrintLevel.class.getName())
+            .start();
+    String out = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    String err = new String(process.getErrorStream().readAllBytes(), StandardCharsets.UTF_8);
+    Assertions.assertEquals(0, process.waitFor(), err);
+    Assertions.assertEquals("FULL", out.trim());
+    Assertions.assertTrue(err.contains("-Densure.level=of"), err);
+  }
+
+  /** Prints the initial global level. */
+  public static final class PrintLevel {
+
+    public static void main(String[] args) {
+      System.out.println(Validation.getLevel());
+    }
+
+  }
+
+}
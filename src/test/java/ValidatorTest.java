@@ -0,0 +1,150 @@
+import io.github.artkonr.ensure.Check;
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.Rule;
+import io.github.artkonr.ensure.Validator;
+import io.github.artkonr.ensure.ViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ValidatorTest {
+
+  private static final Validator<String> SKU = Validator.forStrings()
+          .notNull()
+          .notBlank()
+          .maxLength(8)
+          .pattern("[A-Z0-9-]+")
+          .build();
+
+  @Test
+  void strings_firstFailedRuleReported() {
+    Assertions.assertEquals(Check.OK, SKU.check("AB-12"));
+    Assertions.assertEquals(Check.NULL, SKU.check(null));
+    Assertions.assertEquals(Check.BLANK | Check.TYPE_STRING, SKU.check("   "));
+    Assertions.assertEquals(Check.TOO_LONG | Check.TYPE_STRING, SKU.check("ABCDEFGHIJ"));
+    Assertions.assertEquals(Check.NO_MATCH | Check.TYPE_STRING, SKU.check("ab"));
+  }
+
+  @Test
+  void strings_messagesMatchEnsure() {
+    Assertions.assertEquals(messageOf(() -> Ensure.notNull(null, "sku")), messageOf(() -> SKU.validate(null, "sku")));
+    Assertions.assertEquals(messageOf(() -> Ensure.notBlank(" ", "sku")),
+            messageOf(() -> Validator.forStrings().notBlank().build().validate(" ", "sku")));
+    Assertions.assertEquals("Bad arg: argName=sku;type=String;expected=length<=8;actual=ABCDEFGHIJ",
+            messageOf(() -> SKU.validate("ABCDEFGHIJ", "sku")));
+    Assertions.assertEquals("Bad arg: type=String;expected=matches '[A-Z0-9-]+';actual=ab",
+            messageOf(() -> SKU.validate("ab")));
+    Assertions.assertEquals(Check.message(Check.TOO_LONG | Check.TYPE_STRING, "x", "sku"),
+            "Bad arg: argName=sku;type=String;expected=max-length;actual=x");
+  }
+
+  @Test
+  void strings_nullableRules() {
+    Validator<String> note = Validator.forStrings()
+            .nullableNotBlank()
+            .minLength(2)
+            .maxLength(4)
+            .maxLength(3)
+            .build();
+    Assertions.assertEquals(Check.OK, note.check(null));
+    Assertions.assertEquals(Check.NULLABLE_BLANK | Check.TYPE_STRING, note.check("  "));
+    Assertions.assertEquals(Check.TOO_SHORT | Check.TYPE_STRING, note.check("a"));
+    Assertions.assertEquals(Check.TOO_LONG | Check.TYPE_STRING, note.check("abcd"));
+    Assertions.assertEquals(Check.OK, note.check("abc"));
+
+    Validator<String> url = Validator.forStrings().maxLength(64).isValidUrl().build();
+    Assertions.assertEquals(Check.BLANK | Check.TYPE_STRING, url.check(null));
+    Assertions.assertEquals(Check.isValidUrl(null), url.check(null));
+    Assertions.assertEquals("non-null&non-blank",
+            Assertions.assertThrows(ViolationException.class, () -> url.validate(null, "url")).getExpectation());
+    Assertions.assertEquals(Check.OK, url.check("https://example.com"));
+  }
+
+  @Test
+  void strings_customRulesAndPatternsKeepOrder() {
+    Rule<String> noDigits = val -> val.chars().anyMatch(Character::isDigit) ? Check.NO_MATCH | Check.TYPE_STRING : Check.OK;
+    Validator<String> name = Validator.forStrings()
+            .notBlank()
+            .rule(noDigits)
+            .pattern("[a-z0-9]+")
+            .pattern(".{2,}")
+            .build();
+    Assertions.assertEquals(Check.BLANK | Check.TYPE_STRING, name.check(""));
+    Assertions.assertEquals(Check.NO_MATCH | Check.TYPE_STRING, name.check("a1"));
+    Assertions.assertEquals(Check.NO_MATCH | Check.TYPE_STRING, name.check("a"));
+    Assertions.assertEquals(Check.OK, name.check("ab"));
+  }
+
+  @Test
+  void generic_appliesRulesInOrder() {
+    Validator<Integer> quantity = Validator.<Integer>builder()
+            .notNull()
+            .rule(Check::isPositive)
+            .rule(val -> val > 100 ? Check.NOT_HTTP_STATUS : Check.OK)
+            .build();
+    Assertions.assertEquals(Check.NULL, quantity.check(null));
+    Assertions.assertEquals(Check.NOT_POSITIVE | Check.TYPE_INT, quantity.check(0));
+    Assertions.assertEquals(messageOf(() -> Ensure.isPositive(0, "qty")), messageOf(() -> quantity.validate(0, "qty")));
+    Assertions.assertDoesNotThrow(() -> quantity.validate(5, "qty"));
+    Assertions.assertDoesNotThrow(() -> Ensure.each(List.of("A", "B-1"), s -> s, SKU, "skus"));
+  }
+
+  @Test
+  void badArgs_throw() {
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validator.forStrings().minLength(-1));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validator.forStrings().pattern(" "));
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validator.forStrings().minLength(5).maxLength(4).build());
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> Validator.builder().rule(null));
+  }
+
+  @Test
+  void adaptive_cheapFailingRuleMovesFirst() {
+    AtomicInteger expensive = new AtomicInteger();
+    Rule<String> slow = val -> {
+      expensive.incrementAndGet();
+      return Check.OK;
+    };
+    Rule<String> failing = val -> Check.NOT_POSITIVE;
+    Validator<String> validator = Validator.<String>builder()
+            .notNull()
+            .rule(slow)
+            .rule(failing)
+            .adaptive()
+            .build();
+    for (int i = 0; i < 50_000; i++)
+      validator.check("x");
+    Assertions.assertEquals(List.of(validator.rules().get(0), failing, slow), validator.rules());
+
+    expensive.set(0);
+    for (int i = 0; i < 10_000; i++)
+      Assertions.assertEquals(Check.NOT_POSITIVE, validator.check("x"));
+    Assertions.assertTrue(expensive.get() < 1_000, () -> "slow rule applied " + expensive + " times");
+    Assertions.assertEquals(Check.NULL, validator.check(null));
+  }
+
+  @Test
+  void adaptive_stringRulesSplitAndValidate() {
+    Validator<String> validator = Validator.forStrings()
+            .notBlank()
+            .pattern("[a-z]+")
+            .maxLength(3)
+            .adaptive()
+            .build();
+    Assertions.assertEquals(3, validator.rules().size());
+    for (int i = 0; i < 50_000; i++)
+      validator.check("abcdef");
+    Assertions.assertEquals(Check.BLANK | Check.TYPE_STRING, validator.check(" "));
+    Assertions.assertEquals(Check.OK, validator.check("abc"));
+    Assertions.assertEquals("Bad arg: argName=code;type=String;expected=length<=3;actual=abcdef",
+            messageOf(() -> validator.validate("abcdef", "code")));
+    Assertions.assertThrows(Exceptions.BAD_ARG,
+            () -> Validator.forStrings().minLength(5).maxLength(2).adaptive().build());
+  }
+
+  private static String messageOf(Runnable check) {
+    return Assertions.assertThrows(ViolationException.class, check::run).getMessage();
+  }
+
+}
@@ -0,0 +1,149 @@
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.ViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+
+public class ViolationExceptionTest {
+
+  @AfterEach
+  void tearDown() {
+    ViolationException.setStackless(false);
+  }
+
+  @Test
+  void failedCheck_throwsViolationException() {
+    Assertions.assertThrows(ViolationException.class, () -> Ensure.notNull(null));
+    Assertions.assertThrows(ViolationException.class, () -> Ensure.isPositive(0, "arg"));
+    Assertions.assertThrows(ViolationException.class, () -> Ensure.isValidUrl("'5$% t"));
+  }
+
+  @Test
+  void failedCheck_caughtAsIllegalArgumentException() {
+    try {
+      Ensure.notBlank(" ", "arg");
+      Assertions.fail();
+    } catch (IllegalArgumentException x) {
+      Assertions.assertTrue(x.getMessage().contains("argName=arg"));
+    }
+  }
+
+  @Test
+  void defaultMode_capturesStackTrace() {
+    Assertions.assertFalse(ViolationException.isStackless());
+    ViolationException x = Assertions.assertThrows(ViolationException.class, () -> Ensure.notNull(null));
+    Assertions.assertTrue(x.getStackTrace().length > 0);
+  }
+
+  @Test
+  void globalStackless_skipsStackTrace() {
+    ViolationException.setStackless(true);
+    Assertions.assertTrue(ViolationException.isStackless());
+    ViolationException x = Assertions.assertThrows(ViolationException.class, () -> Ensure.notNull(null));
+    Assertions.assertEquals(0, x.getStackTrace().length);
+    Assertions.assertNotNull(x.getMessage());
+  }
+
+  @Test
+  void scopedStackless_skipsStackTraceInsideScopeOnly() {
+    ViolationException x = ViolationException.stackless(() -> {
+      try {
+        Ensure.isHttpStatus(1);
+        return null;
+      } catch (ViolationException e) {
+        return e;
+      }
+    });
+    Assertions.assertNotNull(x);
+    Assertions.assertEquals(0, x.getStackTrace().length);
+    Assertions.assertFalse(ViolationException.isStackless());
+
+    ViolationException y = Assertions.assertThrows(ViolationException.class, () -> Ensure.isHttpStatus(1));
+    Assertions.assertTrue(y.getStackTrace().length > 0);
+  }
+
+  @Test
+  void scopedStackless_runnable_propagatesViolation() {
+    ViolationException x = Assertions.assertThrows(ViolationException.class,
+            () -> ViolationException.stackless((Runnable) () -> Ensure.notBlank(null)));
+    Assertions.assertEquals(0, x.getStackTrace().length);
+  }
+
+  @Test
+  void scopedStackless_nullAction_throws() {
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> ViolationException.stackless((Runnable) null));
+  }
+
+  @Test
+  void message_matchesLegacyFormat() {
+    Assertions.assertEquals("Bad arg: expected=non-null;actual=null",
+            messageOf(() -> Ensure.notNull(null)));
+    Assertions.assertEquals("Bad arg: argName=arg;expected=non-null;actual=null",
+            messageOf(() -> Ensure.notNull(null, "arg")));
+    Assertions.assertEquals("Bad arg: type=String;expected=non-null&non-blank;actual= ",
+            messageOf(() -> Ensure.notBlank(" ")));
+    Assertions.assertEquals("Bad arg: argName=arg;type=String;expected=non-blank;actual=",
+            messageOf(() -> Ensure.nullableNotBlank("", "arg")));
+    Assertions.assertEquals("Bad arg: type=int;expected=>0;actual=0",
+            messageOf(() -> Ensure.isPositive(0)));
+    Assertions.assertEquals("Bad arg: argName=arg;type=long;expected=>=0;actual=-1",
+            messageOf(() -> Ensure.isNonNegative(-1L, "arg")));
+    Assertions.assertEquals("Bad arg: type=double;expected=>0;actual=0.5",
+            messageOf(() -> Ensure.isPositive(0.5d)));
+    Assertions.assertEquals("Bad arg: argName=arg;type=float;expected=>=0;actual=-1.5",
+            messageOf(() -> Ensure.isNonNegative(-1.5f, "arg")));
+    Assertions.assertEquals("Bad arg: type=short;expected=>0;actual=-3",
+            messageOf(() -> Ensure.isPositive((short) -3)));
+    Assertions.assertEquals("Bad arg: argName=arg;expected=non-null&non-empty;actual=false",
+            messageOf(() -> Ensure.notEmpty(List.of(), "arg")));
+    Assertions.assertEquals("Bad arg: expected=all-non-null;actual=false",
+            messageOf(() -> Ensure.deepNotEmpty(Arrays.asList(1, null))));
+    Assertions.assertEquals("Bad arg: elementOf=arg;expected=all-non-null;actual=false",
+            messageOf(() -> Ensure.deepNotEmpty(Arrays.asList(1, null), "arg")));
+    Assertions.assertEquals("Bad arg: argName=arg;type=int;expected='in [100;600)';actual=99",
+            messageOf(() -> Ensure.isHttpStatus(99, "arg")));
+  }
+
+  @Test
+  void message_invalidUrl_appendsParserMessage() {
+    String parserMessage;
+    try {
+      URI.create("'5$% t");
+      throw new AssertionError();
+    } catch (IllegalArgumentException x) {
+      parserMessage = x.getMessage();
+    }
+    Assertions.assertEquals("Bad arg: argName=arg;type=String;expected=non-null&non-blank&is-url;actual='5$% t: "
+            + parserMessage, messageOf(() -> Ensure.isValidUrl("'5$% t", "arg")));
+  }
+
+  @Test
+  void violation_exposesStructuredFields() {
+    ViolationException x = Assertions.assertThrows(ViolationException.class, () -> Ensure.isPositive(-7L, "count"));
+    Assertions.assertEquals("count", x.getArgName());
+    Assertions.assertEquals("long", x.getType());
+    Assertions.assertEquals(">0", x.getExpectation());
+    Assertions.assertEquals(-7L, x.getActual());
+
+    ViolationException y = Assertions.assertThrows(ViolationException.class, () -> Ensure.notNull(null));
+    Assertions.assertNull(y.getArgName());
+    Assertions.assertNull(y.getType());
+    Assertions.assertNull(y.getActual());
+  }
+
+  @Test
+  void message_renderedOnce() {
+    ViolationException x = Assertions.assertThrows(ViolationException.class, () -> Ensure.notBlank(""));
+    Assertions.assertSame(x.getMessage(), x.getMessage());
+    Assertions.assertTrue(x.toString().endsWith(x.getMessage()));
+  }
+
+  private static String messageOf(Executable check) {
+    return Assertions.assertThrows(ViolationException.class, check).getMessage();
+  }
+}
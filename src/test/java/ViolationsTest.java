@@ -0,0 +1,110 @@
+import io.github.artkonr.ensure.Ensure;
+import io.github.artkonr.ensure.ViolationException;
+import io.github.artkonr.ensure.Violations;
+import io.github.artkonr.ensure.ViolationsException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class ViolationsTest {
+
+  @Test
+  void noViolations_doesNotThrow() {
+    Violations v = new Violations()
+            .notNull(new Object(), "a")
+            .notBlank("b", "b")
+            .isPositive(1L, "c")
+            .deepNotEmpty(List.of(1), "d")
+            .isHttpStatus(200, "e")
+            .arePositive(1, 2, 3);
+    Assertions.assertFalse(v.hasViolations());
+    Assertions.assertEquals(0, v.count());
+    Assertions.assertDoesNotThrow(v::throwIfAny);
+  }
+
+  @Test
+  void violations_throwAggregatedException() {
+    Violations v = new Violations()
+            .notBlank(" ", "sku")
+            .isPositive(0, "quantity")
+            .isNonNegative(-1.5d, "price")
+            .notNull(new Object(), "ok");
+    Assertions.assertEquals(3, v.count());
+    ViolationsException x = Assertions.assertThrows(ViolationsException.class, v::throwIfAny);
+    Assertions.assertEquals(3, x.getViolations().size());
+    Assertions.assertEquals("sku", x.getViolations().get(0).getArgName());
+    Assertions.assertEquals(0, x.getViolations().get(1).getActual());
+    Assertions.assertEquals(-1.5d, x.getViolations().get(2).getActual());
+    Assertions.assertTrue(x.getMessage().startsWith("Bad args: 3 violation(s)"));
+    Assertions.assertFalse(v.hasViolations());
+  }
+
+  @Test
+  void violations_caughtAsIllegalArgumentException() {
+    Violations v = new Violations().notNull(null);
+    Assertions.assertThrows(Exceptions.BAD_ARG, v::throwIfAny);
+  }
+
+  @Test
+  void violationMessages_matchEnsureMessages() {
+    Violations v = new Violations(1)
+            .notNull(null, "a")
+            .nullableNotBlank(" ")
+            .isPositive((short) -1, "b")
+            .isNonNegative(-2f)
+            .isPositive(-3L)
+            .deepNotEmpty(Arrays.asList(1, null), "c")
+            .notEmpty(List.of())
+            .isValidUrl("'5$% t", "d");
+    ViolationsException x = Assertions.assertThrows(ViolationsException.class, v::throwIfAny);
+    List<ViolationException> violations = x.getViolations();
+    Assertions.assertEquals(8, violations.size());
+    Assertions.assertEquals(messageOf(() -> Ensure.notNull(null, "a")), violations.get(0).getMessage());
+    Assertions.assertEquals(messageOf(() -> Ensure.nullableNotBlank(" ")), violations.get(1).getMessage());
+    Assertions.assertEquals(messageOf(() -> Ensure.isPositive((short) -1, "b")), violations.get(2).getMessage());
+    Assertions.assertEquals(messageOf(() -> Ensure.isNonNegative(-2f)), violations.get(3).getMessage());
+    Assertions.assertEquals(messageOf(() -> Ensure.isPositive(-3L)), violations.get(4).getMessage());
+    Assertions.assertEquals(messageOf(() -> Ensure.deepNotEmpty(Arrays.asList(1, null), "c")), violations.get(5).getMessage());
+    Assertions.assertEquals(messageOf(() -> Ensure.notEmpty(List.of())), violations.get(6).getMessage());
+    Assertions.assertEquals(messageOf(() -> Ensure.isValidUrl("'5$% t", "d")), violations.get(7).getMessage());
+    Assertions.assertEquals(0, violations.get(0).getStackTrace().length);
+  }
+
+  @Test
+  void varargsChecks_recordEveryFailure() {
+    Violations v = new Violations()
+            .neitherNull(null, 1, null)
+            .areHttpStatuses(99, 200, 700)
+            .neitherBlank("a", "", " ");
+    Assertions.assertEquals(6, v.count());
+  }
+
+  @Test
+  void reset_forgetsViolations() {
+    Violations v = new Violations().notNull(null);
+    Assertions.assertTrue(v.hasViolations());
+    v.reset();
+    Assertions.assertFalse(v.hasViolations());
+    Assertions.assertDoesNotThrow(v::throwIfAny);
+  }
+
+  @Test
+  void local_isResetAndReusedPerThread() {
+    Violations first = Violations.local().notNull(null);
+    Violations second = Violations.local();
+    Assertions.assertSame(first, second);
+    Assertions.assertFalse(second.hasViolations());
+  }
+
+  @Test
+  void capacity_notPositive_throws() {
+    Assertions.assertThrows(Exceptions.BAD_ARG, () -> new Violations(0));
+  }
+
+  private static String messageOf(Executable check) {
+    return Assertions.assertThrows(Exceptions.BAD_ARG, check).getMessage();
+  }
+}